@@ -0,0 +1,242 @@
+package com.surveys.surveys.datagen;
+
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.enums.UserRole;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.model.User;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Usuarios y encuestas sintéticos con la forma de {@code SoftwareEngineer/Schema_BD}.
+ *
+ * <p>Se guardan con {@link MongoTemplate} para que queden exactamente como los
+ * guarda la aplicación. Cada usuario y cada encuesta usan un generador propio
+ * derivado de la semilla y de su índice, así que el resultado no depende del
+ * orden de generación.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Catalog {
+
+    /** Contraseña de todos los usuarios generados. */
+    static final String PASSWORD = "DataGen#2026";
+
+    private static final String[] FIRST_NAMES = {
+        "Juan", "María", "Carlos", "Ana", "Luis", "Laura", "Andrés", "Camila", "Jorge", "Valentina",
+        "Diego", "Paula", "Felipe", "Daniela", "Sergio", "Natalia", "Julián", "Carolina", "Mateo", "Sofía"};
+    private static final String[] LAST_NAMES = {
+        "Pérez", "Gómez", "Rodríguez", "López", "Martínez", "García", "Hernández", "Díaz", "Torres", "Ramírez",
+        "Vargas", "Moreno", "Rojas", "Castro", "Ortiz", "Jiménez", "Suárez", "Herrera", "Valencia", "Cárdenas"};
+    private static final String[] POSITIONS = {
+        "Analista de Ventas", "Desarrollador", "Coordinador de Operaciones", "Asistente Administrativo",
+        "Ingeniero de Soporte", "Analista Financiero", "Líder de Proyecto", "Especialista de Talento Humano",
+        "Diseñador", "Gerente de Área"};
+    private static final String[] SURVEY_NAMES = {
+        "Encuesta de Clima Laboral", "Evaluación de Capacitación", "Satisfacción con Beneficios",
+        "Evaluación de Liderazgo", "Bienestar y Salud Ocupacional", "Trabajo Remoto",
+        "Satisfacción con Herramientas", "Comunicación Interna"};
+    private static final String[] CHOICE_TEXTS = {
+        "¿Cómo calificarías tu ambiente laboral?", "¿Cómo evalúas la comunicación con tu líder?",
+        "¿Recomendarías la empresa a un amigo?", "¿Cómo calificas la capacitación recibida?",
+        "¿Te sientes reconocido por tu trabajo?"};
+    private static final String[] SCALE_TEXTS = {
+        "Del 1 al 10, ¿qué tan satisfecho estás con tu trabajo?", "¿Qué tan probable es que sigas en la empresa un año más?",
+        "Califica el equilibrio entre vida personal y laboral", "Califica las herramientas de trabajo disponibles"};
+    private static final String[] TEXT_TEXTS = {
+        "¿Qué mejorarías de tu área?", "Comentarios adicionales", "¿Qué es lo que más valoras de tu equipo?"};
+    private static final String[] FILE_TEXTS = {
+        "Adjunta la evidencia de la capacitación", "Adjunta tu plan de desarrollo"};
+
+    private static final List<List<String>> CHOICE_OPTIONS = List.of(
+        List.of("Excelente", "Bueno", "Regular", "Malo"),
+        List.of("Sí", "No"),
+        List.of("Totalmente de acuerdo", "De acuerdo", "Neutral", "En desacuerdo", "Totalmente en desacuerdo"));
+
+    /** Mezcla de tipos de pregunta, acumulada: opción múltiple, escala, texto, archivo. */
+    private static final double[] TYPE_WEIGHTS = Distributions.cumulative(new double[] {45, 35, 14, 6});
+    private static final String[] TYPES = {"multiple_choice", "scale", "text", "file"};
+
+    private final GeneratorOptions options;
+    private final MongoTemplate mongoTemplate;
+
+    Catalog(GeneratorOptions options, MongoTemplate mongoTemplate) {
+        this.options = options;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Guarda los usuarios; los primeros {@code datagen.admins} son administradores.
+     *
+     * @return los ids de los administradores
+     */
+    List<String> writeUsers() {
+        String password = new BCryptPasswordEncoder().encode(PASSWORD);
+        double[] departmentSizes = Distributions.zipf(options.departments, 0.8);
+        List<String> admins = new ArrayList<>();
+        List<User> batch = new ArrayList<>(options.batchSize);
+        for (int i = 0; i < options.users; i++) {
+            SplittableRandom random = new SplittableRandom(SeededIds.mix(options.seed ^ SeededIds.USER, i));
+            Instant joined = options.now.minus(Duration.ofDays(30L * options.months + random.nextInt(720)));
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+            User user = new User();
+            user.setId(SeededIds.of(joined, SeededIds.USER, 0, i).toHexString());
+            user.setUsername(ascii(first.charAt(0) + last).toLowerCase() + i);
+            user.setPassword(password);
+            user.setEmail(user.getUsername() + "@empresa.com");
+            user.setFirstName(first);
+            user.setLastName(last);
+            user.setEmployeeId(String.format("EMP%06d", i + 1));
+            user.setDepartmentId(String.format("dep%03d", Distributions.sample(departmentSizes, random) + 1));
+            user.setPosition(POSITIONS[random.nextInt(POSITIONS.length)]);
+            user.setRoles(Set.of(i < options.admins ? UserRole.ADMIN.getRole() : UserRole.EMPLOYEE.getRole()));
+            user.setActive(random.nextDouble() >= 0.03);
+
+            User.UserMetadata metadata = new User.UserMetadata();
+            metadata.setLastLogin(options.now.minusSeconds(random.nextLong(30L * 24 * 3600)));
+            int completed = random.nextInt(25);
+            metadata.setSurveysCompleted(completed);
+            if (completed > 0) {
+                metadata.setLastSurveyCompleted(options.now.minusSeconds(random.nextLong(90L * 24 * 3600)));
+            }
+            user.setMetadata(metadata);
+
+            if (i < options.admins) {
+                admins.add(user.getId());
+            }
+            batch.add(user);
+            if (batch.size() == options.batchSize) {
+                mongoTemplate.insert(batch, User.class);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insert(batch, User.class);
+        }
+        return admins;
+    }
+
+    /**
+     * Guarda las encuestas: alrededor de un 10% en {@code CREADA}, 60% en
+     * {@code PUBLICADA} y 30% en {@code CERRADA}.
+     *
+     * @return el modelo de respuestas de las encuestas que las reciben
+     */
+    List<SurveyPlan> writeSurveys(List<String> adminIds) {
+        long historySeconds = Duration.ofDays(30L * options.months).toSeconds();
+        List<SurveyPlan> plans = new ArrayList<>();
+        List<Survey> batch = new ArrayList<>(options.batchSize);
+        for (int i = 0; i < options.surveys; i++) {
+            SplittableRandom random = new SplittableRandom(SeededIds.mix(options.seed ^ SeededIds.SURVEY, i));
+            Instant createdAt = options.now.minusSeconds(3600 + random.nextLong(historySeconds));
+            String id = SeededIds.of(createdAt, SeededIds.SURVEY, 0, i).toHexString();
+            Instant open = min(createdAt.plus(Duration.ofHours(1 + random.nextInt(72))), options.now);
+
+            double pick = random.nextDouble();
+            SurveyStatus status = pick < 0.1 ? SurveyStatus.CREADA
+                : pick < 0.7 ? SurveyStatus.PUBLICADA : SurveyStatus.CERRADA;
+            Instant close = status == SurveyStatus.CERRADA
+                ? min(open.plus(Duration.ofDays(5 + random.nextInt(40))), options.now)
+                : options.now;
+
+            List<Question> questions = new ArrayList<>();
+            List<SurveyPlan.QuestionPlan> questionPlans = new ArrayList<>();
+            int count = 5 + random.nextInt(11);
+            for (int q = 0; q < count; q++) {
+                questions.add(question(i, q, random, questionPlans));
+            }
+
+            Survey survey = new Survey();
+            survey.setId(id);
+            survey.setName(SURVEY_NAMES[i % SURVEY_NAMES.length] + " " + (i / SURVEY_NAMES.length + 1));
+            survey.setDescription("Encuesta generada con la semilla " + options.seed);
+            survey.setStatus(status);
+            survey.setAdminId(adminIds.get(random.nextInt(adminIds.size())));
+            survey.setQuestions(questions);
+            survey.setRootVersionId(id);
+            if (status == SurveyStatus.PUBLICADA && random.nextDouble() < 0.3) {
+                survey.setScheduledClose(options.now.plus(Duration.ofDays(1 + random.nextInt(30))));
+            }
+            if (status == SurveyStatus.CERRADA) {
+                survey.setClosedAt(close);
+            }
+            // Los setters marcan modifiedAt con la hora actual; se fija al final.
+            survey.setCreatedAt(createdAt);
+            survey.setModifiedAt(status == SurveyStatus.CREADA ? createdAt : open);
+
+            if (status != SurveyStatus.CREADA && close.isAfter(open)) {
+                plans.add(new SurveyPlan(id, i, open, close, questionPlans));
+            }
+            batch.add(survey);
+            if (batch.size() == options.batchSize) {
+                mongoTemplate.insert(batch, Survey.class);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.insert(batch, Survey.class);
+        }
+        return plans;
+    }
+
+    private static Question question(int survey, int order, SplittableRandom random,
+                                     List<SurveyPlan.QuestionPlan> plans) {
+        String type = TYPES[Distributions.sample(TYPE_WEIGHTS, random)];
+        boolean required = random.nextDouble() < 0.7;
+        String id = UUID.nameUUIDFromBytes(("survey-" + survey + "-question-" + order)
+            .getBytes(StandardCharsets.UTF_8)).toString();
+
+        Question question = new Question();
+        question.setId(id);
+        question.setType(type);
+        question.setRequired(required);
+        question.setOrder(order + 1);
+        switch (type) {
+            case "multiple_choice" -> {
+                List<String> options = CHOICE_OPTIONS.get(random.nextInt(CHOICE_OPTIONS.size()));
+                question.setText(CHOICE_TEXTS[random.nextInt(CHOICE_TEXTS.length)]);
+                question.setOptions(options);
+                plans.add(SurveyPlan.QuestionPlan.choice(id, required, options, random));
+            }
+            case "scale" -> {
+                int max = random.nextBoolean() ? 10 : 5;
+                question.setText(SCALE_TEXTS[random.nextInt(SCALE_TEXTS.length)]);
+                question.setOptions(Map.of("min", 1, "max", max));
+                plans.add(SurveyPlan.QuestionPlan.scale(id, required, 1, max, random));
+            }
+            case "file" -> {
+                question.setText(FILE_TEXTS[random.nextInt(FILE_TEXTS.length)]);
+                plans.add(SurveyPlan.QuestionPlan.other(id, type, required));
+            }
+            default -> {
+                question.setText(TEXT_TEXTS[random.nextInt(TEXT_TEXTS.length)]);
+                plans.add(SurveyPlan.QuestionPlan.other(id, type, required));
+            }
+        }
+        return question;
+    }
+
+    private static String ascii(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
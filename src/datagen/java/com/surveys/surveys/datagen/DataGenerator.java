@@ -0,0 +1,228 @@
+package com.surveys.surveys.datagen;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.InsertManyOptions;
+import com.surveys.surveys.indexing.DiagnosticsMode;
+import com.surveys.surveys.indexing.IndexManager;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.model.User;
+import com.surveys.surveys.partitioning.ResponsePartitions;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Genera un conjunto de datos sintético y reproducible en un MongoDB local:
+ * usuarios con departamentos, encuestas con la mezcla de preguntas de
+ * {@code SoftwareEngineer/Schema_BD} y decenas de millones de respuestas.
+ *
+ * <p>Se ejecuta con {@code mvn -P datagen verify}. Propiedades de sistema:
+ * <ul>
+ *   <li>{@code datagen.uri}: base de datos destino, que debe estar vacía
+ *       salvo que se pase {@code datagen.drop=true}</li>
+ *   <li>{@code datagen.seed} y {@code datagen.now}, el instante de referencia;
+ *       con los mismos valores se generan exactamente los mismos documentos</li>
+ *   <li>{@code datagen.surveys}, {@code datagen.users}, {@code datagen.admins},
+ *       {@code datagen.departments}, {@code datagen.responses} y
+ *       {@code datagen.months} de historia</li>
+ *   <li>{@code datagen.threads}, {@code datagen.batch-size} y {@code datagen.chunk-size}</li>
+ *   <li>{@code datagen.partitioned}: escribe las respuestas en las particiones
+ *       mensuales de {@link ResponsePartitions} en lugar de {@code responses}</li>
+ * </ul>
+ *
+ * <p>Las respuestas se reparten en bloques de {@code datagen.chunk-size}; cada
+ * bloque tiene su propio generador derivado de la semilla y de su número, y
+ * los hilos toman bloques de un contador compartido, así que el contenido no
+ * depende del número de hilos. Se insertan como {@link Document} con
+ * {@code insertMany} sin orden, sin pasar por el mapeo de Spring, y los
+ * índices se crean al final.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class DataGenerator {
+
+    private static final String RESPONSE_CLASS = Response.class.getName();
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final GeneratorOptions options;
+    private final MongoDatabase database;
+    private final String responseCollection;
+    private final AtomicLong nextChunk = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Set<String> collections = ConcurrentHashMap.newKeySet();
+
+    private DataGenerator(GeneratorOptions options, MongoDatabase database, String responseCollection) {
+        this.options = options;
+        this.database = database;
+        this.responseCollection = responseCollection;
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneratorOptions options = GeneratorOptions.fromSystemProperties();
+        String databaseName = new ConnectionString(options.uri).getDatabase();
+        if (databaseName == null) {
+            throw new IllegalArgumentException("datagen.uri debe incluir la base de datos");
+        }
+        try (MongoClient client = MongoClients.create(options.uri)) {
+            MongoTemplate mongoTemplate = new MongoTemplate(client, databaseName);
+            prepare(mongoTemplate, options.drop);
+            System.out.printf("Generando en %s: %s%n", databaseName, options);
+
+            long started = System.nanoTime();
+            Catalog catalog = new Catalog(options, mongoTemplate);
+            List<SurveyPlan> plans = catalog.writeSurveys(catalog.writeUsers());
+            System.out.printf("%d usuarios y %d encuestas (%d con respuestas) en %s%n", options.users,
+                options.surveys, plans.size(), elapsed(started));
+
+            DataGenerator generator = new DataGenerator(options, client.getDatabase(databaseName),
+                mongoTemplate.getCollectionName(Response.class));
+            generator.writeResponses(plans);
+            System.out.printf("%d respuestas en %s%n", generator.written.get(), elapsed(started));
+
+            long indexing = System.nanoTime();
+            IndexManager indexManager = new IndexManager(mongoTemplate, true, DiagnosticsMode.OFF);
+            indexManager.provision(false);
+            for (String collection : generator.collections) {
+                if (!collection.equals(generator.responseCollection)) {
+                    indexManager.ensureResponseIndexes(collection);
+                }
+            }
+            System.out.printf("Índices creados en %s%n", elapsed(indexing));
+            System.out.printf("Colecciones de respuestas: %s%n", new TreeSet<>(generator.collections));
+        }
+    }
+
+    /**
+     * Se niega a escribir sobre datos existentes: los ids son deterministas y
+     * chocarían con los de una ejecución anterior.
+     */
+    private static void prepare(MongoTemplate mongoTemplate, boolean drop) {
+        List<String> existing = new ArrayList<>();
+        for (String name : mongoTemplate.getCollectionNames()) {
+            if (name.equals(mongoTemplate.getCollectionName(Survey.class))
+                    || name.equals(mongoTemplate.getCollectionName(User.class))
+                    || name.equals(mongoTemplate.getCollectionName(Response.class))
+                    || name.startsWith("responses_")) {
+                existing.add(name);
+            }
+        }
+        if (existing.isEmpty()) {
+            return;
+        }
+        if (!drop) {
+            throw new IllegalStateException("La base de datos ya tiene " + existing
+                + "; use -Ddatagen.drop=true para reemplazarlas");
+        }
+        existing.forEach(mongoTemplate::dropCollection);
+        System.out.printf("Colecciones eliminadas: %s%n", existing);
+    }
+
+    private void writeResponses(List<SurveyPlan> plans) throws Exception {
+        if (plans.isEmpty() || options.responses == 0) {
+            return;
+        }
+        double[] popularity = Distributions.zipf(plans.size(), 1.1);
+        long chunks = (options.responses + options.chunkSize - 1) / options.chunkSize;
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.threads);
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "datagen-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long started = System.nanoTime();
+        progress.scheduleAtFixedRate(() -> report(started), 5, 5, TimeUnit.SECONDS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < options.threads; i++) {
+                futures.add(workers.submit(() -> {
+                    long chunk;
+                    while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                        writeChunk(chunk, plans, popularity);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            progress.shutdownNow();
+            workers.shutdownNow();
+        }
+    }
+
+    private void writeChunk(long chunk, List<SurveyPlan> plans, double[] popularity) {
+        SplittableRandom random = new SplittableRandom(SeededIds.mix(options.seed ^ SeededIds.RESPONSE, chunk));
+        long first = chunk * options.chunkSize;
+        int count = (int) Math.min(options.chunkSize, options.responses - first);
+        Map<String, List<Document>> batches = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            SurveyPlan survey = plans.get(Distributions.sample(popularity, random));
+            Instant submittedAt = survey.submittedAt(random);
+            Document response = new Document("_id", SeededIds.of(submittedAt, SeededIds.RESPONSE, (int) chunk, i))
+                .append("surveyId", survey.getSurveyId())
+                .append("submittedAt", Date.from(submittedAt))
+                .append("answers", survey.answers(random))
+                .append("_class", RESPONSE_CLASS);
+
+            String collection = options.partitioned
+                ? ResponsePartitions.collectionName(ResponsePartitions.monthOf(submittedAt))
+                : responseCollection;
+            List<Document> batch = batches.computeIfAbsent(collection, c -> new ArrayList<>(options.batchSize));
+            batch.add(response);
+            if (batch.size() == options.batchSize) {
+                insert(collection, batch);
+            }
+        }
+        batches.forEach((collection, batch) -> {
+            if (!batch.isEmpty()) {
+                insert(collection, batch);
+            }
+        });
+    }
+
+    private void insert(String collection, List<Document> batch) {
+        MongoCollection<Document> target = database.getCollection(collection);
+        target.insertMany(batch, UNORDERED);
+        collections.add(collection);
+        written.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    private void report(long started) {
+        long count = written.get();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        System.out.printf("  %,d / %,d respuestas (%.1f%%), %,.0f docs/s%n", count, options.responses,
+            100.0 * count / options.responses, count / Math.max(seconds, 1e-9));
+    }
+
+    private static String elapsed(long startedNanos) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedNanos);
+        return String.format("%d.%03ds", elapsed.toSeconds(), elapsed.toMillisPart());
+    }
+}
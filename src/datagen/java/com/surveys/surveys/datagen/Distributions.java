@@ -0,0 +1,84 @@
+package com.surveys.surveys.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Muestreadores discretos usados por el generador.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Distributions {
+
+    private Distributions() {
+    }
+
+    /**
+     * Pesos de Zipf {@code 1 / rank^exponent} para {@code n} elementos, ya acumulados.
+     */
+    static double[] zipf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, exponent);
+        }
+        return cumulative(weights);
+    }
+
+    /**
+     * Pesos sesgados al azar: unos pocos valores concentran la mayoría, en un
+     * orden aleatorio. Ya acumulados.
+     */
+    static double[] skewed(int n, SplittableRandom random) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = Math.pow(random.nextDouble(), 3) + 0.01;
+        }
+        return cumulative(weights);
+    }
+
+    /**
+     * Normaliza pesos a una distribución acumulada que termina en 1.
+     */
+    static double[] cumulative(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum / total;
+        }
+        cumulative[weights.length - 1] = 1.0;
+        return cumulative;
+    }
+
+    /**
+     * Elige un índice según una distribución acumulada.
+     */
+    static int sample(double[] cumulative, SplittableRandom random) {
+        double pick = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < pick) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Normal estándar por Box-Muller; {@link SplittableRandom} no la trae.
+     */
+    static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+}
@@ -0,0 +1,73 @@
+package com.surveys.surveys.datagen;
+
+import java.time.Instant;
+
+/**
+ * Opciones de {@link DataGenerator}, leídas de propiedades de sistema
+ * {@code datagen.*}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class GeneratorOptions {
+
+    final String uri;
+    final long seed;
+    final int surveys;
+    final int users;
+    final int admins;
+    final int departments;
+    final long responses;
+    final int threads;
+    final int batchSize;
+    final int chunkSize;
+    final int months;
+    final Instant now;
+    final boolean drop;
+    final boolean partitioned;
+
+    private GeneratorOptions() {
+        this.uri = System.getProperty("datagen.uri", "mongodb://localhost:27017/surveys_bench");
+        this.seed = Long.getLong("datagen.seed", 42L);
+        this.surveys = Integer.getInteger("datagen.surveys", 2_000);
+        this.users = Integer.getInteger("datagen.users", 50_000);
+        this.admins = Integer.getInteger("datagen.admins", 25);
+        this.departments = Integer.getInteger("datagen.departments", 40);
+        this.responses = Long.getLong("datagen.responses", 10_000_000L);
+        this.threads = Integer.getInteger("datagen.threads", Runtime.getRuntime().availableProcessors());
+        this.batchSize = Integer.getInteger("datagen.batch-size", 1_000);
+        this.chunkSize = Integer.getInteger("datagen.chunk-size", 10_000);
+        this.months = Integer.getInteger("datagen.months", 12);
+        this.now = Instant.parse(System.getProperty("datagen.now", "2026-01-01T00:00:00Z"));
+        this.drop = Boolean.getBoolean("datagen.drop");
+        this.partitioned = Boolean.getBoolean("datagen.partitioned");
+    }
+
+    static GeneratorOptions fromSystemProperties() {
+        GeneratorOptions options = new GeneratorOptions();
+        require(options.surveys > 0, "datagen.surveys debe ser mayor que 0");
+        require(options.admins > 0 && options.admins <= options.users,
+            "datagen.admins debe estar entre 1 y datagen.users");
+        require(options.departments > 0, "datagen.departments debe ser mayor que 0");
+        require(options.responses >= 0, "datagen.responses no puede ser negativo");
+        require(options.threads > 0 && options.batchSize > 0, "datagen.threads y datagen.batch-size deben ser mayores que 0");
+        // El índice dentro del bloque ocupa 3 bytes del ObjectId.
+        require(options.chunkSize > 0 && options.chunkSize < (1 << 24), "datagen.chunk-size debe estar entre 1 y 16777215");
+        require(options.months > 0, "datagen.months debe ser mayor que 0");
+        return options;
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "semilla " + seed + ", " + surveys + " encuestas, " + users + " usuarios, "
+            + responses + " respuestas, " + threads + " hilos, lotes de " + batchSize
+            + (partitioned ? ", colecciones mensuales" : "");
+    }
+}
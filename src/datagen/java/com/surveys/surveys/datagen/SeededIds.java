@@ -0,0 +1,55 @@
+package com.surveys.surveys.datagen;
+
+import org.bson.types.ObjectId;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * {@link ObjectId} deterministas: la misma semilla produce los mismos ids en
+ * cada ejecución, sin importar cuántos hilos escriban.
+ *
+ * <p>Los 4 primeros bytes son la marca de tiempo del documento, como en un id
+ * generado por el driver, así que el orden por {@code _id} sigue aproximando
+ * el orden de creación. El resto codifica el tipo de documento y su posición.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SeededIds {
+
+    static final byte SURVEY = 1;
+    static final byte USER = 2;
+    static final byte RESPONSE = 3;
+
+    private SeededIds() {
+    }
+
+    /**
+     * @param kind  tipo de documento
+     * @param high  bloque (respuestas) o 0
+     * @param low   posición dentro del bloque; se usan 3 bytes
+     */
+    static ObjectId of(Instant timestamp, byte kind, int high, int low) {
+        ByteBuffer bytes = ByteBuffer.allocate(12);
+        bytes.putInt((int) timestamp.getEpochSecond());
+        bytes.put(kind);
+        bytes.putInt(high);
+        bytes.put((byte) (low >>> 16));
+        bytes.put((byte) (low >>> 8));
+        bytes.put((byte) low);
+        return new ObjectId(bytes.array());
+    }
+
+    /**
+     * Mezcla la semilla con un índice para obtener semillas independientes
+     * por bloque (finalizador de SplitMix64).
+     */
+    static long mix(long seed, long index) {
+        long z = seed + 0x9E3779B97F4A7C15L * (index + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,158 @@
+package com.surveys.surveys.datagen;
+
+import org.bson.Document;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Modelo con el que se generan las respuestas de una encuesta: su ventana
+ * de recepción y, por pregunta, la distribución de sus respuestas.
+ *
+ * <p>Los envíos se concentran en los primeros días de la ventana (caída
+ * exponencial), en horario laboral de la zona UTC-5 y poco en fines de
+ * semana. Las preguntas de opción múltiple tienen pesos sesgados propios y
+ * las de escala una media propia, así que cada encuesta tiene un perfil de
+ * resultados distinto.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SurveyPlan {
+
+    static final ZoneOffset OFFICE_ZONE = ZoneOffset.ofHours(-5);
+
+    /** Peso relativo de cada hora del día en {@link #OFFICE_ZONE}. */
+    private static final double[] HOURS = Distributions.cumulative(new double[] {
+        0.2, 0.1, 0.1, 0.1, 0.2, 0.5, 1.5, 4, 8, 10, 9, 7,
+        4, 6, 8, 8, 6, 4, 2.5, 2, 1.5, 1, 0.6, 0.3});
+    private static final double WEEKEND_ACCEPTANCE = 0.2;
+    private static final double SKIP_OPTIONAL = 0.2;
+
+    private static final String[] COMMENTS = {
+        "Todo bien", "Me gustaría más capacitación", "Mejorar la comunicación entre áreas",
+        "Excelente ambiente de trabajo", "Faltan herramientas", "Sin comentarios",
+        "La carga de trabajo es alta", "Buen liderazgo del equipo", "Más flexibilidad de horario",
+        "Los procesos son lentos"};
+
+    private final String surveyId;
+    private final int index;
+    private final long openSecond;
+    private final long windowSeconds;
+    private final double decaySeconds;
+    private final List<QuestionPlan> questions;
+
+    SurveyPlan(String surveyId, int index, Instant open, Instant close, List<QuestionPlan> questions) {
+        this.surveyId = surveyId;
+        this.index = index;
+        this.openSecond = open.getEpochSecond();
+        this.windowSeconds = Math.max(1, close.getEpochSecond() - openSecond);
+        this.decaySeconds = windowSeconds / 4.0;
+        this.questions = questions;
+    }
+
+    String getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * Instante de envío dentro de la ventana de la encuesta.
+     */
+    Instant submittedAt(SplittableRandom random) {
+        for (int attempt = 0; attempt < 32; attempt++) {
+            long offset = (long) (-Math.log(1.0 - random.nextDouble()) * decaySeconds);
+            if (offset >= windowSeconds) {
+                continue;
+            }
+            ZonedDateTime day = Instant.ofEpochSecond(openSecond + offset).atZone(OFFICE_ZONE);
+            DayOfWeek weekday = day.getDayOfWeek();
+            if ((weekday == DayOfWeek.SATURDAY || weekday == DayOfWeek.SUNDAY)
+                    && random.nextDouble() >= WEEKEND_ACCEPTANCE) {
+                continue;
+            }
+            Instant candidate = day.toLocalDate()
+                .atTime(Distributions.sample(HOURS, random), random.nextInt(60), random.nextInt(60))
+                .toInstant(OFFICE_ZONE);
+            long second = candidate.getEpochSecond();
+            if (second >= openSecond && second < openSecond + windowSeconds) {
+                return candidate;
+            }
+        }
+        // Ventanas muy cortas: cualquier instante dentro de ellas.
+        return Instant.ofEpochSecond(openSecond + random.nextLong(windowSeconds));
+    }
+
+    /**
+     * Respuestas de un envío; las preguntas opcionales a veces se omiten. Los
+     * valores van en la forma con la que la aplicación guarda cada tipo (ver
+     * {@code AnswerSchema#toStored}).
+     */
+    List<Document> answers(SplittableRandom random) {
+        List<Document> answers = new ArrayList<>(questions.size());
+        for (QuestionPlan question : questions) {
+            if (!question.required && random.nextDouble() < SKIP_OPTIONAL) {
+                continue;
+            }
+            answers.add(new Document("questionId", question.id).append("answer", question.answer(this, random)));
+        }
+        return answers;
+    }
+
+    /**
+     * Distribución de respuestas de una pregunta.
+     */
+    static final class QuestionPlan {
+
+        private final String id;
+        private final String type;
+        private final boolean required;
+        private final List<String> options;
+        private final double[] optionWeights;
+        private final int min;
+        private final int max;
+        private final double mean;
+
+        private QuestionPlan(String id, String type, boolean required, List<String> options,
+                             double[] optionWeights, int min, int max, double mean) {
+            this.id = id;
+            this.type = type;
+            this.required = required;
+            this.options = options;
+            this.optionWeights = optionWeights;
+            this.min = min;
+            this.max = max;
+            this.mean = mean;
+        }
+
+        static QuestionPlan choice(String id, boolean required, List<String> options, SplittableRandom random) {
+            return new QuestionPlan(id, "multiple_choice", required, options,
+                Distributions.skewed(options.size(), random), 0, 0, 0);
+        }
+
+        static QuestionPlan scale(String id, boolean required, int min, int max, SplittableRandom random) {
+            // Medias cargadas hacia el extremo alto, como suelen salir las encuestas de clima.
+            double mean = min + (max - min) * (0.45 + 0.4 * random.nextDouble());
+            return new QuestionPlan(id, "scale", required, null, null, min, max, mean);
+        }
+
+        static QuestionPlan other(String id, String type, boolean required) {
+            return new QuestionPlan(id, type, required, null, null, 0, 0, 0);
+        }
+
+        private Object answer(SurveyPlan survey, SplittableRandom random) {
+            return switch (type) {
+                case "multiple_choice" -> options.get(Distributions.sample(optionWeights, random));
+                case "scale" -> (int) Math.max(min, Math.min(max,
+                    Math.round(mean + Distributions.gaussian(random) * (max - min) / 5.0)));
+                case "file" -> "s3://surveys/evidencias/" + survey.index + "/" + random.nextInt(1_000_000) + ".pdf";
+                default -> COMMENTS[random.nextInt(COMMENTS.length)];
+            };
+        }
+    }
+}
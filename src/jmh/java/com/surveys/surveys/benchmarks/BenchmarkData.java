@@ -0,0 +1,107 @@
+package com.surveys.surveys.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.surveys.surveys.answers.AnswerValue;
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.model.Branding;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.model.User;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Datos de prueba compartidos por los benchmarks.
+ *
+ * <p>Las encuestas rotan entre los tipos de pregunta de la aplicación y las
+ * respuestas usan los valores que recibe {@code Answer.answer}: texto,
+ * números, listas de opciones y mapas para las matrices.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class BenchmarkData {
+
+    static final String JWT_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    static final long JWT_EXPIRATION = 864000000L;
+
+    private static final String[] TYPES = {"text", "single_choice", "multiple_choice", "rating", "matrix"};
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Crea un {@link ObjectMapper} con la configuración que aplica Spring Boot.
+     */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId("65f0c0ffee0000000000abcd");
+        user.setUsername("admin.bench");
+        user.setEmail("admin.bench@example.com");
+        user.setRoles(Set.of("ADMIN", "USER"));
+        return user;
+    }
+
+    static Survey survey(int questionCount) {
+        Survey survey = new Survey();
+        survey.setId("65f0c0ffee0000000000a001");
+        survey.setName("Clima laboral");
+        survey.setDescription("Encuesta trimestral de clima laboral");
+        survey.setVersion(1);
+        survey.setStatus(SurveyStatus.PUBLICADA);
+        survey.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+        survey.setModifiedAt(Instant.parse("2026-01-02T00:00:00Z"));
+        survey.setAdminId("65f0c0ffee0000000000abcd");
+        Branding branding = new Branding();
+        branding.setPrimaryColor("#0044AA");
+        survey.setBranding(branding);
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < questionCount; i++) {
+            String type = TYPES[i % TYPES.length];
+            Question question = new Question("Pregunta " + i, type, i % 2 == 0);
+            question.setId("q" + i);
+            question.setOrder(i);
+            if (!"text".equals(type) && !"rating".equals(type)) {
+                question.setOptions(List.of("Muy de acuerdo", "De acuerdo", "Neutral", "En desacuerdo"));
+            }
+            questions.add(question);
+        }
+        survey.setQuestions(questions);
+        return survey;
+    }
+
+    static Response response(int answerCount) {
+        Response response = new Response();
+        response.setSurveyId("65f0c0ffee0000000000a001");
+        response.setSubmittedAt(Instant.parse("2026-01-03T00:00:00Z"));
+        List<Response.Answer> answers = new ArrayList<>();
+        for (int i = 0; i < answerCount; i++) {
+            Response.Answer answer = new Response.Answer();
+            answer.setQuestionId("q" + i);
+            answer.setAnswer(AnswerValue.untyped(switch (TYPES[i % TYPES.length]) {
+                case "text" -> "Comentario libre de la pregunta " + i;
+                case "single_choice" -> "De acuerdo";
+                case "multiple_choice" -> List.of("Muy de acuerdo", "Neutral");
+                case "rating" -> i % 5 + 1;
+                default -> Map.of("fila1", "De acuerdo", "fila2", "Neutral");
+            }));
+            answers.add(answer);
+        }
+        response.setAnswers(answers);
+        return response;
+    }
+}
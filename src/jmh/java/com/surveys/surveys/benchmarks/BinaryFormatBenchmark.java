@@ -0,0 +1,91 @@
+package com.surveys.surveys.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de {@link Survey} y {@link Response} en JSON, CBOR y Smile,
+ * los formatos que negocia la API. Los {@code ObjectMapper} tienen la misma
+ * configuración que {@link BenchmarkData#objectMapper()} y sólo cambia la
+ * fábrica, como en {@code WebConfig}.
+ *
+ * <p>El tamaño de cada carga se imprime al preparar el estado, ya que JMH
+ * sólo reporta tiempos.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private Survey survey;
+    private Response response;
+    private byte[] surveyBytes;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        survey = BenchmarkData.survey(size);
+        response = BenchmarkData.response(size);
+        surveyBytes = objectMapper.writeValueAsBytes(survey);
+        responseBytes = objectMapper.writeValueAsBytes(response);
+        System.out.printf("%n%s size=%d: survey=%d bytes, response=%d bytes%n",
+            format, size, surveyBytes.length, responseBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeSurvey() throws IOException {
+        return objectMapper.writeValueAsBytes(survey);
+    }
+
+    @Benchmark
+    public Survey readSurvey() throws IOException {
+        return objectMapper.readValue(surveyBytes, Survey.class);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Response readResponse() throws IOException {
+        return objectMapper.readValue(responseBytes, Response.class);
+    }
+}
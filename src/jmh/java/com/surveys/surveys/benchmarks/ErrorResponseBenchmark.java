@@ -0,0 +1,53 @@
+package com.surveys.surveys.benchmarks;
+
+import com.surveys.surveys.exception.ErrorCodes;
+import com.surveys.surveys.exception.ErrorResponse;
+import com.surveys.surveys.exception.MessageResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolución de mensajes y construcción de {@link ErrorResponse}, como en
+ * cada respuesta de error de {@code GlobalExceptionHandler}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+
+    private MessageResolver messageResolver;
+
+    @Setup
+    public void setUp() {
+        messageResolver = new MessageResolver();
+    }
+
+    @Benchmark
+    public MessageResolver.UserMessage resolveMessage() {
+        return messageResolver.getMessage(ErrorCodes.SURVEY_NOT_FOUND);
+    }
+
+    @Benchmark
+    public ErrorResponse buildErrorResponse() {
+        MessageResolver.UserMessage message = messageResolver.getMessage(ErrorCodes.SURVEY_NOT_FOUND);
+        return new ErrorResponse(
+            ErrorCodes.SURVEY_NOT_FOUND,
+            "Encuesta no encontrada",
+            message.getUserMessage(),
+            message.getDeveloperMessage(),
+            HttpStatus.NOT_FOUND.value(),
+            "/api/surveys/65f0c0ffee0000000000a001");
+    }
+}
@@ -0,0 +1,70 @@
+package com.surveys.surveys.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización JSON de {@link Survey} y {@link Response} con la
+ * configuración de Jackson de la aplicación. Las respuestas mezclan los
+ * tipos que admite {@code Answer.answer}, que al leerse se resuelven como
+ * {@code String}, {@code Integer}, {@code List} o {@code Map}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private Survey survey;
+    private Response response;
+    private byte[] surveyJson;
+    private byte[] responseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkData.objectMapper();
+        survey = BenchmarkData.survey(size);
+        response = BenchmarkData.response(size);
+        surveyJson = objectMapper.writeValueAsBytes(survey);
+        responseJson = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeSurvey() throws IOException {
+        return objectMapper.writeValueAsBytes(survey);
+    }
+
+    @Benchmark
+    public Survey readSurvey() throws IOException {
+        return objectMapper.readValue(surveyJson, Survey.class);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Response readResponse() throws IOException {
+        return objectMapper.readValue(responseJson, Response.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.surveys.surveys.benchmarks;
+
+import com.surveys.surveys.controller.ResponseController;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.services.ResponseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ResponseController#submitResponse(Response)} sin base de datos: la
+ * validación de cada respuesta y la construcción del cuerpo de la respuesta
+ * HTTP. El servicio sólo asigna un id a lo que recibe.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SubmissionBenchmark {
+
+    @Param({"10", "100"})
+    public int answers;
+
+    private ResponseController controller;
+    private Response valid;
+    private Response invalid;
+
+    @Setup
+    public void setUp() {
+        controller = new ResponseController();
+        ReflectionTestUtils.setField(controller, "responseService", savingService());
+        valid = BenchmarkData.response(answers);
+        invalid = BenchmarkData.response(answers);
+        invalid.getAnswers().get(answers - 1).setAnswer(null);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> submitValid() {
+        return controller.submitResponse(valid);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> submitInvalidLast() {
+        return controller.submitResponse(invalid);
+    }
+
+    private static ResponseService savingService() {
+        return (ResponseService) Proxy.newProxyInstance(
+            ResponseService.class.getClassLoader(),
+            new Class<?>[] {ResponseService.class},
+            (proxy, method, args) -> {
+                if (!"saveResponse".equals(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                Response response = (Response) args[0];
+                response.setId("65f0c0ffee0000000000b001");
+                return response;
+            });
+    }
+}
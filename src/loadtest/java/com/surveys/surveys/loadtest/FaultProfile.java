@@ -0,0 +1,84 @@
+package com.surveys.surveys.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latencia y fallos que se inyectan en los comandos de datos de MongoDB
+ * durante una prueba de carga.
+ *
+ * <p>Perfiles predefinidos ({@code loadtest.profile}):
+ * <ul>
+ *   <li>{@code none}: sin latencia ni fallos, mide sólo la aplicación</li>
+ *   <li>{@code atlas}: 2-5 ms por comando, como un clúster en la misma región</li>
+ *   <li>{@code degraded}: 25-75 ms y 1% de fallos</li>
+ *   <li>{@code flaky}: 2-5 ms y 5% de fallos</li>
+ * </ul>
+ * {@code loadtest.latency-ms}, {@code loadtest.jitter-ms} y
+ * {@code loadtest.failure-rate} sobrescriben los valores del perfil.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class FaultProfile {
+
+    private final String name;
+    private final double latencyMillis;
+    private final double jitterMillis;
+    private final double failureRate;
+
+    FaultProfile(String name, double latencyMillis, double jitterMillis, double failureRate) {
+        this.name = name;
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+    }
+
+    static FaultProfile named(String name) {
+        return switch (name) {
+            case "none" -> new FaultProfile(name, 0, 0, 0);
+            case "atlas" -> new FaultProfile(name, 2, 3, 0);
+            case "degraded" -> new FaultProfile(name, 25, 50, 0.01);
+            case "flaky" -> new FaultProfile(name, 2, 3, 0.05);
+            default -> throw new IllegalArgumentException("Perfil de fallos desconocido: " + name);
+        };
+    }
+
+    static FaultProfile fromSystemProperties() {
+        FaultProfile base = named(System.getProperty("loadtest.profile", "atlas"));
+        return new FaultProfile(
+            base.name,
+            Double.parseDouble(System.getProperty("loadtest.latency-ms", String.valueOf(base.latencyMillis))),
+            Double.parseDouble(System.getProperty("loadtest.jitter-ms", String.valueOf(base.jitterMillis))),
+            Double.parseDouble(System.getProperty("loadtest.failure-rate", String.valueOf(base.failureRate))));
+    }
+
+    String getName() {
+        return name;
+    }
+
+    double getFailureRate() {
+        return failureRate;
+    }
+
+    boolean hasLatency() {
+        return latencyMillis > 0 || jitterMillis > 0;
+    }
+
+    /**
+     * Latencia del siguiente comando: la base más un valor uniforme entre 0 y el jitter.
+     */
+    long nextLatencyNanos() {
+        double millis = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextDouble(jitterMillis) : 0);
+        return (long) (millis * 1_000_000);
+    }
+
+    boolean nextFailure() {
+        return failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (latencia " + latencyMillis + "+" + jitterMillis + " ms, fallos " + failureRate * 100 + "%)";
+    }
+}
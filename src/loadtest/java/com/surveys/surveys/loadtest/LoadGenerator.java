@@ -0,0 +1,88 @@
+package com.surveys.surveys.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Usuarios virtuales en lazo cerrado: cada uno envía una petición, espera
+ * la respuesta y la pausa del escenario, y vuelve a empezar.
+ *
+ * <p>Las peticiones del calentamiento no se registran. Cada usuario usa su
+ * propio {@link Random} derivado de la semilla, así que dos corridas con la
+ * misma semilla piden la misma secuencia de operaciones.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LoadGenerator {
+
+    private final SurveyClient client;
+    private final Workload workload;
+
+    LoadGenerator(SurveyClient client, Workload workload) {
+        this.client = client;
+        this.workload = workload;
+    }
+
+    /**
+     * Ejecuta el escenario y devuelve el reporte de la fase medida.
+     *
+     * @return reporte de la fase medida
+     */
+    LoadReport run(Scenario scenario, int users, Duration warmup, Duration duration, long seed)
+            throws InterruptedException {
+        LoadReport report = new LoadReport();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            Random random = new Random(seed + i);
+            Thread thread = new Thread(() -> work(scenario, random, report, start, measureFrom, end),
+                "loadtest-user-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return report;
+    }
+
+    private void work(Scenario scenario, Random random, LoadReport report, long start, long measureFrom, long end) {
+        long now = System.nanoTime();
+        while (now < end) {
+            long elapsedMillis = (now - start) / 1_000_000;
+            Operation operation = scenario.next(elapsedMillis, random);
+            long sent = System.nanoTime();
+            try {
+                int status = operation.execute(client, workload, random);
+                if (sent >= measureFrom) {
+                    report.record(operation, System.nanoTime() - sent, status);
+                }
+            } catch (IOException e) {
+                if (sent >= measureFrom) {
+                    report.recordFailure(operation);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long pause = scenario.pauseMillis(elapsedMillis);
+            if (pause > 0) {
+                try {
+                    Thread.sleep(pause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            now = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.surveys.surveys.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y códigos de estado por operación durante la fase medida.
+ *
+ * <p>Las latencias se registran en microsegundos en un {@link Recorder} de
+ * HdrHistogram por operación, que los usuarios virtuales escriben sin
+ * bloquearse entre sí.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    LoadReport() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    void record(Operation operation, long nanos, int status) {
+        Stats entry = stats.get(operation);
+        entry.recorder.recordValue(Math.min(Math.max(nanos / 1000, 1), HIGHEST_TRACKABLE_MICROS));
+        entry.statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Cuenta una petición que no obtuvo respuesta HTTP (conexión o timeout).
+     */
+    void recordFailure(Operation operation) {
+        stats.get(operation).statuses.computeIfAbsent(0, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Resume la prueba: throughput, percentiles en milisegundos y códigos de
+     * estado por operación. El código {@code 0} agrupa las peticiones sin respuesta.
+     */
+    Map<String, Object> summarize(Map<String, Object> settings, double measuredSeconds) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            Map<String, Long> statuses = new TreeMap<>();
+            entry.getValue().statuses.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+            long requests = statuses.values().stream().mapToLong(Long::longValue).sum();
+            if (requests == 0) {
+                continue;
+            }
+            long failed = statuses.entrySet().stream()
+                .filter(status -> status.getKey().equals("0") || status.getKey().startsWith("5"))
+                .mapToLong(Map.Entry::getValue).sum();
+            total += requests;
+            errors += failed;
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", requests);
+            summary.put("throughput", requests / measuredSeconds);
+            summary.put("errorRate", failed / (double) requests);
+            summary.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+            summary.put("p90Ms", histogram.getValueAtPercentile(90) / 1000.0);
+            summary.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+            summary.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+            summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+            summary.put("statuses", statuses);
+            operations.put(entry.getKey().getLabel(), summary);
+        }
+        Map<String, Object> report = new LinkedHashMap<>(settings);
+        report.put("measuredSeconds", measuredSeconds);
+        report.put("requests", total);
+        report.put("throughput", total / measuredSeconds);
+        report.put("errorRate", total == 0 ? 0 : errors / (double) total);
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static final class Stats {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final ConcurrentHashMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,116 @@
+package com.surveys.surveys.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.surveys.surveys.SurveysApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prueba de carga autocontenida: levanta la aplicación contra un MongoDB en
+ * memoria, siembra datos por la API y genera carga con un escenario.
+ *
+ * <p>Se ejecuta con {@code mvn -P loadtest verify}. Propiedades de sistema:
+ * <ul>
+ *   <li>{@code loadtest.scenario}: {@code mixed}, {@code submit-burst},
+ *       {@code dashboard} o {@code login} (ver {@link Scenario})</li>
+ *   <li>{@code loadtest.profile}: latencia y fallos de MongoDB (ver {@link FaultProfile})</li>
+ *   <li>{@code loadtest.users}, {@code loadtest.warmup}, {@code loadtest.duration}</li>
+ *   <li>{@code loadtest.surveys}, {@code loadtest.questions}, {@code loadtest.accounts}</li>
+ *   <li>{@code loadtest.seed} y {@code loadtest.result} (reporte JSON)</li>
+ * </ul>
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Scenario scenario = Scenario.named(System.getProperty("loadtest.scenario", "mixed"));
+        FaultProfile profile = FaultProfile.fromSystemProperties();
+        int users = Integer.getInteger("loadtest.users", 32);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        long seed = Long.getLong("loadtest.seed", 42L);
+        Path result = Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        try (StandInMongo mongo = new StandInMongo(profile);
+             ConfigurableApplicationContext context = start(mongo)) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            SurveyClient client = new SurveyClient("http://localhost:" + port, objectMapper);
+
+            System.out.printf("Sembrando datos (perfil %s)%n", profile);
+            Workload workload = Workload.seed(client,
+                Integer.getInteger("loadtest.surveys", 20),
+                Integer.getInteger("loadtest.accounts", 10),
+                Integer.getInteger("loadtest.questions", 12));
+            mongo.arm();
+
+            System.out.printf("Escenario %s: %d usuarios, calentamiento %s, medición %s%n",
+                scenario.getName(), users, warmup, duration);
+            LoadReport report = new LoadGenerator(client, workload).run(scenario, users, warmup, duration, seed);
+
+            Map<String, Object> settings = new LinkedHashMap<>();
+            settings.put("scenario", scenario.getName());
+            settings.put("profile", profile.getName());
+            settings.put("users", users);
+            settings.put("seed", seed);
+            Map<String, Object> summary = report.summarize(settings, duration.toMillis() / 1000.0);
+            print(summary);
+            write(objectMapper, result, summary);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(StandInMongo mongo) {
+        return new SpringApplicationBuilder(SurveysApplication.class)
+            .initializers(context -> context.getBeanFactory()
+                .registerSingleton("loadTestLatency", mongo.latencyCustomizer()))
+            .run(
+                "--spring.data.mongodb.uri=" + mongo.uri("surveys_loadtest"),
+                "--server.port=0",
+                "--surveys.rate-limit.permits-per-second=1000000",
+                "--surveys.indexes.diagnostics=OFF",
+                "--logging.level.root=WARN",
+                "--logging.level.com.surveys=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.org.springframework.data.mongodb=WARN",
+                "--logging.level.surveys.mongo.slow=ERROR",
+                "--logging.level.de.bwaldvogel=OFF");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> summary) {
+        System.out.printf("%n%-18s %9s %10s %8s %9s %9s %9s %9s%n",
+            "operación", "peticiones", "req/s", "errores", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        Map<String, Map<String, Object>> operations = (Map<String, Map<String, Object>>) summary.get("operations");
+        operations.forEach((name, stats) -> System.out.printf("%-18s %9d %10.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+            name, stats.get("requests"), stats.get("throughput"), (double) stats.get("errorRate") * 100,
+            stats.get("p50Ms"), stats.get("p90Ms"), stats.get("p99Ms"), stats.get("maxMs")));
+        System.out.printf("%-18s %9d %10.1f %7.2f%%%n%n", "total", summary.get("requests"),
+            summary.get("throughput"), (double) summary.get("errorRate") * 100);
+    }
+
+    private static void write(ObjectMapper objectMapper, Path result, Map<String, Object> summary) throws IOException {
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(result.toFile(), summary);
+        System.out.println("Reporte guardado en " + result.toAbsolutePath());
+    }
+}
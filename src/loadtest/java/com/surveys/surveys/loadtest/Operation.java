@@ -0,0 +1,83 @@
+package com.surveys.surveys.loadtest;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Peticiones que componen la carga, cada una con el nombre con el que aparece
+ * en el reporte.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+enum Operation {
+
+    /** Vista pública de una encuesta publicada. */
+    VIEW("public.view") {
+        @Override
+        int execute(SurveyClient client, Workload workload, Random random) throws IOException, InterruptedException {
+            return client.get("/api/surveys/" + workload.randomSurvey(random).getId() + "/view", null);
+        }
+    },
+
+    /** Listado público de encuestas publicadas. */
+    PUBLISHED("public.published") {
+        @Override
+        int execute(SurveyClient client, Workload workload, Random random) throws IOException, InterruptedException {
+            return client.get("/api/surveys/published", null);
+        }
+    },
+
+    /** Envío de una respuesta completa. */
+    SUBMIT("public.submit") {
+        @Override
+        int execute(SurveyClient client, Workload workload, Random random) throws IOException, InterruptedException {
+            return client.post("/api/responses/submit", workload.randomSurvey(random).submission(random), null);
+        }
+    },
+
+    /** Primera página del panel de encuestas del administrador. */
+    ADMIN_SURVEYS("admin.surveys") {
+        @Override
+        int execute(SurveyClient client, Workload workload, Random random) throws IOException, InterruptedException {
+            return client.get("/api/surveys?size=50", workload.getAdminToken());
+        }
+    },
+
+    /** Primera página de respuestas de una encuesta en el panel del administrador. */
+    ADMIN_RESPONSES("admin.responses") {
+        @Override
+        int execute(SurveyClient client, Workload workload, Random random) throws IOException, InterruptedException {
+            return client.get("/api/responses/survey/" + workload.randomSurvey(random).getId() + "?size=50",
+                workload.getAdminToken());
+        }
+    },
+
+    /** Login con usuario y contraseña. */
+    LOGIN("auth.login") {
+        @Override
+        int execute(SurveyClient client, Workload workload, Random random) throws IOException, InterruptedException {
+            return client.post("/api/auth/login",
+                Map.of("username", workload.randomUsername(random), "password", Workload.PASSWORD), null);
+        }
+    };
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    /**
+     * Ejecuta la petición.
+     *
+     * @return código de estado HTTP
+     */
+    abstract int execute(SurveyClient client, Workload workload, Random random) throws IOException, InterruptedException;
+}
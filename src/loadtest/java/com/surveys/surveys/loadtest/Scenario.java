@@ -0,0 +1,97 @@
+package com.surveys.surveys.loadtest;
+
+import java.util.Random;
+
+/**
+ * Mezclas de carga ({@code loadtest.scenario}).
+ *
+ * <p>Cada escenario reparte las peticiones por peso. {@code submit-burst}
+ * alterna ciclos de 5 s: 2 s de ráfaga de envíos sin pausa, como al
+ * compartir el enlace de una encuesta, y 3 s de navegación pública con 50 ms
+ * entre peticiones.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+enum Scenario {
+
+    MIXED("mixed",
+        weights(45, 10, 30, 5, 5, 5), null, 0, 0, 0),
+    SUBMIT_BURST("submit-burst",
+        weights(20, 0, 80, 0, 0, 0), weights(70, 30, 0, 0, 0, 0), 2_000, 5_000, 50),
+    DASHBOARD("dashboard",
+        weights(0, 0, 0, 45, 45, 10), null, 0, 0, 0),
+    LOGIN("login",
+        weights(0, 0, 0, 0, 0, 100), null, 0, 0, 0);
+
+    private final String name;
+    private final int[] burstWeights;
+    private final int[] quietWeights;
+    private final long burstMillis;
+    private final long cycleMillis;
+    private final long quietPauseMillis;
+
+    Scenario(String name, int[] burstWeights, int[] quietWeights, long burstMillis, long cycleMillis,
+             long quietPauseMillis) {
+        this.name = name;
+        this.burstWeights = burstWeights;
+        this.quietWeights = quietWeights == null ? burstWeights : quietWeights;
+        this.burstMillis = burstMillis;
+        this.cycleMillis = cycleMillis;
+        this.quietPauseMillis = quietPauseMillis;
+    }
+
+    static Scenario named(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Escenario desconocido: " + name);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Elige la siguiente operación según la fase del ciclo.
+     *
+     * @param elapsedMillis milisegundos desde el inicio de la prueba
+     */
+    Operation next(long elapsedMillis, Random random) {
+        int[] weights = inBurst(elapsedMillis) ? burstWeights : quietWeights;
+        int pick = random.nextInt(weights[weights.length - 1]);
+        for (int i = 0; i < weights.length; i++) {
+            if (pick < weights[i]) {
+                return Operation.values()[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Pausa antes de la siguiente petición de un usuario virtual.
+     */
+    long pauseMillis(long elapsedMillis) {
+        return inBurst(elapsedMillis) ? 0 : quietPauseMillis;
+    }
+
+    private boolean inBurst(long elapsedMillis) {
+        return cycleMillis == 0 || elapsedMillis % cycleMillis < burstMillis;
+    }
+
+    /**
+     * Convierte pesos por operación, en el orden de {@link Operation}, a pesos acumulados.
+     */
+    private static int[] weights(int... perOperation) {
+        int[] cumulative = new int[perOperation.length];
+        int total = 0;
+        for (int i = 0; i < perOperation.length; i++) {
+            total += perOperation[i];
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,107 @@
+package com.surveys.surveys.loadtest;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import de.bwaldvogel.mongo.bson.Document;
+import de.bwaldvogel.mongo.exception.MongoServerException;
+import de.bwaldvogel.mongo.wire.message.MongoMessage;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Servidor MongoDB en memoria (mongo-java-server) que reemplaza a Atlas
+ * durante la prueba de carga.
+ *
+ * <p>La latencia y los fallos del {@link FaultProfile} se activan con
+ * {@link #arm()}, después de sembrar los datos. Los fallos se inyectan en el servidor, que
+ * responde con un error como lo haría MongoDB. La latencia se inyecta en el
+ * cliente con {@link #latencyCustomizer()}, antes de enviar cada comando: el
+ * servidor atiende varias conexiones en el mismo hilo y dormir allí
+ * serializaría comandos que en Atlas corren en paralelo.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class StandInMongo implements AutoCloseable {
+
+    private static final Set<String> DATA_COMMANDS = Set.of(
+        "find", "getMore", "aggregate", "count", "distinct",
+        "insert", "update", "delete", "findAndModify");
+
+    private final FaultProfile profile;
+    private final MongoServer server;
+    private final String connectionString;
+    private final AtomicBoolean armed = new AtomicBoolean();
+
+    StandInMongo(FaultProfile profile) {
+        this.profile = profile;
+        this.server = new MongoServer(new FaultInjectingBackend(profile, armed));
+        this.connectionString = server.bindAndGetConnectionString();
+    }
+
+    /**
+     * URI de conexión a la base de datos {@code database} del servidor.
+     */
+    String uri(String database) {
+        return connectionString + "/" + database;
+    }
+
+    /**
+     * Empieza a inyectar la latencia y los fallos del perfil.
+     */
+    void arm() {
+        armed.set(true);
+    }
+
+    /**
+     * Personalizador que registra la latencia del perfil en el cliente de la aplicación.
+     */
+    MongoClientSettingsBuilderCustomizer latencyCustomizer() {
+        return settings -> {
+            if (profile.hasLatency()) {
+                settings.addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if (armed.get() && DATA_COMMANDS.contains(event.getCommandName())) {
+                            LockSupport.parkNanos(profile.nextLatencyNanos());
+                        }
+                    }
+                });
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+    }
+
+    private static final class FaultInjectingBackend extends MemoryBackend {
+
+        private final FaultProfile profile;
+        private final AtomicBoolean armed;
+
+        private FaultInjectingBackend(FaultProfile profile, AtomicBoolean armed) {
+            this.profile = profile;
+            this.armed = armed;
+        }
+
+        @Override
+        public Document handleMessage(MongoMessage message) {
+            String command = message.getDocument().keySet().iterator().next();
+            if (armed.get() && DATA_COMMANDS.contains(command) && profile.nextFailure()) {
+                MongoServerException failure = new MongoServerException(
+                    "Fallo inyectado por el perfil " + profile.getName());
+                failure.setLogError(false);
+                throw failure;
+            }
+            return super.handleMessage(message);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.surveys.surveys.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cliente HTTP de la API usado para sembrar datos y generar carga.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SurveyClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    SurveyClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+    }
+
+    /**
+     * Ejecuta un GET y descarta el cuerpo.
+     *
+     * @return código de estado HTTP
+     */
+    int get(String path, String token) throws IOException, InterruptedException {
+        return http.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Ejecuta un POST con cuerpo JSON y descarta la respuesta.
+     *
+     * @return código de estado HTTP
+     */
+    int post(String path, Object body, String token) throws IOException, InterruptedException {
+        return http.send(jsonPost(path, body, token), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Ejecuta un POST con cuerpo JSON y devuelve la respuesta leída, fallando
+     * si el estado no es 2xx. Sólo para la siembra de datos.
+     */
+    JsonNode postForJson(String path, Object body, String token) {
+        try {
+            HttpResponse<byte[]> response = http.send(jsonPost(path, body, token), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("POST " + path + " respondió " + response.statusCode()
+                    + ": " + new String(response.body()));
+            }
+            return response.body().length == 0 ? null : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Registra un usuario y devuelve su token.
+     */
+    String register(String username, String password) {
+        return postForJson("/api/auth/register",
+            Map.of("username", username, "email", username + "@loadtest.local", "password", password), null)
+            .get("token").asText();
+    }
+
+    private HttpRequest jsonPost(String path, Object body, String token) throws IOException {
+        return request(path, token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
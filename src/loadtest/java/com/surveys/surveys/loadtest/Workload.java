@@ -0,0 +1,136 @@
+package com.surveys.surveys.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Datos sembrados a través de la API antes de generar carga: un
+ * administrador, usuarios para los logins y encuestas publicadas con la
+ * mezcla de preguntas de {@code SoftwareEngineer/Schema_BD}: opción múltiple,
+ * escala, texto y archivo.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Workload {
+
+    static final String PASSWORD = "LoadTest#2026";
+
+    private static final String[] TYPES = {"multiple_choice", "scale", "multiple_choice", "text", "scale", "file"};
+    private static final List<String> OPTIONS = List.of("Excelente", "Bueno", "Regular", "Malo");
+
+    private final String adminToken;
+    private final List<String> usernames;
+    private final List<SeededSurvey> surveys;
+
+    private Workload(String adminToken, List<String> usernames, List<SeededSurvey> surveys) {
+        this.adminToken = adminToken;
+        this.usernames = usernames;
+        this.surveys = surveys;
+    }
+
+    static Workload seed(SurveyClient client, int surveyCount, int userCount, int questionsPerSurvey) {
+        String adminToken = client.register("loadtest.admin", PASSWORD);
+        List<String> usernames = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            String username = "loadtest.user" + i;
+            client.register(username, PASSWORD);
+            usernames.add(username);
+        }
+        List<SeededSurvey> surveys = new ArrayList<>();
+        for (int i = 0; i < surveyCount; i++) {
+            JsonNode created = client.postForJson("/api/surveys", survey(i, questionsPerSurvey), adminToken);
+            String id = created.get("id").asText();
+            client.postForJson("/api/surveys/" + id + "/publish", Map.of(), adminToken);
+            List<String> questionIds = new ArrayList<>();
+            List<String> types = new ArrayList<>();
+            created.get("questions").forEach(question -> {
+                questionIds.add(question.get("id").asText());
+                types.add(question.get("type").asText());
+            });
+            surveys.add(new SeededSurvey(id, questionIds, types));
+        }
+        return new Workload(adminToken, usernames, surveys);
+    }
+
+    String getAdminToken() {
+        return adminToken;
+    }
+
+    String randomUsername(Random random) {
+        return usernames.get(random.nextInt(usernames.size()));
+    }
+
+    /**
+     * Elige una encuesta con sesgo hacia las primeras, como el tráfico real
+     * que se concentra en unas pocas encuestas activas.
+     */
+    SeededSurvey randomSurvey(Random random) {
+        int index = (int) Math.min(surveys.size() - 1, Math.abs(random.nextGaussian()) * surveys.size() / 3);
+        return surveys.get(index);
+    }
+
+    private static Map<String, Object> survey(int index, int questionCount) {
+        List<Map<String, Object>> questions = new ArrayList<>();
+        for (int q = 0; q < questionCount; q++) {
+            String type = TYPES[(index + q) % TYPES.length];
+            Map<String, Object> question = new LinkedHashMap<>();
+            question.put("text", "Pregunta " + q + " de la encuesta " + index);
+            question.put("type", type);
+            question.put("required", q % 2 == 0);
+            question.put("order", q);
+            if ("multiple_choice".equals(type)) {
+                question.put("options", OPTIONS);
+            }
+            questions.add(question);
+        }
+        Map<String, Object> survey = new LinkedHashMap<>();
+        survey.put("name", "Encuesta de carga " + index);
+        survey.put("description", "Encuesta sembrada por la prueba de carga");
+        survey.put("questions", questions);
+        return survey;
+    }
+
+    /**
+     * Encuesta publicada con los ids y tipos de sus preguntas.
+     */
+    static final class SeededSurvey {
+
+        private final String id;
+        private final List<String> questionIds;
+        private final List<String> types;
+
+        private SeededSurvey(String id, List<String> questionIds, List<String> types) {
+            this.id = id;
+            this.questionIds = questionIds;
+            this.types = types;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        /**
+         * Construye un envío que responde todas las preguntas.
+         */
+        Map<String, Object> submission(Random random) {
+            List<Map<String, Object>> answers = new ArrayList<>(questionIds.size());
+            for (int i = 0; i < questionIds.size(); i++) {
+                Object value = switch (types.get(i)) {
+                    case "multiple_choice" -> OPTIONS.get(random.nextInt(OPTIONS.size()));
+                    case "scale" -> 1 + random.nextInt(5);
+                    case "file" -> Map.of("fileUrl", "s3://loadtest/evidencias/" + random.nextInt(1000) + ".pdf");
+                    default -> "Comentario " + random.nextInt(1000);
+                };
+                answers.add(Map.of("questionId", questionIds.get(i), "answer", value));
+            }
+            return Map.of("surveyId", id, "answers", answers);
+        }
+    }
+}
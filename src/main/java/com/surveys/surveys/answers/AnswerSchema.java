@@ -0,0 +1,256 @@
+package com.surveys.surveys.answers;
+
+import com.surveys.surveys.exception.ErrorCodes;
+import com.surveys.surveys.exception.ValidationException;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tipos de respuesta de las preguntas de una encuesta.
+ *
+ * <p>Cada {@code Question.type} determina el {@link AnswerValue} de sus
+ * respuestas: {@code multiple_choice} da {@link ChoiceAnswer} para una opción
+ * o {@link MultiChoiceAnswer} para una lista, {@code scale} da
+ * {@link ScaleAnswer}, {@code text} da {@link TextAnswer} y {@code file} da
+ * {@link FileAnswer}. Los demás tipos se conservan como {@link UntypedAnswer}.
+ *
+ * <p>En MongoDB las opciones se guardan tal como están definidas en la
+ * encuesta (texto o número; cualquier otro valor, como texto), nunca como su
+ * posición, para que editar las opciones de una pregunta no cambie el
+ * significado de las respuestas anteriores (ver {@link #toStored}). {@link #fromStored} lee también los
+ * archivos guardados como {@code {"fileUrl": ...}}; lo que no encaja con la
+ * pregunta se lee como {@link UntypedAnswer}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class AnswerSchema {
+
+    /** Esquema de una encuesta que no existe: todo se lee sin tipo. */
+    static final AnswerSchema EMPTY = new AnswerSchema(null, Map.of());
+
+    private final String surveyId;
+    private final Map<String, Slot> slots;
+
+    private AnswerSchema(String surveyId, Map<String, Slot> slots) {
+        this.surveyId = surveyId;
+        this.slots = slots;
+    }
+
+    public static AnswerSchema of(Survey survey) {
+        Map<String, Slot> slots = new HashMap<>();
+        if (survey.getQuestions() != null) {
+            for (Question question : survey.getQuestions()) {
+                if (question.getId() != null) {
+                    slots.put(question.getId(), new Slot(question));
+                }
+            }
+        }
+        return new AnswerSchema(survey.getId(), slots);
+    }
+
+    boolean exists() {
+        return surveyId != null;
+    }
+
+    /**
+     * Convierte las respuestas recibidas al tipo de sus preguntas.
+     *
+     * @throws ValidationException si una respuesta no corresponde a una
+     *         pregunta de la encuesta o no es válida para su tipo
+     */
+    public void resolve(Response response) {
+        for (Response.Answer answer : response.getAnswers()) {
+            Slot slot = slots.get(answer.getQuestionId());
+            if (slot == null) {
+                throw invalid("La pregunta " + answer.getQuestionId() + " no pertenece a la encuesta " + surveyId);
+            }
+            AnswerValue value = answer.getAnswer();
+            if (value instanceof UntypedAnswer untyped) {
+                AnswerValue typed = slot.resolve(untyped.getValue());
+                if (typed == null) {
+                    throw invalid("La respuesta para la pregunta " + answer.getQuestionId()
+                        + " no es válida para el tipo " + slot.type);
+                }
+                answer.setAnswer(typed);
+            }
+        }
+    }
+
+    /**
+     * Tipa las respuestas leídas sin tipo, como las del archivo en disco.
+     */
+    public void type(Response response) {
+        for (Response.Answer answer : response.getAnswers()) {
+            if (answer.getAnswer() instanceof UntypedAnswer untyped) {
+                answer.setAnswer(fromStored(answer.getQuestionId(), untyped.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Valor BSON de una respuesta: la opción, la lista de opciones, el número,
+     * el texto o la URL del archivo.
+     */
+    public static Object toStored(AnswerValue value) {
+        return switch (value) {
+            case ChoiceAnswer choice -> choice.toPlain();
+            case MultiChoiceAnswer multi -> multi.toPlain();
+            case ScaleAnswer scale -> scale.toPlain();
+            case TextAnswer text -> text.getText();
+            case FileAnswer file -> file.getFileUrl();
+            case UntypedAnswer untyped -> untyped.getValue();
+        };
+    }
+
+    /**
+     * Lee un valor guardado. Las opciones que ya no están en la pregunta se
+     * conservan tal como se guardaron.
+     */
+    public AnswerValue fromStored(String questionId, Object stored) {
+        if (stored == null) {
+            return null;
+        }
+        Slot slot = slots.get(questionId);
+        AnswerValue typed = slot == null ? null : slot.read(stored);
+        return typed != null ? typed : new UntypedAnswer(stored);
+    }
+
+    private static ValidationException invalid(String message) {
+        return new ValidationException(ErrorCodes.VALIDATION_FIELD_INVALID + ": " + message);
+    }
+
+    /**
+     * Tipo y opciones de una pregunta.
+     */
+    private static final class Slot {
+
+        private final String type;
+        /** Opciones de la pregunta por su texto; se comparten entre todas las respuestas. */
+        private final Map<String, ChoiceAnswer> options;
+        private final Double min;
+        private final Double max;
+
+        Slot(Question question) {
+            this.type = question.getType() == null ? "" : question.getType();
+            Map<String, ChoiceAnswer> options = new HashMap<>();
+            Double min = null;
+            Double max = null;
+            if (question.getOptions() instanceof List<?> list) {
+                list.stream()
+                    .filter(option -> option != null)
+                    .forEach(option -> options.putIfAbsent(String.valueOf(option), ChoiceAnswer.of(option)));
+            } else if (question.getOptions() instanceof Map<?, ?> bounds) {
+                min = bounds.get("min") instanceof Number number ? number.doubleValue() : null;
+                max = bounds.get("max") instanceof Number number ? number.doubleValue() : null;
+            }
+            this.options = options;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Tipa un valor recibido en JSON, o devuelve {@code null} si no es válido.
+         */
+        AnswerValue resolve(Object value) {
+            return switch (type) {
+                case "multiple_choice" -> {
+                    if (isScalar(value)) {
+                        yield options.get(String.valueOf(value));
+                    }
+                    yield value instanceof List<?> selected ? multiChoice(selected) : null;
+                }
+                case "scale" -> {
+                    Double number = number(value);
+                    yield number == null || (min != null && number < min) || (max != null && number > max)
+                        ? null : new ScaleAnswer(number);
+                }
+                case "text" -> value instanceof String || value instanceof Number || value instanceof Boolean
+                    ? new TextAnswer(String.valueOf(value)) : null;
+                case "file" -> file(value);
+                default -> new UntypedAnswer(value);
+            };
+        }
+
+        /**
+         * Tipa un valor leído de MongoDB, o devuelve {@code null} si no encaja.
+         */
+        AnswerValue read(Object value) {
+            return switch (type) {
+                case "multiple_choice" -> {
+                    if (isScalar(value)) {
+                        yield stored(value);
+                    }
+                    if (value instanceof List<?> stored && stored.stream().allMatch(Slot::isScalar)) {
+                        yield MultiChoiceAnswer.of(stored.stream().map(this::stored).toList());
+                    }
+                    yield null;
+                }
+                case "scale" -> {
+                    Double number = number(value);
+                    yield number == null ? null : new ScaleAnswer(number);
+                }
+                case "text" -> value instanceof String text ? new TextAnswer(text) : null;
+                case "file" -> file(value);
+                default -> null;
+            };
+        }
+
+        private AnswerValue multiChoice(List<?> selected) {
+            List<ChoiceAnswer> chosen = new ArrayList<>(selected.size());
+            for (Object value : selected) {
+                ChoiceAnswer option = isScalar(value) ? options.get(String.valueOf(value)) : null;
+                if (option == null) {
+                    return null;
+                }
+                chosen.add(option);
+            }
+            return MultiChoiceAnswer.of(chosen);
+        }
+
+        /**
+         * Opción guardada: la de la pregunta si sigue existiendo, o la guardada tal cual.
+         */
+        private ChoiceAnswer stored(Object value) {
+            ChoiceAnswer option = options.get(String.valueOf(value));
+            return option != null ? option : ChoiceAnswer.of(value);
+        }
+
+        private static boolean isScalar(Object value) {
+            return value instanceof String || value instanceof Number || value instanceof Boolean;
+        }
+
+        private static AnswerValue file(Object value) {
+            if (value instanceof String url) {
+                return new FileAnswer(url);
+            }
+            if (value instanceof Map<?, ?> map && map.get(FileAnswer.FILE_URL) instanceof String url) {
+                return new FileAnswer(url);
+            }
+            return null;
+        }
+
+        private static Double number(Object value) {
+            double number;
+            if (value instanceof Number numeric) {
+                number = numeric.doubleValue();
+            } else if (value instanceof String text) {
+                try {
+                    number = Double.parseDouble(text.trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+            return Double.isFinite(number) ? number : null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.surveys.surveys.answers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.surveys.surveys.cache.SurveyChangedEvent;
+import com.surveys.surveys.exception.ResourceNotFoundException;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.services.SurveyService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link AnswerSchema} de cada encuesta, en caché.
+ *
+ * <p>Lo usan el envío de respuestas, para tiparlas y validarlas, y los
+ * conversores de MongoDB al leerlas. La encuesta se obtiene de
+ * {@link SurveyService} de forma diferida porque esos conversores se crean
+ * antes que los repositorios.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class AnswerSchemas {
+
+    private final ObjectProvider<SurveyService> surveyService;
+    private final Cache<String, AnswerSchema> schemas;
+
+    public AnswerSchemas(ObjectProvider<SurveyService> surveyService,
+                         @Value("${surveys.cache.maximum-size:1000}") long maximumSize,
+                         @Value("${surveys.cache.ttl:PT5M}") Duration ttl) {
+        this.surveyService = surveyService;
+        this.schemas = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    /**
+     * Esquema de una encuesta; vacío si no existe, de modo que sus respuestas
+     * se leen sin tipo.
+     */
+    public AnswerSchema forSurvey(String surveyId) {
+        if (surveyId == null) {
+            return AnswerSchema.EMPTY;
+        }
+        try {
+            return schemas.get(surveyId, () -> surveyService.getObject().getSurveyById(surveyId)
+                .map(AnswerSchema::of)
+                .orElse(AnswerSchema.EMPTY));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Tipa y valida las respuestas de un envío según las preguntas de su encuesta.
+     *
+     * @throws ResourceNotFoundException si la encuesta no existe
+     * @throws com.surveys.surveys.exception.ValidationException si alguna respuesta no es válida
+     */
+    public void resolve(Response response) {
+        AnswerSchema schema = forSurvey(response.getSurveyId());
+        if (!schema.exists()) {
+            throw new ResourceNotFoundException("Encuesta no encontrada: " + response.getSurveyId());
+        }
+        schema.resolve(response);
+    }
+
+    @EventListener
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        if (event.getSurveyId() != null) {
+            schemas.invalidate(event.getSurveyId());
+        } else {
+            schemas.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.surveys.surveys.answers;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * Valor de una respuesta, con un tipo según el {@code type} de su pregunta.
+ *
+ * <p>En JSON se escribe con la forma de siempre (la opción elegida, la lista
+ * de opciones, el número, el texto o {@code {"fileUrl": ...}}) y se lee como
+ * {@link UntypedAnswer}; {@link AnswerSchema} lo convierte al tipo de la
+ * pregunta antes de guardarlo.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@JsonDeserialize(using = AnswerValueDeserializer.class)
+public sealed interface AnswerValue
+        permits ChoiceAnswer, MultiChoiceAnswer, ScaleAnswer, TextAnswer, FileAnswer, UntypedAnswer {
+
+    /**
+     * Valor en la forma de la API: {@link String}, {@link java.util.List},
+     * {@link Number} o {@link java.util.Map}.
+     */
+    @JsonValue
+    Object toPlain();
+
+    static AnswerValue untyped(Object value) {
+        return value == null ? null : new UntypedAnswer(value);
+    }
+}
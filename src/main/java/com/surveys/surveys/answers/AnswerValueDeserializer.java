@@ -0,0 +1,33 @@
+package com.surveys.surveys.answers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Lee el valor JSON tal cual como {@link UntypedAnswer}; el tipo depende de la
+ * pregunta, que el JSON no trae. El lector de {@code Object} se resuelve una
+ * sola vez: {@code parser.readValueAs} crearía un contexto nuevo por respuesta.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class AnswerValueDeserializer extends JsonDeserializer<AnswerValue> implements ResolvableDeserializer {
+
+    private JsonDeserializer<Object> values;
+
+    @Override
+    public void resolve(DeserializationContext context) throws JsonMappingException {
+        values = context.findRootValueDeserializer(context.constructType(Object.class));
+    }
+
+    @Override
+    public AnswerValue deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return AnswerValue.untyped(values.deserialize(parser, context));
+    }
+}
@@ -0,0 +1,76 @@
+package com.surveys.surveys.answers;
+
+import java.util.Objects;
+
+/**
+ * Opción elegida en una pregunta {@code multiple_choice}.
+ *
+ * <p>Guarda el texto de la opción tal como está definida en la encuesta y no
+ * su posición, así que reordenar o quitar opciones no cambia las respuestas ya
+ * guardadas. Las opciones numéricas guardan además su valor para devolverse
+ * como número.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ChoiceAnswer implements AnswerValue {
+
+    private final String label;
+    /** Valor de una opción numérica; {@code NaN} si la opción es texto. */
+    private final double number;
+
+    public ChoiceAnswer(String label) {
+        this(label, Double.NaN);
+    }
+
+    private ChoiceAnswer(String label, double number) {
+        this.label = Objects.requireNonNull(label, "label");
+        this.number = number;
+    }
+
+    /**
+     * Opción con el valor definido en la encuesta o guardado: los números
+     * conservan su valor y lo demás se guarda como texto.
+     */
+    static ChoiceAnswer of(Object option) {
+        return option instanceof Number numeric
+            ? new ChoiceAnswer(String.valueOf(option), numeric.doubleValue())
+            : new ChoiceAnswer(String.valueOf(option));
+    }
+
+    public String getLabel() { return label; }
+
+    public boolean isNumeric() { return !Double.isNaN(number); }
+
+    public double getNumber() { return number; }
+
+    /**
+     * El texto de la opción, o su número (entero cuando lo es) si es numérica.
+     */
+    @Override
+    public Object toPlain() {
+        return isNumeric() ? plain(number) : label;
+    }
+
+    static Object plain(double number) {
+        return number == Math.rint(number) && Math.abs(number) <= Integer.MAX_VALUE
+            ? (Object) (int) number : (Object) number;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ChoiceAnswer choice && choice.label.equals(label)
+            && Double.compare(choice.number, number) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return label.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ChoiceAnswer[" + label + "]";
+    }
+}
@@ -0,0 +1,44 @@
+package com.surveys.surveys.answers;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Archivo adjunto en una pregunta {@code file}; sólo se guarda su URL.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FileAnswer implements AnswerValue {
+
+    static final String FILE_URL = "fileUrl";
+
+    private final String fileUrl;
+
+    public FileAnswer(String fileUrl) {
+        this.fileUrl = Objects.requireNonNull(fileUrl);
+    }
+
+    public String getFileUrl() { return fileUrl; }
+
+    @Override
+    public Object toPlain() {
+        return Map.of(FILE_URL, fileUrl);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FileAnswer file && file.fileUrl.equals(fileUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return fileUrl.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FileAnswer[" + fileUrl + "]";
+    }
+}
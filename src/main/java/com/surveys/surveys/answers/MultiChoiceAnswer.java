@@ -0,0 +1,84 @@
+package com.surveys.surveys.answers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Opciones elegidas en una pregunta {@code multiple_choice} que admite varias,
+ * en el orden en que se enviaron y tal como están definidas en la encuesta.
+ * Como en {@link ChoiceAnswer}, se guarda el texto de cada opción y el valor de
+ * las numéricas.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class MultiChoiceAnswer implements AnswerValue {
+
+    private final List<String> labels;
+    /** Valor de cada opción ({@code NaN} en las de texto), o {@code null} si ninguna es numérica. */
+    private final double[] numbers;
+
+    public MultiChoiceAnswer(List<String> labels) {
+        this(List.copyOf(labels), null);
+    }
+
+    private MultiChoiceAnswer(List<String> labels, double[] numbers) {
+        this.labels = labels;
+        this.numbers = numbers;
+    }
+
+    static MultiChoiceAnswer of(List<ChoiceAnswer> choices) {
+        String[] labels = new String[choices.size()];
+        double[] numbers = null;
+        for (int i = 0; i < labels.length; i++) {
+            ChoiceAnswer choice = choices.get(i);
+            labels[i] = choice.getLabel();
+            if (choice.isNumeric()) {
+                if (numbers == null) {
+                    numbers = new double[labels.length];
+                    Arrays.fill(numbers, Double.NaN);
+                }
+                numbers[i] = choice.getNumber();
+            }
+        }
+        return new MultiChoiceAnswer(List.of(labels), numbers);
+    }
+
+    public List<String> getLabels() { return labels; }
+
+    public int getCount() { return labels.size(); }
+
+    public boolean isSelected(String label) {
+        return labels.contains(label);
+    }
+
+    @Override
+    public Object toPlain() {
+        if (numbers == null) {
+            return labels;
+        }
+        List<Object> plain = new ArrayList<>(labels.size());
+        for (int i = 0; i < labels.size(); i++) {
+            plain.add(Double.isNaN(numbers[i]) ? labels.get(i) : ChoiceAnswer.plain(numbers[i]));
+        }
+        return plain;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof MultiChoiceAnswer multi && multi.labels.equals(labels)
+            && Arrays.equals(multi.numbers, numbers);
+    }
+
+    @Override
+    public int hashCode() {
+        return labels.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MultiChoiceAnswer" + labels;
+    }
+}
@@ -0,0 +1,156 @@
+package com.surveys.surveys.answers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.surveys.surveys.model.Response;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Diccionarios por encuesta del formato compacto de respuestas
+ * ({@code surveys.responses.compact.enabled}).
+ *
+ * <p>Las entradas nuevas se agregan con {@code $addToSet} en un
+ * {@code findAndModify}, que devuelve el diccionario resultante: varias
+ * instancias pueden agregar la misma pregunta u opción a la vez y todas ven
+ * el mismo código. Como los códigos no cambian, la copia en memoria sólo se
+ * recarga cuando le falta una entrada. El formato compacto se lee siempre,
+ * de modo que desactivarlo no deja respuestas ilegibles.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ResponseDictionaries {
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final boolean enabled;
+    private final Cache<String, ResponseDictionary> dictionaries;
+
+    public ResponseDictionaries(ObjectProvider<MongoTemplate> mongoTemplate,
+                                @Value("${surveys.responses.compact.enabled:false}") boolean enabled,
+                                @Value("${surveys.cache.maximum-size:1000}") long maximumSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.dictionaries = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * Indica si las respuestas nuevas se guardan en formato compacto.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Borra el diccionario de una encuesta cuyas respuestas ya no existen.
+     */
+    public void delete(String surveyId) {
+        mongoTemplate.getObject().remove(byId(surveyId), ResponseDictionary.COLLECTION);
+        dictionaries.invalidate(surveyId);
+    }
+
+    ResponseDictionary get(String surveyId) {
+        try {
+            return dictionaries.get(surveyId, () -> load(surveyId));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Vuelve a leer el diccionario, por ejemplo al encontrar un código que
+     * agregó otra instancia.
+     */
+    ResponseDictionary refresh(String surveyId) {
+        ResponseDictionary dictionary = load(surveyId);
+        dictionaries.put(surveyId, dictionary);
+        return dictionary;
+    }
+
+    /**
+     * Diccionario con todas las preguntas y opciones de la respuesta; agrega
+     * las que falten.
+     */
+    ResponseDictionary covering(Response response) {
+        String surveyId = response.getSurveyId();
+        ResponseDictionary dictionary = get(surveyId);
+
+        Set<String> missingQuestions = new LinkedHashSet<>();
+        for (Response.Answer answer : response.getAnswers()) {
+            if (dictionary.questionCode(answer.getQuestionId()) < 0) {
+                missingQuestions.add(answer.getQuestionId());
+            }
+        }
+        if (!missingQuestions.isEmpty()) {
+            dictionary = append(surveyId,
+                new Update().addToSet(ResponseDictionary.QUESTIONS).each(missingQuestions.toArray()));
+        }
+
+        Map<Integer, Set<String>> missingOptions = new LinkedHashMap<>();
+        for (Response.Answer answer : response.getAnswers()) {
+            int question = dictionary.questionCode(answer.getQuestionId());
+            for (String label : labelsOf(answer.getAnswer())) {
+                if (dictionary.optionCode(question, label) < 0) {
+                    missingOptions.computeIfAbsent(question, key -> new LinkedHashSet<>()).add(label);
+                }
+            }
+        }
+        if (!missingOptions.isEmpty()) {
+            Update update = new Update();
+            missingOptions.forEach((question, labels) ->
+                update.addToSet(ResponseDictionary.OPTIONS + "." + question).each(labels.toArray()));
+            dictionary = append(surveyId, update);
+        }
+        return dictionary;
+    }
+
+    private ResponseDictionary append(String surveyId, Update update) {
+        Document updated = mongoTemplate.getObject().findAndModify(byId(surveyId), update,
+            FindAndModifyOptions.options().upsert(true).returnNew(true),
+            Document.class, ResponseDictionary.COLLECTION);
+        ResponseDictionary dictionary = ResponseDictionary.from(updated);
+        dictionaries.put(surveyId, dictionary);
+        return dictionary;
+    }
+
+    private ResponseDictionary load(String surveyId) {
+        return ResponseDictionary.from(
+            mongoTemplate.getObject().findOne(byId(surveyId), Document.class, ResponseDictionary.COLLECTION));
+    }
+
+    private static Query byId(String surveyId) {
+        return new Query(Criteria.where("_id").is(surveyId));
+    }
+
+    private static List<String> labelsOf(AnswerValue value) {
+        if (value instanceof ChoiceAnswer choice) {
+            return List.of(choice.getLabel());
+        }
+        if (value instanceof MultiChoiceAnswer multi) {
+            return multi.getLabels();
+        }
+        return List.of();
+    }
+}
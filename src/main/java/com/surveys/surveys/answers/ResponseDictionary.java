@@ -0,0 +1,108 @@
+package com.surveys.surveys.answers;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diccionario de una encuesta para el formato compacto de respuestas: asigna
+ * un entero a cada id de pregunta y, por pregunta, a cada opción elegida.
+ *
+ * <p>En MongoDB es un documento de {@value #COLLECTION} con {@code _id} igual
+ * al de la encuesta, la lista {@code q} de ids de pregunta y el mapa {@code o}
+ * con la lista de opciones de cada código de pregunta. El código es la
+ * posición en la lista y las listas sólo crecen por el final, así que un
+ * código nunca cambia de significado aunque se editen las preguntas. Cada
+ * instancia es una copia inmutable.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ResponseDictionary {
+
+    static final String COLLECTION = "response_dictionaries";
+    static final String QUESTIONS = "q";
+    static final String OPTIONS = "o";
+
+    static final ResponseDictionary EMPTY = new ResponseDictionary(List.of(), Map.of());
+
+    private final List<String> questions;
+    private final Map<String, Integer> questionCodes = new HashMap<>();
+    private final Map<Integer, List<String>> options;
+    private final Map<Integer, Map<String, Integer>> optionCodes = new HashMap<>();
+
+    private ResponseDictionary(List<String> questions, Map<Integer, List<String>> options) {
+        this.questions = questions;
+        this.options = options;
+        for (int i = 0; i < questions.size(); i++) {
+            questionCodes.putIfAbsent(questions.get(i), i);
+        }
+        options.forEach((question, labels) -> {
+            Map<String, Integer> codes = new HashMap<>();
+            for (int i = 0; i < labels.size(); i++) {
+                codes.putIfAbsent(labels.get(i), i);
+            }
+            optionCodes.put(question, codes);
+        });
+    }
+
+    static ResponseDictionary from(Document document) {
+        if (document == null) {
+            return EMPTY;
+        }
+        List<String> questions = new ArrayList<>();
+        if (document.get(QUESTIONS) instanceof List<?> stored) {
+            stored.forEach(id -> questions.add(String.valueOf(id)));
+        }
+        Map<Integer, List<String>> options = new HashMap<>();
+        if (document.get(OPTIONS) instanceof Document stored) {
+            stored.forEach((question, labels) -> {
+                if (labels instanceof List<?> list) {
+                    options.put(Integer.valueOf(question), list.stream().map(String::valueOf).toList());
+                }
+            });
+        }
+        return new ResponseDictionary(List.copyOf(questions), options);
+    }
+
+    /**
+     * Código de una pregunta, o {@code -1} si no está en el diccionario.
+     */
+    int questionCode(String questionId) {
+        return questionCodes.getOrDefault(questionId, -1);
+    }
+
+    /**
+     * Id de la pregunta con el código indicado, o {@code null} si no está.
+     */
+    String questionId(int code) {
+        return code >= 0 && code < questions.size() ? questions.get(code) : null;
+    }
+
+    /**
+     * Indica si las respuestas de la pregunta se guardan como códigos de opción.
+     */
+    boolean hasOptions(int questionCode) {
+        return options.containsKey(questionCode);
+    }
+
+    /**
+     * Código de una opción de la pregunta, o {@code -1} si no está.
+     */
+    int optionCode(int questionCode, String label) {
+        Map<String, Integer> codes = optionCodes.get(questionCode);
+        return codes == null ? -1 : codes.getOrDefault(label, -1);
+    }
+
+    /**
+     * Opción con el código indicado, o {@code null} si no está.
+     */
+    String option(int questionCode, int code) {
+        List<String> labels = options.get(questionCode);
+        return labels != null && code >= 0 && code < labels.size() ? labels.get(code) : null;
+    }
+}
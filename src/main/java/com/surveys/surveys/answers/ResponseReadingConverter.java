@@ -0,0 +1,130 @@
+package com.surveys.surveys.answers;
+
+import com.surveys.surveys.model.Response;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Lee un {@link Response} de MongoDB tipando cada respuesta con el
+ * {@link AnswerSchema} de su encuesta. Acepta tanto la lista
+ * {@code answers} como el formato compacto de {@link ResponseWritingConverter},
+ * cuyos códigos se traducen con el diccionario de la encuesta.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@ReadingConverter
+public class ResponseReadingConverter implements Converter<Document, Response> {
+
+    private final AnswerSchemas answerSchemas;
+    private final ResponseDictionaries dictionaries;
+
+    public ResponseReadingConverter(AnswerSchemas answerSchemas, ResponseDictionaries dictionaries) {
+        this.answerSchemas = answerSchemas;
+        this.dictionaries = dictionaries;
+    }
+
+    @Override
+    public Response convert(Document source) {
+        Response response = new Response();
+        Object id = source.get("_id");
+        response.setId(id instanceof ObjectId objectId ? objectId.toHexString() : id == null ? null : id.toString());
+        response.setSurveyId(source.getString("surveyId"));
+        if (source.get("submittedAt") instanceof Date submittedAt) {
+            response.setSubmittedAt(submittedAt.toInstant());
+        }
+        if (source.get(ResponseWritingConverter.QUESTION_CODES) instanceof List<?> questions
+                && source.get(ResponseWritingConverter.VALUES) instanceof List<?> values) {
+            response.setAnswers(readCompact(response.getSurveyId(), questions, values));
+        } else if (source.get("answers") instanceof List<?> stored) {
+            AnswerSchema schema = answerSchemas.forSurvey(response.getSurveyId());
+            List<Response.Answer> answers = new ArrayList<>(stored.size());
+            for (Object element : stored) {
+                if (element instanceof Document document) {
+                    Response.Answer answer = new Response.Answer();
+                    answer.setQuestionId(document.getString("questionId"));
+                    answer.setAnswer(schema.fromStored(answer.getQuestionId(), document.get("answer")));
+                    answers.add(answer);
+                }
+            }
+            response.setAnswers(answers);
+        }
+        return response;
+    }
+
+    private List<Response.Answer> readCompact(String surveyId, List<?> questions, List<?> values) {
+        AnswerSchema schema = answerSchemas.forSurvey(surveyId);
+        ResponseDictionary dictionary = dictionaries.get(surveyId);
+        boolean refreshed = false;
+        List<Response.Answer> answers = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            int question = ((Number) questions.get(i)).intValue();
+            Object value = values.get(i);
+            Object decoded = decode(dictionary, question, value);
+            if (decoded == null && value != null && !refreshed) {
+                // Código agregado por otra instancia después de cargar el diccionario
+                dictionary = dictionaries.refresh(surveyId);
+                refreshed = true;
+                decoded = decode(dictionary, question, value);
+            }
+            String questionId = dictionary.questionId(question);
+            if (questionId == null) {
+                throw new IllegalStateException("Pregunta " + question + " fuera del diccionario de " + surveyId);
+            }
+            Response.Answer answer = new Response.Answer();
+            answer.setQuestionId(questionId);
+            answer.setAnswer(decoded != null || value == null
+                ? schema.fromStored(questionId, decoded)
+                : new UntypedAnswer(value));
+            answers.add(answer);
+        }
+        return answers;
+    }
+
+    /**
+     * Devuelve el valor con las opciones como texto, o {@code null} si algún
+     * código no está en el diccionario.
+     */
+    private static Object decode(ResponseDictionary dictionary, int question, Object value) {
+        if (dictionary.questionId(question) == null) {
+            return null;
+        }
+        if (value == null || !dictionary.hasOptions(question)) {
+            return value;
+        }
+        if (value instanceof Integer code) {
+            return dictionary.option(question, code);
+        }
+        if (value instanceof Long bits) {
+            // Mapa de bits de las versiones anteriores: solo conserva el orden del diccionario
+            List<String> labels = new ArrayList<>(Long.bitCount(bits));
+            for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+                String label = dictionary.option(question, Long.numberOfTrailingZeros(remaining));
+                if (label == null) {
+                    return null;
+                }
+                labels.add(label);
+            }
+            return labels;
+        }
+        if (value instanceof List<?> codes && codes.stream().allMatch(Integer.class::isInstance)) {
+            List<String> labels = new ArrayList<>(codes.size());
+            for (Object code : codes) {
+                String label = dictionary.option(question, (Integer) code);
+                if (label == null) {
+                    return null;
+                }
+                labels.add(label);
+            }
+            return labels;
+        }
+        return value;
+    }
+}
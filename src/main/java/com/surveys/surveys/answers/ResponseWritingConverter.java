@@ -0,0 +1,94 @@
+package com.surveys.surveys.answers;
+
+import com.surveys.surveys.model.Response;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Escribe un {@link Response} con cada respuesta en su forma compacta
+ * ({@link AnswerSchema#toStored}) y sin la clave {@code _class}.
+ *
+ * <p>Con {@link ResponseDictionaries#isEnabled()} las respuestas no se guardan
+ * como lista de {@code {questionId, answer}} sino como dos listas paralelas:
+ * {@value #QUESTION_CODES} con el código de cada pregunta y
+ * {@value #VALUES} con su valor, donde las opciones también son códigos del
+ * diccionario de la encuesta (un entero para una opción y una lista de
+ * enteros para varias, en el orden en que se enviaron y con sus repeticiones,
+ * como exige {@link MultiChoiceAnswer}). {@code surveyId} y
+ * {@code submittedAt} conservan su nombre porque los usan los índices y las
+ * consultas.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@WritingConverter
+public class ResponseWritingConverter implements Converter<Response, Document> {
+
+    static final String QUESTION_CODES = "q";
+    static final String VALUES = "a";
+
+    private final ResponseDictionaries dictionaries;
+
+    public ResponseWritingConverter(ResponseDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
+
+    @Override
+    public Document convert(Response source) {
+        Document document = new Document();
+        if (source.getId() != null) {
+            document.put("_id", ObjectId.isValid(source.getId()) ? new ObjectId(source.getId()) : source.getId());
+        }
+        document.put("surveyId", source.getSurveyId());
+        document.put("submittedAt", source.getSubmittedAt() == null ? null : Date.from(source.getSubmittedAt()));
+        if (dictionaries.isEnabled() && source.getSurveyId() != null && source.getAnswers() != null) {
+            writeCompact(source, document);
+            return document;
+        }
+        List<Document> answers = new ArrayList<>(source.getAnswers() == null ? 0 : source.getAnswers().size());
+        if (source.getAnswers() != null) {
+            for (Response.Answer answer : source.getAnswers()) {
+                answers.add(new Document("questionId", answer.getQuestionId())
+                    .append("answer", answer.getAnswer() == null ? null : AnswerSchema.toStored(answer.getAnswer())));
+            }
+        }
+        document.put("answers", answers);
+        return document;
+    }
+
+    private void writeCompact(Response source, Document document) {
+        ResponseDictionary dictionary = dictionaries.covering(source);
+        List<Integer> questions = new ArrayList<>(source.getAnswers().size());
+        List<Object> values = new ArrayList<>(source.getAnswers().size());
+        for (Response.Answer answer : source.getAnswers()) {
+            int question = dictionary.questionCode(answer.getQuestionId());
+            questions.add(question);
+            values.add(switch (answer.getAnswer()) {
+                case null -> null;
+                case ChoiceAnswer choice -> dictionary.optionCode(question, choice.getLabel());
+                case MultiChoiceAnswer multi -> optionCodes(dictionary, question, multi.getLabels());
+                default -> AnswerSchema.toStored(answer.getAnswer());
+            });
+        }
+        document.put(QUESTION_CODES, questions);
+        document.put(VALUES, values);
+    }
+
+    /**
+     * Códigos de las opciones en el orden en que se enviaron.
+     */
+    private static List<Integer> optionCodes(ResponseDictionary dictionary, int question, List<String> labels) {
+        List<Integer> codes = new ArrayList<>(labels.size());
+        for (String label : labels) {
+            codes.add(dictionary.optionCode(question, label));
+        }
+        return codes;
+    }
+}
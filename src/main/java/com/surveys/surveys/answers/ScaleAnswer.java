@@ -0,0 +1,46 @@
+package com.surveys.surveys.answers;
+
+/**
+ * Valor de una pregunta {@code scale}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ScaleAnswer implements AnswerValue {
+
+    private final double value;
+
+    public ScaleAnswer(double value) {
+        this.value = value;
+    }
+
+    public double getValue() { return value; }
+
+    public boolean isIntegral() {
+        return value == Math.rint(value) && Math.abs(value) <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Entero cuando el valor lo es, como lo enviaron los clientes.
+     */
+    @Override
+    public Object toPlain() {
+        return isIntegral() ? (Object) (int) value : (Object) value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ScaleAnswer scale && Double.compare(scale.value, value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "ScaleAnswer[" + toPlain() + "]";
+    }
+}
@@ -0,0 +1,41 @@
+package com.surveys.surveys.answers;
+
+import java.util.Objects;
+
+/**
+ * Respuesta abierta de una pregunta {@code text}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TextAnswer implements AnswerValue {
+
+    private final String text;
+
+    public TextAnswer(String text) {
+        this.text = Objects.requireNonNull(text);
+    }
+
+    public String getText() { return text; }
+
+    @Override
+    public Object toPlain() {
+        return text;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TextAnswer answer && answer.text.equals(text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TextAnswer[" + text + "]";
+    }
+}
@@ -0,0 +1,44 @@
+package com.surveys.surveys.answers;
+
+import java.util.Objects;
+
+/**
+ * Respuesta sin tipo: la recibida en JSON antes de compararla con su
+ * pregunta, o una guardada que no corresponde a ningún tipo conocido (una
+ * pregunta eliminada o un valor antiguo que no encaja). Conserva el valor tal
+ * como llegó para no perder datos.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class UntypedAnswer implements AnswerValue {
+
+    private final Object value;
+
+    UntypedAnswer(Object value) {
+        this.value = Objects.requireNonNull(value);
+    }
+
+    public Object getValue() { return value; }
+
+    @Override
+    public Object toPlain() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof UntypedAnswer untyped && untyped.value.equals(value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "UntypedAnswer[" + value + "]";
+    }
+}
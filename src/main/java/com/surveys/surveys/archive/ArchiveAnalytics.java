@@ -0,0 +1,144 @@
+package com.surveys.surveys.archive;
+
+import com.surveys.surveys.model.Response;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Acumula las analíticas del manifiesto mientras se recorren las respuestas archivadas.
+ *
+ * <p>Por pregunta cuenta las respuestas, promedia las numéricas y cuenta la
+ * frecuencia de cada valor (cada elemento en las respuestas de selección
+ * múltiple). Para acotar la memoria con preguntas abiertas solo se cuentan los
+ * primeros {@value #MAX_TRACKED_VALUES} valores distintos de cada pregunta.
+ * Las analíticas ya guardadas en un manifiesto se retoman con {@link #resume}
+ * para sumarles solo las respuestas de los segmentos nuevos.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ArchiveAnalytics {
+
+    private static final int MAX_TRACKED_VALUES = 1000;
+    private static final int TOP_VALUES = 10;
+
+    private final Map<String, QuestionStats> questions = new LinkedHashMap<>();
+    private long rowCount;
+    private Instant first;
+    private Instant last;
+
+    /**
+     * Analíticas que continúan las guardadas en {@code manifest}. Vacío si el
+     * manifiesto es anterior a que se guardaran las frecuencias de cada valor:
+     * en ese caso hay que volver a leer sus segmentos.
+     */
+    static Optional<ArchiveAnalytics> resume(ArchiveManifest manifest) {
+        ArchiveAnalytics analytics = new ArchiveAnalytics();
+        if (manifest.getSegments().isEmpty()) {
+            return Optional.of(analytics);
+        }
+        if (manifest.getQuestions().stream().anyMatch(summary -> summary.getValues() == null)) {
+            return Optional.empty();
+        }
+        analytics.rowCount = manifest.getRowCount();
+        analytics.first = manifest.getFirstSubmittedAt();
+        analytics.last = manifest.getLastSubmittedAt();
+        for (ArchiveManifest.QuestionSummary summary : manifest.getQuestions()) {
+            QuestionStats stats = new QuestionStats();
+            stats.answered = summary.getAnswered();
+            stats.numericCount = summary.getNumericCount();
+            stats.numericSum = summary.getNumericSum();
+            summary.getValues().forEach(value -> stats.frequencies.put(value.getValue(), value.getCount()));
+            analytics.questions.put(summary.getQuestionId(), stats);
+        }
+        return Optional.of(analytics);
+    }
+
+    void accept(Response response) {
+        rowCount++;
+        Instant submittedAt = response.getSubmittedAt();
+        if (submittedAt != null) {
+            first = first == null || submittedAt.isBefore(first) ? submittedAt : first;
+            last = last == null || submittedAt.isAfter(last) ? submittedAt : last;
+        }
+        for (Response.Answer answer : response.getAnswers()) {
+            // Se cuenta la forma legible para que las frecuencias muestren etiquetas y no ordinales
+            questions.computeIfAbsent(answer.getQuestionId(), key -> new QuestionStats())
+                .accept(answer.getAnswer() == null ? null : answer.getAnswer().toPlain());
+        }
+    }
+
+    /**
+     * Copia las analíticas acumuladas al manifiesto.
+     */
+    void applyTo(ArchiveManifest manifest) {
+        manifest.setRowCount(rowCount);
+        manifest.setFirstSubmittedAt(first);
+        manifest.setLastSubmittedAt(last);
+        manifest.setQuestions(questions.entrySet().stream()
+            .map(entry -> entry.getValue().summary(entry.getKey()))
+            .toList());
+    }
+
+    private static final class QuestionStats {
+        private long answered;
+        private long numericCount;
+        private double numericSum;
+        private final Map<String, Long> frequencies = new HashMap<>();
+
+        void accept(Object value) {
+            if (value == null) {
+                return;
+            }
+            answered++;
+            if (value instanceof Collection<?> values) {
+                values.forEach(this::count);
+            } else {
+                count(value);
+            }
+        }
+
+        private void count(Object value) {
+            if (value instanceof Number number) {
+                numericCount++;
+                numericSum += number.doubleValue();
+            }
+            String key = String.valueOf(value);
+            if (frequencies.containsKey(key) || frequencies.size() < MAX_TRACKED_VALUES) {
+                frequencies.merge(key, 1L, Long::sum);
+            }
+        }
+
+        ArchiveManifest.QuestionSummary summary(String questionId) {
+            ArchiveManifest.QuestionSummary summary = new ArchiveManifest.QuestionSummary();
+            summary.setQuestionId(questionId);
+            summary.setAnswered(answered);
+            summary.setAverage(numericCount > 0 ? numericSum / numericCount : null);
+            summary.setNumericCount(numericCount);
+            summary.setNumericSum(numericSum);
+            List<ArchiveManifest.ValueCount> values = frequencies.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()))
+                .map(QuestionStats::valueCount)
+                .toList();
+            summary.setValues(values);
+            summary.setTopValues(values.stream().limit(TOP_VALUES).toList());
+            return summary;
+        }
+
+        private static ArchiveManifest.ValueCount valueCount(Map.Entry<String, Long> entry) {
+            ArchiveManifest.ValueCount valueCount = new ArchiveManifest.ValueCount();
+            valueCount.setValue(entry.getKey());
+            valueCount.setCount(entry.getValue());
+            return valueCount;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.surveys.surveys.archive;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifiesto del archivo de respuestas de una encuesta: los segmentos en disco
+ * y las analíticas precalculadas sobre todas las respuestas archivadas.
+ *
+ * <p>{@code leaseOwner} y {@code leaseUntil} son la reserva con la que una
+ * ejecución de {@link ResponseArchiver} archiva la encuesta sin que otra
+ * instancia lo haga a la vez. Un manifiesto sin segmentos solo guarda la reserva.
+ * {@code pendingDeletes} son los segmentos cuyas respuestas quizá sigan en
+ * MongoDB; es {@code null} en los manifiestos anteriores a este campo, que se
+ * tratan como si todos sus segmentos estuvieran pendientes.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Document(collection = "response_archives")
+public class ArchiveManifest {
+    @Id
+    private String surveyId;
+    private Instant archivedAt;
+    private long rowCount;
+    private Instant firstSubmittedAt;
+    private Instant lastSubmittedAt;
+    private List<Segment> segments = new ArrayList<>();
+    private List<QuestionSummary> questions = new ArrayList<>();
+    @JsonIgnore
+    private String leaseOwner;
+    @JsonIgnore
+    private Instant leaseUntil;
+    @JsonIgnore
+    private List<String> pendingDeletes;
+
+    /**
+     * Archivo de segmento con un bloque de respuestas ordenadas por fecha de envío.
+     */
+    public static class Segment {
+        private String file;
+        private int rows;
+        private long bytes;
+        private Instant firstSubmittedAt;
+        private Instant lastSubmittedAt;
+
+        public String getFile() { return file; }
+        public void setFile(String file) { this.file = file; }
+
+        public int getRows() { return rows; }
+        public void setRows(int rows) { this.rows = rows; }
+
+        public long getBytes() { return bytes; }
+        public void setBytes(long bytes) { this.bytes = bytes; }
+
+        public Instant getFirstSubmittedAt() { return firstSubmittedAt; }
+        public void setFirstSubmittedAt(Instant firstSubmittedAt) { this.firstSubmittedAt = firstSubmittedAt; }
+
+        public Instant getLastSubmittedAt() { return lastSubmittedAt; }
+        public void setLastSubmittedAt(Instant lastSubmittedAt) { this.lastSubmittedAt = lastSubmittedAt; }
+    }
+
+    /**
+     * Analíticas de una pregunta: cuántas respuestas la contestaron, el promedio
+     * de las respuestas numéricas y los valores más frecuentes. La suma, la
+     * cantidad de numéricas y las frecuencias de todos los valores contados
+     * permiten sumar las analíticas de nuevos segmentos sin releer los anteriores.
+     */
+    public static class QuestionSummary {
+        private String questionId;
+        private long answered;
+        private Double average;
+        private List<ValueCount> topValues = new ArrayList<>();
+        @JsonIgnore
+        private long numericCount;
+        @JsonIgnore
+        private double numericSum;
+        @JsonIgnore
+        private List<ValueCount> values;
+
+        public String getQuestionId() { return questionId; }
+        public void setQuestionId(String questionId) { this.questionId = questionId; }
+
+        public long getAnswered() { return answered; }
+        public void setAnswered(long answered) { this.answered = answered; }
+
+        public Double getAverage() { return average; }
+        public void setAverage(Double average) { this.average = average; }
+
+        public List<ValueCount> getTopValues() { return topValues; }
+        public void setTopValues(List<ValueCount> topValues) { this.topValues = topValues; }
+
+        public long getNumericCount() { return numericCount; }
+        public void setNumericCount(long numericCount) { this.numericCount = numericCount; }
+
+        public double getNumericSum() { return numericSum; }
+        public void setNumericSum(double numericSum) { this.numericSum = numericSum; }
+
+        public List<ValueCount> getValues() { return values; }
+        public void setValues(List<ValueCount> values) { this.values = values; }
+    }
+
+    /**
+     * Valor de respuesta y cantidad de veces que se eligió.
+     */
+    public static class ValueCount {
+        private String value;
+        private long count;
+
+        public String getValue() { return value; }
+        public void setValue(String value) { this.value = value; }
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+    }
+
+    // Getters y Setters
+    public String getSurveyId() { return surveyId; }
+    public void setSurveyId(String surveyId) { this.surveyId = surveyId; }
+
+    public Instant getArchivedAt() { return archivedAt; }
+    public void setArchivedAt(Instant archivedAt) { this.archivedAt = archivedAt; }
+
+    public long getRowCount() { return rowCount; }
+    public void setRowCount(long rowCount) { this.rowCount = rowCount; }
+
+    public Instant getFirstSubmittedAt() { return firstSubmittedAt; }
+    public void setFirstSubmittedAt(Instant firstSubmittedAt) { this.firstSubmittedAt = firstSubmittedAt; }
+
+    public Instant getLastSubmittedAt() { return lastSubmittedAt; }
+    public void setLastSubmittedAt(Instant lastSubmittedAt) { this.lastSubmittedAt = lastSubmittedAt; }
+
+    public List<Segment> getSegments() { return segments; }
+    public void setSegments(List<Segment> segments) { this.segments = segments; }
+
+    public List<QuestionSummary> getQuestions() { return questions; }
+    public void setQuestions(List<QuestionSummary> questions) { this.questions = questions; }
+
+    public String getLeaseOwner() { return leaseOwner; }
+    public void setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; }
+
+    public Instant getLeaseUntil() { return leaseUntil; }
+    public void setLeaseUntil(Instant leaseUntil) { this.leaseUntil = leaseUntil; }
+
+    public List<String> getPendingDeletes() { return pendingDeletes; }
+    public void setPendingDeletes(List<String> pendingDeletes) { this.pendingDeletes = pendingDeletes; }
+}
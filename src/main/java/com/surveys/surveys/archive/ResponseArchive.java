@@ -0,0 +1,265 @@
+package com.surveys.surveys.archive;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.surveys.surveys.answers.AnswerSchema;
+import com.surveys.surveys.answers.AnswerSchemas;
+import com.surveys.surveys.model.Response;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Lectura de las respuestas archivadas en disco por {@link ResponseArchiver}.
+ *
+ * <p>Cada encuesta archivada tiene un directorio con sus segmentos y un
+ * {@link ArchiveManifest} en MongoDB. Las lecturas usan el manifiesto para
+ * abrir solo los segmentos necesarios: los que se solapan con un rango de
+ * fechas, los que contienen una posición de la paginación o los más recientes.
+ * Las respuestas leídas de un segmento se tipan con el esquema actual de la
+ * encuesta.
+ *
+ * <p>{@code surveys.archive.directory} debe ser un almacenamiento compartido
+ * por todas las instancias (un volumen de red): el manifiesto está en MongoDB y
+ * cualquier instancia puede tener que leer o borrar los segmentos que escribió otra.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ResponseArchive {
+
+    private static final Comparator<Response> BY_SUBMITTED_AT = Comparator
+        .comparing(Response::getSubmittedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Response::getId);
+
+    private final MongoTemplate mongoTemplate;
+    private final AnswerSchemas answerSchemas;
+    private final Path directory;
+    private final Cache<String, Optional<ArchiveManifest>> manifests;
+
+    public ResponseArchive(MongoTemplate mongoTemplate, AnswerSchemas answerSchemas,
+                           @Value("${surveys.archive.directory:archive}") String directory) {
+        this.mongoTemplate = mongoTemplate;
+        this.answerSchemas = answerSchemas;
+        this.directory = Paths.get(directory);
+        // Caducidad corta para ver los archivos creados por otras instancias
+        this.manifests = CacheBuilder.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+    }
+
+    /**
+     * Manifiesto del archivo de una encuesta, si tiene respuestas archivadas.
+     */
+    public Optional<ArchiveManifest> getManifest(String surveyId) {
+        try {
+            // Un manifiesto sin segmentos solo guarda la reserva del archivador
+            return manifests.get(surveyId,
+                () -> Optional.ofNullable(mongoTemplate.findById(surveyId, ArchiveManifest.class))
+                    .filter(manifest -> !manifest.getSegments().isEmpty()));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("No se pudo leer el manifiesto de " + surveyId, e.getCause());
+        }
+    }
+
+    public boolean isArchived(String surveyId) {
+        return getManifest(surveyId).isPresent();
+    }
+
+    public long count(String surveyId) {
+        return getManifest(surveyId).map(ArchiveManifest::getRowCount).orElse(0L);
+    }
+
+    /**
+     * Fecha de envío de la última respuesta archivada de una encuesta, si tiene archivo.
+     */
+    public Optional<Instant> lastArchivedAt(String surveyId) {
+        return getManifest(surveyId).map(ArchiveManifest::getLastSubmittedAt);
+    }
+
+    /**
+     * Respuestas archivadas enviadas estrictamente entre {@code from} y {@code to},
+     * en orden de envío. Los extremos nulos dejan el rango abierto.
+     */
+    public List<Response> find(String surveyId, Instant from, Instant to) {
+        List<Response> found = new ArrayList<>();
+        for (ArchiveManifest.Segment segment : segments(surveyId)) {
+            if (!overlaps(segment, from, to)) {
+                continue;
+            }
+            for (Response response : readSegment(surveyId, segment)) {
+                Instant submittedAt = response.getSubmittedAt();
+                if ((from == null || (submittedAt != null && submittedAt.isAfter(from)))
+                        && (to == null || (submittedAt != null && submittedAt.isBefore(to)))) {
+                    found.add(response);
+                }
+            }
+        }
+        found.sort(BY_SUBMITTED_AT);
+        return found;
+    }
+
+    /**
+     * Hasta {@code limit} respuestas archivadas a partir de la posición {@code offset}.
+     * Los segmentos anteriores a la posición se saltan sin abrirlos.
+     */
+    public List<Response> read(String surveyId, long offset, int limit) {
+        List<Response> rows = new ArrayList<>();
+        long position = 0;
+        for (ArchiveManifest.Segment segment : segments(surveyId)) {
+            if (rows.size() >= limit) {
+                break;
+            }
+            if (position + segment.getRows() <= offset) {
+                position += segment.getRows();
+                continue;
+            }
+            List<Response> segmentRows = readSegment(surveyId, segment);
+            int start = (int) Math.max(0, offset - position);
+            int end = Math.min(segmentRows.size(), start + limit - rows.size());
+            rows.addAll(segmentRows.subList(start, end));
+            position += segment.getRows();
+        }
+        return rows;
+    }
+
+    /**
+     * Últimas respuestas archivadas, de la más reciente a la más antigua. Los
+     * segmentos se abren por fecha de su última respuesta hasta que ninguno de
+     * los restantes puede aportar una más reciente.
+     */
+    public List<Response> latest(String surveyId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<ArchiveManifest.Segment> segments = new ArrayList<>(segments(surveyId));
+        segments.sort(Comparator.comparing(ArchiveManifest.Segment::getLastSubmittedAt,
+            Comparator.nullsFirst(Comparator.naturalOrder())).reversed());
+        List<Response> latest = new ArrayList<>();
+        for (ArchiveManifest.Segment segment : segments) {
+            if (latest.size() >= limit && segment.getLastSubmittedAt() != null
+                    && latest.get(limit - 1).getSubmittedAt() != null
+                    && !segment.getLastSubmittedAt().isAfter(latest.get(limit - 1).getSubmittedAt())) {
+                break;
+            }
+            latest.addAll(readSegment(surveyId, segment));
+            latest.sort(BY_SUBMITTED_AT.reversed());
+            if (latest.size() > limit) {
+                latest.subList(limit, latest.size()).clear();
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Identificadores de {@code responses} que también están en el archivo, como
+     * las respuestas que quedan en MongoDB si el archivador se interrumpe antes de
+     * borrarlas. Solo se leen los identificadores de los segmentos cuyo rango de
+     * fechas contiene alguna de las respuestas.
+     */
+    public Set<String> archivedIds(String surveyId, List<Response> responses) {
+        Set<String> archived = new HashSet<>();
+        if (responses.isEmpty()) {
+            return archived;
+        }
+        Set<String> ids = new HashSet<>();
+        responses.forEach(response -> ids.add(response.getId()));
+        for (ArchiveManifest.Segment segment : segments(surveyId)) {
+            if (responses.stream().anyMatch(response -> contains(segment, response.getSubmittedAt()))) {
+                readIds(surveyId, segment).stream().filter(ids::contains).forEach(archived::add);
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * Elimina el archivo de una encuesta: sus segmentos en disco y su manifiesto.
+     *
+     * @return cantidad de respuestas que contenía el archivo
+     */
+    public long delete(String surveyId) {
+        ArchiveManifest manifest = mongoTemplate.findById(surveyId, ArchiveManifest.class);
+        Path surveyDirectory = surveyDirectory(surveyId);
+        if (Files.isDirectory(surveyDirectory)) {
+            try (Stream<Path> files = Files.walk(surveyDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo eliminar el archivo de " + surveyId, e);
+            }
+        }
+        if (manifest == null) {
+            return 0;
+        }
+        mongoTemplate.remove(manifest);
+        manifests.invalidate(surveyId);
+        return manifest.getRowCount();
+    }
+
+    Path surveyDirectory(String surveyId) {
+        return directory.resolve(surveyId);
+    }
+
+    List<Response> readSegment(String surveyId, ArchiveManifest.Segment segment) {
+        List<Response> rows;
+        try {
+            rows = ResponseSegment.read(surveyDirectory(surveyId).resolve(segment.getFile()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el segmento " + segment.getFile() + " de " + surveyId, e);
+        }
+        AnswerSchema schema = answerSchemas.forSurvey(surveyId);
+        rows.forEach(schema::type);
+        return rows;
+    }
+
+    List<String> readIds(String surveyId, ArchiveManifest.Segment segment) {
+        try {
+            return ResponseSegment.readIds(surveyDirectory(surveyId).resolve(segment.getFile()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el segmento " + segment.getFile() + " de " + surveyId, e);
+        }
+    }
+
+    void invalidate(String surveyId) {
+        manifests.invalidate(surveyId);
+    }
+
+    private List<ArchiveManifest.Segment> segments(String surveyId) {
+        return getManifest(surveyId).map(ArchiveManifest::getSegments).orElse(List.of());
+    }
+
+    private static boolean contains(ArchiveManifest.Segment segment, Instant submittedAt) {
+        if (submittedAt == null || segment.getFirstSubmittedAt() == null || segment.getLastSubmittedAt() == null) {
+            return true;
+        }
+        return !submittedAt.isBefore(segment.getFirstSubmittedAt()) && !submittedAt.isAfter(segment.getLastSubmittedAt());
+    }
+
+    private static boolean overlaps(ArchiveManifest.Segment segment, Instant from, Instant to) {
+        if (segment.getFirstSubmittedAt() == null || segment.getLastSubmittedAt() == null) {
+            return true;
+        }
+        return (from == null || segment.getLastSubmittedAt().isAfter(from))
+            && (to == null || segment.getFirstSubmittedAt().isBefore(to));
+    }
+}
@@ -0,0 +1,379 @@
+package com.surveys.surveys.archive;
+
+import com.mongodb.client.result.UpdateResult;
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.partitioning.ResponsePartitions;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Mueve a disco las respuestas de las encuestas cerradas hace más de
+ * {@code surveys.archive.closed-for}.
+ *
+ * <p>El cron corre en todas las instancias. Antes de archivar una encuesta, la
+ * ejecución la reserva con una actualización atómica de su manifiesto que solo
+ * tiene éxito si nadie más la tiene reservada o si la reserva venció
+ * ({@code surveys.archive.lease}); la reserva se renueva con cada segmento y
+ * mientras se releen segmentos anteriores. Los segmentos van a
+ * {@code surveys.archive.directory}, que debe ser compartido por todas las
+ * instancias (ver {@link ResponseArchive}).
+ *
+ * <p>Las respuestas de cada encuesta se recorren con un cursor y se escriben en
+ * segmentos columnares de {@code surveys.archive.segment-size} filas, cada uno
+ * con un nombre único. Cada segmento se lee de vuelta para verificarlo y sumar
+ * sus analíticas a las ya guardadas, se agrega al manifiesto con {@code $push}
+ * (solo si la reserva sigue siendo de esta ejecución) marcado como pendiente de
+ * borrado, y se borran sus respuestas de MongoDB antes de empezar el siguiente,
+ * así que la memoria usada depende del tamaño del segmento y no de la encuesta.
+ * Si la ejecución se interrumpe antes del manifiesto, la siguiente borra los
+ * segmentos huérfanos; si se interrumpe después, la siguiente borra las
+ * respuestas de los segmentos que siguen pendientes. Las respuestas que lleguen
+ * después de archivar se agregan en nuevos segmentos.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ResponseArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseArchiver.class);
+    private static final int DELETE_BATCH = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final ResponseArchive archive;
+    private final ResponsePartitions partitions;
+    private final boolean enabled;
+    private final Duration closedFor;
+    private final int segmentSize;
+    private final Duration lease;
+
+    public ResponseArchiver(MongoTemplate mongoTemplate, ResponseArchive archive, ResponsePartitions partitions,
+                            @Value("${surveys.archive.enabled:false}") boolean enabled,
+                            @Value("${surveys.archive.closed-for:P30D}") Duration closedFor,
+                            @Value("${surveys.archive.segment-size:5000}") int segmentSize,
+                            @Value("${surveys.archive.lease:PT10M}") Duration lease) {
+        this.mongoTemplate = mongoTemplate;
+        this.archive = archive;
+        this.partitions = partitions;
+        this.enabled = enabled;
+        this.closedFor = closedFor;
+        this.segmentSize = segmentSize;
+        this.lease = lease;
+    }
+
+    @Scheduled(cron = "${surveys.archive.cron:0 0 4 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int archived = archiveDue();
+            if (archived > 0) {
+                log.info("Respuestas archivadas de {} encuestas cerradas", archived);
+            }
+        } catch (RuntimeException e) {
+            log.warn("No se pudo ejecutar el archivo de respuestas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archiva las respuestas de todas las encuestas cerradas antes del plazo configurado.
+     * Las encuestas cerradas antes de que existiera {@code closedAt} usan {@code modifiedAt}.
+     *
+     * @return cantidad de encuestas con respuestas archivadas en esta ejecución
+     */
+    public int archiveDue() {
+        Instant cutoff = Instant.now().minus(closedFor);
+        Query query = new Query(Criteria.where("status").is(SurveyStatus.CERRADA).orOperator(
+            Criteria.where("closedAt").lt(cutoff),
+            Criteria.where("closedAt").is(null).and("modifiedAt").lt(cutoff)));
+        query.fields().include("_id");
+        int archived = 0;
+        for (Survey survey : mongoTemplate.find(query, Survey.class)) {
+            try {
+                if (archive(survey.getId()) > 0) {
+                    archived++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("No se pudieron archivar las respuestas de la encuesta {}", survey.getId(), e);
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * Archiva las respuestas de una encuesta que siguen en MongoDB. Si otra
+     * ejecución tiene reservada la encuesta no hace nada.
+     *
+     * @return cantidad de respuestas archivadas
+     */
+    public int archive(String surveyId) {
+        List<String> collections = partitions.responseCollections();
+        Query bySurvey = new Query(Criteria.where("surveyId").is(surveyId));
+        if (collections.stream().noneMatch(collection -> mongoTemplate.exists(bySurvey, collection))) {
+            return 0;
+        }
+        String owner = new ObjectId().toHexString();
+        ArchiveManifest manifest = claim(surveyId, owner);
+        if (manifest == null) {
+            log.info("Encuesta {}: el archivo lo está ejecutando otra instancia", surveyId);
+            return 0;
+        }
+        try {
+            return archive(manifest, owner, collections, bySurvey);
+        } finally {
+            release(surveyId, owner);
+        }
+    }
+
+    private int archive(ArchiveManifest manifest, String owner, List<String> collections, Query bySurvey) {
+        String surveyId = manifest.getSurveyId();
+        Path directory = archive.surveyDirectory(surveyId);
+        removeOrphanSegments(manifest, directory);
+        removePending(manifest, owner, collections);
+
+        ArchiveAnalytics analytics = analytics(manifest, owner);
+        List<Response> buffer = new ArrayList<>(segmentSize);
+        int archived = 0;
+        int segments = 0;
+        try {
+            Files.createDirectories(directory);
+            Query query = Query.of(bySurvey).with(Sort.by(Sort.Direction.ASC, "submittedAt", "_id"));
+            for (String collection : collections) {
+                try (Stream<Response> rows = mongoTemplate.stream(query, Response.class, collection)) {
+                    Iterator<Response> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        buffer.add(iterator.next());
+                        if (buffer.size() == segmentSize) {
+                            archived += archiveSegment(manifest, owner, directory, buffer, analytics, collections);
+                            segments++;
+                        }
+                    }
+                }
+            }
+            if (!buffer.isEmpty()) {
+                archived += archiveSegment(manifest, owner, directory, buffer, analytics, collections);
+                segments++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir el archivo de " + surveyId, e);
+        }
+        if (segments > 0) {
+            log.info("Encuesta {}: {} respuestas archivadas en {} segmentos", surveyId, archived, segments);
+        }
+        return archived;
+    }
+
+    /**
+     * Analíticas ya guardadas en el manifiesto. Si no tiene frecuencias
+     * guardadas se recalculan una vez desde todos sus segmentos, renovando la
+     * reserva después de cada uno.
+     */
+    private ArchiveAnalytics analytics(ArchiveManifest manifest, String owner) {
+        return ArchiveAnalytics.resume(manifest).orElseGet(() -> {
+            ArchiveAnalytics rebuilt = new ArchiveAnalytics();
+            for (ArchiveManifest.Segment segment : manifest.getSegments()) {
+                archive.readSegment(manifest.getSurveyId(), segment).forEach(rebuilt::accept);
+                renew(manifest.getSurveyId(), owner);
+            }
+            return rebuilt;
+        });
+    }
+
+    /**
+     * Escribe un segmento con las filas del búfer y lo lee de vuelta para
+     * verificarlo y sumar sus analíticas. Luego lo agrega al manifiesto como
+     * pendiente de borrado, borra sus respuestas de MongoDB y quita la marca,
+     * así que en memoria solo quedan los identificadores de un segmento.
+     *
+     * @return cantidad de respuestas archivadas
+     */
+    private int archiveSegment(ArchiveManifest manifest, String owner, Path directory, List<Response> rows,
+                               ArchiveAnalytics analytics, List<String> collections) throws IOException {
+        String surveyId = manifest.getSurveyId();
+        List<ObjectId> ids = new ArrayList<>(rows.size());
+        ArchiveManifest.Segment segment = writeSegment(directory, surveyId, rows, ids);
+        archive.readSegment(surveyId, segment).forEach(analytics::accept);
+        analytics.applyTo(manifest);
+        append(manifest, owner, segment);
+
+        remove(ids, collections);
+        mongoTemplate.updateFirst(leasedBy(surveyId, owner), new Update().pull("pendingDeletes", segment.getFile()),
+            ArchiveManifest.class);
+        return ids.size();
+    }
+
+    /**
+     * Reserva la encuesta para esta ejecución; crea el manifiesto si no existe.
+     *
+     * @return el manifiesto reservado, o {@code null} si otra ejecución tiene la reserva vigente
+     */
+    private ArchiveManifest claim(String surveyId, String owner) {
+        Instant now = Instant.now();
+        Query free = new Query(Criteria.where("_id").is(surveyId).orOperator(
+            Criteria.where("leaseUntil").is(null),
+            Criteria.where("leaseUntil").lt(now)));
+        Update update = new Update()
+            .set("leaseOwner", owner)
+            .set("leaseUntil", now.plus(lease))
+            .setOnInsert("rowCount", 0L)
+            .setOnInsert("segments", List.of())
+            .setOnInsert("pendingDeletes", List.of())
+            .setOnInsert("questions", List.of());
+        try {
+            return mongoTemplate.findAndModify(free, update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true), ArchiveManifest.class);
+        } catch (DuplicateKeyException e) {
+            // El manifiesto existe y su reserva sigue vigente
+            return null;
+        }
+    }
+
+    private void renew(String surveyId, String owner) {
+        UpdateResult result = mongoTemplate.updateFirst(leasedBy(surveyId, owner),
+            new Update().set("leaseUntil", Instant.now().plus(lease)), ArchiveManifest.class);
+        if (result.getMatchedCount() == 0) {
+            throw new IllegalStateException("La reserva del archivo de " + surveyId + " venció y la tomó otra instancia");
+        }
+    }
+
+    private void release(String surveyId, String owner) {
+        mongoTemplate.updateFirst(leasedBy(surveyId, owner),
+            new Update().unset("leaseOwner").unset("leaseUntil"), ArchiveManifest.class);
+    }
+
+    /**
+     * Agrega un segmento nuevo al manifiesto, marcado como pendiente de borrado,
+     * junto con las analíticas actualizadas, siempre que la reserva siga siendo
+     * de esta ejecución; también renueva la reserva.
+     */
+    private void append(ArchiveManifest manifest, String owner, ArchiveManifest.Segment segment) {
+        Instant now = Instant.now();
+        Update update = new Update()
+            .push("segments", segment)
+            .push("pendingDeletes", segment.getFile())
+            .set("rowCount", manifest.getRowCount())
+            .set("firstSubmittedAt", manifest.getFirstSubmittedAt())
+            .set("lastSubmittedAt", manifest.getLastSubmittedAt())
+            .set("questions", manifest.getQuestions())
+            .set("archivedAt", now)
+            .set("leaseUntil", now.plus(lease));
+        UpdateResult result = mongoTemplate.updateFirst(leasedBy(manifest.getSurveyId(), owner), update,
+            ArchiveManifest.class);
+        archive.invalidate(manifest.getSurveyId());
+        if (result.getMatchedCount() == 0) {
+            // El segmento escrito queda huérfano y lo borra la próxima ejecución
+            throw new IllegalStateException(
+                "La reserva del archivo de " + manifest.getSurveyId() + " venció y la tomó otra instancia");
+        }
+    }
+
+    private static Query leasedBy(String surveyId, String owner) {
+        return new Query(Criteria.where("_id").is(surveyId).and("leaseOwner").is(owner));
+    }
+
+    private ArchiveManifest.Segment writeSegment(Path directory, String surveyId, List<Response> rows,
+                                                 List<ObjectId> archivedIds) throws IOException {
+        // Nombre único: una ejecución cuya reserva venció no pisa los archivos de otra
+        String file = "segment-" + new ObjectId().toHexString() + ".col.gz";
+        ArchiveManifest.Segment segment = new ArchiveManifest.Segment();
+        segment.setFile(file);
+        segment.setRows(rows.size());
+        segment.setBytes(ResponseSegment.write(directory.resolve(file), surveyId, rows));
+        for (Response row : rows) {
+            Instant submittedAt = row.getSubmittedAt();
+            if (submittedAt != null) {
+                if (segment.getFirstSubmittedAt() == null || submittedAt.isBefore(segment.getFirstSubmittedAt())) {
+                    segment.setFirstSubmittedAt(submittedAt);
+                }
+                if (segment.getLastSubmittedAt() == null || submittedAt.isAfter(segment.getLastSubmittedAt())) {
+                    segment.setLastSubmittedAt(submittedAt);
+                }
+            }
+            archivedIds.add(new ObjectId(row.getId()));
+        }
+        rows.clear();
+        return segment;
+    }
+
+    /**
+     * Borra los archivos del directorio de la encuesta que no figuran en el
+     * manifiesto: segmentos de ejecuciones interrumpidas o cuya reserva venció.
+     */
+    private void removeOrphanSegments(ArchiveManifest manifest, Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Set<String> referenced = new HashSet<>();
+        manifest.getSegments().forEach(segment -> referenced.add(segment.getFile()));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                if (!referenced.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudieron borrar los segmentos huérfanos de " + manifest.getSurveyId(), e);
+        }
+    }
+
+    /**
+     * Borra las respuestas de los segmentos con borrado pendiente; quedan en
+     * MongoDB si una ejecución anterior se interrumpió entre el manifiesto y el
+     * borrado. Solo se leen los identificadores de esos segmentos, salvo en los
+     * manifiestos anteriores a {@code pendingDeletes}, que se revisan completos una vez.
+     */
+    private void removePending(ArchiveManifest manifest, String owner, List<String> collections) {
+        List<String> pending = manifest.getPendingDeletes();
+        if (pending != null && pending.isEmpty()) {
+            return;
+        }
+        String surveyId = manifest.getSurveyId();
+        for (ArchiveManifest.Segment segment : manifest.getSegments()) {
+            if (pending == null || pending.contains(segment.getFile())) {
+                List<ObjectId> ids = new ArrayList<>(segment.getRows());
+                archive.readIds(surveyId, segment).forEach(id -> ids.add(new ObjectId(id)));
+                remove(ids, collections);
+                renew(surveyId, owner);
+            }
+        }
+        mongoTemplate.updateFirst(leasedBy(surveyId, owner), new Update().set("pendingDeletes", List.of()),
+            ArchiveManifest.class);
+    }
+
+    private void remove(List<ObjectId> ids, List<String> collections) {
+        for (int from = 0; from < ids.size(); from += DELETE_BATCH) {
+            Query query = new Query(Criteria.where("_id").in(ids.subList(from, Math.min(ids.size(), from + DELETE_BATCH))));
+            for (String collection : collections) {
+                mongoTemplate.remove(query, collection);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.surveys.surveys.archive;
+
+import com.mongodb.MongoClientSettings;
+import com.surveys.surveys.answers.AnswerValue;
+import com.surveys.surveys.model.Response;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Formato columnar comprimido de un segmento de respuestas archivadas.
+ *
+ * <p>El archivo es un flujo gzip con una cabecera y una columna por campo:
+ * los {@code _id} como 12 bytes cada uno, {@code submittedAt} en milisegundos
+ * y, por cada pregunta, un documento BSON con la respuesta de cada fila
+ * ({@code null} si la fila no la contestó) en su forma legible
+ * ({@link AnswerValue#toPlain()}), de modo que el segmento no depende de las
+ * opciones de la encuesta. Guardar los valores de una pregunta
+ * juntos comprime mucho mejor que documentos completos, y permite leer solo los
+ * identificadores sin decodificar las respuestas.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ResponseSegment {
+
+    private static final int MAGIC = 0x53524553; // "SRES"
+    private static final short FORMAT_VERSION = 1;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final DocumentCodec CODEC = new DocumentCodec(MongoClientSettings.getDefaultCodecRegistry());
+
+    private ResponseSegment() {
+        // Clase utilitaria
+    }
+
+    /**
+     * Escribe las respuestas de una encuesta en un segmento. El archivo se escribe
+     * aparte, se sincroniza con el disco y luego se mueve a su nombre definitivo.
+     *
+     * @return tamaño del archivo en bytes
+     */
+    static long write(Path path, String surveyId, List<Response> rows) throws IOException {
+        Map<String, Object[]> columns = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            for (Response.Answer answer : rows.get(i).getAnswers()) {
+                columns.computeIfAbsent(answer.getQuestionId(), key -> new Object[rows.size()])[i] =
+                    answer.getAnswer() == null ? null : answer.getAnswer().toPlain();
+            }
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            BufferedOutputStream buffered = new BufferedOutputStream(file);
+            GZIPOutputStream gzip = new GZIPOutputStream(buffered);
+            DataOutputStream out = new DataOutputStream(gzip);
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeUTF(surveyId);
+            out.writeInt(rows.size());
+            for (Response row : rows) {
+                out.write(new ObjectId(row.getId()).toByteArray());
+            }
+            for (Response row : rows) {
+                out.writeLong(row.getSubmittedAt() != null ? row.getSubmittedAt().toEpochMilli() : NO_TIMESTAMP);
+            }
+            out.writeInt(columns.size());
+            for (Map.Entry<String, Object[]> column : columns.entrySet()) {
+                out.writeUTF(column.getKey());
+                byte[] values = encode(new Document("v", Arrays.asList(column.getValue())));
+                out.writeInt(values.length);
+                out.write(values);
+            }
+            out.flush();
+            gzip.finish();
+            buffered.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(path);
+    }
+
+    /**
+     * Lee todas las filas del segmento, con las respuestas de cada una en el orden de las columnas.
+     */
+    @SuppressWarnings("unchecked")
+    static List<Response> read(Path path) throws IOException {
+        try (DataInputStream in = open(path)) {
+            String surveyId = readHeader(in, path);
+            int rowCount = in.readInt();
+            List<Response> rows = new ArrayList<>(rowCount);
+            for (String id : readIds(in, rowCount)) {
+                Response row = new Response();
+                row.setId(id);
+                row.setSurveyId(surveyId);
+                rows.add(row);
+            }
+            for (Response row : rows) {
+                long millis = in.readLong();
+                row.setSubmittedAt(millis != NO_TIMESTAMP ? Instant.ofEpochMilli(millis) : null);
+            }
+            int columnCount = in.readInt();
+            for (int c = 0; c < columnCount; c++) {
+                String questionId = in.readUTF();
+                byte[] raw = new byte[in.readInt()];
+                in.readFully(raw);
+                List<Object> values = (List<Object>) new RawBsonDocument(raw).decode(CODEC).get("v");
+                for (int i = 0; i < rowCount; i++) {
+                    if (values.get(i) != null) {
+                        Response.Answer answer = new Response.Answer();
+                        answer.setQuestionId(questionId);
+                        answer.setAnswer(AnswerValue.untyped(values.get(i)));
+                        rows.get(i).getAnswers().add(answer);
+                    }
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * Lee solo la columna de identificadores.
+     */
+    static List<String> readIds(Path path) throws IOException {
+        try (DataInputStream in = open(path)) {
+            readHeader(in, path);
+            return readIds(in, in.readInt());
+        }
+    }
+
+    private static List<String> readIds(DataInputStream in, int rowCount) throws IOException {
+        List<String> ids = new ArrayList<>(rowCount);
+        byte[] id = new byte[12];
+        for (int i = 0; i < rowCount; i++) {
+            in.readFully(id);
+            ids.add(new ObjectId(id).toHexString());
+        }
+        return ids;
+    }
+
+    private static DataInputStream open(Path path) throws IOException {
+        InputStream file = Files.newInputStream(path);
+        return new DataInputStream(new GZIPInputStream(new BufferedInputStream(file)));
+    }
+
+    private static String readHeader(DataInputStream in, Path path) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("No es un segmento de respuestas: " + path);
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Versión de segmento no soportada " + version + ": " + path);
+        }
+        return in.readUTF();
+    }
+
+    private static byte[] encode(Document document) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            CODEC.encode(writer, document, EncoderContext.builder().build());
+        }
+        return buffer.toByteArray();
+    }
+}
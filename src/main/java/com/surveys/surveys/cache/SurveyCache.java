@@ -0,0 +1,138 @@
+package com.surveys.surveys.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.surveys.surveys.dto.SurveySummary;
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.model.Survey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Caché de lectura para las encuestas más consultadas.
+ *
+ * <p>Guarda encuestas individuales por ID y el resumen de encuestas publicadas,
+ * con expiración por tamaño y por tiempo. Las entradas se invalidan al recibir
+ * un {@link SurveyChangedEvent}, de modo que cualquier escritura en
+ * {@code SurveyServicesImpl} se refleja en la siguiente lectura.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SurveyCache {
+
+    private final boolean enabled;
+    private final Cache<String, Optional<Survey>> surveysById;
+    private final Cache<SurveyStatus, List<SurveySummary>> surveysByStatus;
+
+    public SurveyCache(
+            @Value("${surveys.cache.enabled:true}") boolean enabled,
+            @Value("${surveys.cache.maximum-size:1000}") long maximumSize,
+            @Value("${surveys.cache.ttl:PT5M}") Duration ttl) {
+        this.enabled = enabled;
+        this.surveysById = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.surveysByStatus = CacheBuilder.newBuilder()
+            .maximumSize(SurveyStatus.values().length)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Obtiene una encuesta por ID, cargándola con {@code loader} si no está en caché.
+     * Los resultados vacíos también se guardan para evitar consultas repetidas.
+     */
+    public Optional<Survey> getSurvey(String id, Supplier<Optional<Survey>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return load(surveysById, id, loader);
+    }
+
+    /**
+     * Obtiene el resumen de las encuestas con el estado dado, cargándolo si es necesario.
+     */
+    public List<SurveySummary> getSummariesByStatus(SurveyStatus status, Supplier<List<SurveySummary>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return load(surveysByStatus, status, loader);
+    }
+
+    /**
+     * Invalida la encuesta modificada y todos los listados que podrían contenerla.
+     */
+    @EventListener
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        if (event.getSurveyId() != null) {
+            surveysById.invalidate(event.getSurveyId());
+        }
+        surveysByStatus.invalidateAll();
+    }
+
+    /**
+     * Vacía todas las entradas de la caché.
+     */
+    public void invalidateAll() {
+        surveysById.invalidateAll();
+        surveysByStatus.invalidateAll();
+    }
+
+    /**
+     * Obtiene las estadísticas de uso (aciertos y tiempos de carga) de cada caché.
+     */
+    public Map<String, Map<String, Object>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+        statistics.put("surveysById", describe(surveysById.stats(), surveysById.size()));
+        statistics.put("surveysByStatus", describe(surveysByStatus.stats(), surveysByStatus.size()));
+        return statistics;
+    }
+
+    static <K, V> V load(Cache<K, V> cache, K key, Supplier<V> loader) {
+        try {
+            return cache.get(key, loader::get);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    static Map<String, Object> describe(CacheStats stats, long size) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("size", size);
+        values.put("requestCount", stats.requestCount());
+        values.put("hitCount", stats.hitCount());
+        values.put("missCount", stats.missCount());
+        values.put("hitRate", stats.hitRate());
+        values.put("loadCount", stats.loadCount());
+        values.put("loadExceptionCount", stats.loadExceptionCount());
+        values.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        values.put("totalLoadTimeMillis", stats.totalLoadTime() / 1_000_000.0);
+        values.put("evictionCount", stats.evictionCount());
+        return values;
+    }
+}
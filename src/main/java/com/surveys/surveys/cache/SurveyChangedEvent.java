@@ -0,0 +1,20 @@
+package com.surveys.surveys.cache;
+
+/**
+ * Evento publicado cuando una encuesta se crea, modifica o elimina.
+ * Los componentes que mantienen copias en memoria lo usan para invalidarlas.
+ * 
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SurveyChangedEvent {
+
+    private final String surveyId;
+
+    public SurveyChangedEvent(String surveyId) {
+        this.surveyId = surveyId;
+    }
+
+    public String getSurveyId() { return surveyId; }
+}
@@ -0,0 +1,86 @@
+package com.surveys.surveys.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.surveys.surveys.model.Survey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Caché de vistas públicas pre-serializadas de encuestas publicadas.
+ *
+ * <p>Evita volver a serializar la encuesta completa en cada visita a
+ * {@code /api/surveys/{id}/view}. Se invalida con {@link SurveyChangedEvent}
+ * igual que {@link SurveyCache}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SurveyViewCache {
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Optional<SurveyViewSnapshot>> snapshots;
+
+    public SurveyViewCache(
+            ObjectMapper objectMapper,
+            @Value("${surveys.view.preserialized:true}") boolean enabled,
+            @Value("${surveys.cache.maximum-size:1000}") long maximumSize,
+            @Value("${surveys.cache.ttl:PT5M}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.snapshots = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /**
+     * Obtiene la vista serializada de la encuesta; {@code loader} solo se invoca
+     * cuando no existe una vista vigente y debe devolver la encuesta publicada.
+     */
+    public Optional<SurveyViewSnapshot> getSnapshot(String id, Supplier<Optional<Survey>> loader) {
+        Optional<SurveyViewSnapshot> snapshot = load(id, loader);
+        if (snapshot.isPresent() && snapshot.get().isExpired(Instant.now())) {
+            snapshots.invalidate(id);
+            snapshot = load(id, loader);
+        }
+        return snapshot;
+    }
+
+    @EventListener
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        if (event.getSurveyId() != null) {
+            snapshots.invalidate(event.getSurveyId());
+        }
+    }
+
+    public void invalidateAll() {
+        snapshots.invalidateAll();
+    }
+
+    /**
+     * Obtiene las estadísticas de uso de la caché de vistas.
+     */
+    public Map<String, Object> getStatistics() {
+        return SurveyCache.describe(snapshots.stats(), snapshots.size());
+    }
+
+    private Optional<SurveyViewSnapshot> load(String id, Supplier<Optional<Survey>> loader) {
+        return SurveyCache.load(snapshots, id,
+            () -> loader.get().map(survey -> SurveyViewSnapshot.of(survey, objectMapper)));
+    }
+}
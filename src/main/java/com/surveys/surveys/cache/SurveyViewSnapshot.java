@@ -0,0 +1,136 @@
+package com.surveys.surveys.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.surveys.surveys.model.Survey;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Vista pública de una encuesta ya serializada a JSON.
+ *
+ * <p>Se construye una sola vez por cada versión de la encuesta y guarda los
+ * bytes UTF-8 y su versión comprimida con gzip. El {@code ETag} es un hash de
+ * esos bytes, así que cambia con cualquier cambio visible de la encuesta aunque
+ * no haya actualizado {@code modifiedAt}; {@code Last-Modified} se toma de
+ * {@code modifiedAt}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SurveyViewSnapshot {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+    private final long lastModified;
+    private final Instant scheduledClose;
+
+    private SurveyViewSnapshot(byte[] json, byte[] gzip, String etag, long lastModified, Instant scheduledClose) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = "\"" + etag + "\"";
+        this.gzipEtag = "\"" + etag + "-gzip\"";
+        this.lastModified = lastModified;
+        this.scheduledClose = scheduledClose;
+    }
+
+    /**
+     * Serializa la encuesta con el {@link ObjectMapper} de la aplicación.
+     */
+    public static SurveyViewSnapshot of(Survey survey, ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(survey);
+            Instant modifiedAt = survey.getModifiedAt() != null ? survey.getModifiedAt() : Instant.EPOCH;
+            String etag = survey.getId() + "-" + Hashing.murmur3_128().hashBytes(json);
+            return new SurveyViewSnapshot(json, compress(json), etag, modifiedAt.toEpochMilli(), survey.getScheduledClose());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la encuesta " + survey.getId(), e);
+        }
+    }
+
+    /**
+     * Indica si la encuesta ya superó su cierre programado y la vista debe regenerarse.
+     */
+    public boolean isExpired(Instant now) {
+        return scheduledClose != null && now.isAfter(scheduledClose);
+    }
+
+    /**
+     * Construye la respuesta HTTP con los bytes ya serializados.
+     * Spring responde {@code 304 Not Modified} si las cabeceras condicionales coinciden.
+     */
+    public ResponseEntity<byte[]> toResponse(boolean acceptsGzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.noCache())
+            .lastModified(lastModified)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip) {
+            return builder.eTag(gzipEtag)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(gzip);
+        }
+        return builder.eTag(etag).body(json);
+    }
+
+    /**
+     * Indica si {@code Accept-Encoding} admite gzip: {@code gzip} (o {@code x-gzip})
+     * o, si no se nombra, {@code *}, en ambos casos con calidad mayor que 0.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        double wildcard = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = Math.max(gzip == null ? 0 : gzip, quality);
+            } else if (coding.equals("*")) {
+                wildcard = Math.max(wildcard, quality);
+            }
+        }
+        return (gzip != null ? gzip : wildcard) > 0;
+    }
+
+    public byte[] getJson() { return json; }
+    public byte[] getGzip() { return gzip; }
+    public String getEtag() { return etag; }
+    public long getLastModified() { return lastModified; }
+
+    private static byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+}
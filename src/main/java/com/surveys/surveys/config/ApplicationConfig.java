@@ -1,5 +1,6 @@
 package com.surveys.surveys.config;
 
+import com.surveys.surveys.diagnostics.UserLoadEvent;
 import com.surveys.surveys.repository.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +8,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -49,8 +51,23 @@ public class ApplicationConfig {
      */
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
-            .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
+        return username -> {
+            UserLoadEvent event = new UserLoadEvent();
+            event.begin();
+            boolean found = false;
+            try {
+                UserDetails user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("Usuario no encontrado"));
+                found = true;
+                return user;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.found = found;
+                    event.commit();
+                }
+            }
+        };
     }
 
     /**
@@ -1,8 +1,18 @@
 package com.surveys.surveys.config;
 
+import com.surveys.surveys.answers.AnswerSchemas;
+import com.surveys.surveys.answers.ResponseDictionaries;
+import com.surveys.surveys.answers.ResponseReadingConverter;
+import com.surveys.surveys.answers.ResponseWritingConverter;
+import com.surveys.surveys.diagnostics.MongoCommandMonitor;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.List;
+
 /**
  * Configuración de MongoDB para la aplicación.
  * Esta clase habilita los repositorios de Spring Data MongoDB
@@ -16,4 +26,35 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
 @EnableMongoRepositories(basePackages = "com.surveys.surveys.repository")
 public class MongoConfig {
     // Spring Boot configurará automáticamente MongoDB usando spring.data.mongodb.uri
+
+    /**
+     * Registra el monitor de comandos en el cliente de MongoDB creado por Spring Boot.
+     *
+     * @param monitor monitor de duración y consultas lentas
+     * @return personalizador de la configuración del cliente
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMonitorCustomizer(MongoCommandMonitor monitor) {
+        return settings -> {
+            if (monitor.isEnabled()) {
+                settings.addCommandListener(monitor);
+            }
+        };
+    }
+
+    /**
+     * Conversores de {@code Response} que guardan cada respuesta en forma
+     * compacta y la leen con el tipo de su pregunta.
+     *
+     * @param answerSchemas tipos de respuesta de cada encuesta
+     * @param dictionaries  diccionarios del formato compacto de respuestas
+     * @return conversiones que reemplazan a las de Spring Boot
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions(AnswerSchemas answerSchemas,
+                                                         ResponseDictionaries dictionaries) {
+        return new MongoCustomConversions(List.of(
+            new ResponseReadingConverter(answerSchemas, dictionaries),
+            new ResponseWritingConverter(dictionaries)));
+    }
 }
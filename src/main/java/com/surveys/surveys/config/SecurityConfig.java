@@ -77,6 +77,14 @@ public class SecurityConfig {
 
                                                 .requestMatchers("/api/auth/**").authenticated()
 
+                                                // Salud para el balanceador
+                                                .requestMatchers("/actuator/health")
+                                                .permitAll()
+
+                                                // Métricas: Prometheus se autentica con un token de ADMIN
+                                                .requestMatchers("/actuator/prometheus")
+                                                .hasRole("ADMIN")
+
                                                 .requestMatchers(
                                                                 // Encuestas públicas
                                                                 "/api/surveys/published",
@@ -97,7 +105,8 @@ public class SecurityConfig {
                                                                 "/api/surveys/{id}/versions",
                                                                 "/api/surveys/{surveyId}/questions/**",
                                                                 "/api/responses",
-                                                                "/api/responses/survey/{surveyId}")
+                                                                "/api/responses/survey/{surveyId}",
+                                                                "/api/admin/**")
                                                 .hasRole("ADMIN")
 
                                                 .anyRequest().authenticated())
@@ -0,0 +1,49 @@
+package com.surveys.surveys.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Formatos binarios de la API: además de JSON, los controladores leen y
+ * escriben {@code application/cbor} y {@code application/x-jackson-smile}
+ * según {@code Content-Type} y {@code Accept}.
+ *
+ * <p>Spring MVC ya registra estos conversores cuando encuentra las librerías,
+ * pero con un {@code ObjectMapper} propio; aquí se reemplazan por otros
+ * creados con el {@link Jackson2ObjectMapperBuilder} de Spring Boot, para que
+ * las fechas, los módulos y las opciones {@code spring.jackson.*} sean los
+ * mismos que en JSON. Van después del conversor JSON, así que los clientes
+ * que aceptan cualquier tipo siguen recibiendo JSON.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public WebConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+            || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+            objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+            objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.surveys.surveys.controller;
+
+import com.surveys.surveys.archive.ResponseArchiver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controlador REST para ejecutar el archivo de respuestas de encuestas cerradas.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ResponseArchiver
+ */
+@RestController
+@RequestMapping("/api/admin/archive")
+public class ArchiveController {
+
+    @Autowired
+    private ResponseArchiver responseArchiver;
+
+    /**
+     * Archiva en el momento las respuestas de las encuestas cerradas antes del plazo configurado.
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Integer>> archiveDue() {
+        return ResponseEntity.ok(Map.of("surveys", responseArchiver.archiveDue()));
+    }
+}
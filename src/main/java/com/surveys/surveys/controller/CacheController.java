@@ -0,0 +1,49 @@
+package com.surveys.surveys.controller;
+
+import com.surveys.surveys.cache.SurveyCache;
+import com.surveys.surveys.cache.SurveyViewCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controlador REST para consultar y administrar la caché de encuestas.
+ * 
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ * @see SurveyCache
+ * @see SurveyViewCache
+ */
+@RestController
+@RequestMapping("/api/admin/cache")
+public class CacheController {
+
+    @Autowired
+    private SurveyCache surveyCache;
+
+    @Autowired
+    private SurveyViewCache surveyViewCache;
+
+    /**
+     * Obtiene la tasa de aciertos y los tiempos de carga de la caché.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Map<String, Object>>> getStatistics() {
+        Map<String, Map<String, Object>> statistics = surveyCache.getStatistics();
+        statistics.put("surveyViews", surveyViewCache.getStatistics());
+        return ResponseEntity.ok(statistics);
+    }
+
+    /**
+     * Vacía la caché de encuestas.
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        surveyCache.invalidateAll();
+        surveyViewCache.invalidateAll();
+        return ResponseEntity.ok().build();
+    }
+}
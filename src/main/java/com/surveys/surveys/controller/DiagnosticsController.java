@@ -0,0 +1,109 @@
+package com.surveys.surveys.controller;
+
+import com.surveys.surveys.diagnostics.FlightRecordings;
+import com.surveys.surveys.diagnostics.MongoCommandMonitor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Controlador REST para consultar los diagnósticos de rendimiento.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ * @see MongoCommandMonitor
+ * @see FlightRecordings
+ */
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+public class DiagnosticsController {
+
+    @Autowired
+    private MongoCommandMonitor mongoCommandMonitor;
+
+    @Autowired
+    private FlightRecordings flightRecordings;
+
+    /**
+     * Obtiene los pares (colección, operación) de MongoDB con más tiempo
+     * acumulado, con sus percentiles y la forma de su consulta más lenta.
+     */
+    @GetMapping("/mongo")
+    public ResponseEntity<Map<String, Object>> getMongoOffenders(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(mongoCommandMonitor.getTopOffenders(limit));
+    }
+
+    /**
+     * Descarta las estadísticas de MongoDB acumuladas.
+     */
+    @DeleteMapping("/mongo")
+    public ResponseEntity<Void> resetMongoStats() {
+        mongoCommandMonitor.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Obtiene el estado de la grabación de Java Flight Recorder.
+     */
+    @GetMapping("/jfr")
+    public ResponseEntity<Map<String, Object>> getRecording() {
+        return ResponseEntity.ok(flightRecordings.getStatus());
+    }
+
+    /**
+     * Inicia una grabación de Java Flight Recorder con los eventos de la
+     * aplicación; si ya hay una en curso devuelve su estado.
+     *
+     * @param duration duración ISO-8601 tras la cual se detiene sola (opcional)
+     */
+    @PostMapping("/jfr/start")
+    public ResponseEntity<Map<String, Object>> startRecording(@RequestParam(required = false) Duration duration) {
+        return ResponseEntity.ok(flightRecordings.start(duration));
+    }
+
+    /**
+     * Descarga lo grabado hasta ahora como archivo {@code .jfr}.
+     */
+    @GetMapping("/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() {
+        return flightRecordings.dump()
+                .map(file -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                ContentDisposition.attachment().filename("surveys.jfr").build().toString())
+                        .body(stream(file)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Detiene la grabación en curso.
+     */
+    @PostMapping("/jfr/stop")
+    public ResponseEntity<Map<String, Object>> stopRecording() {
+        if (!flightRecordings.stop()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(flightRecordings.getStatus());
+    }
+
+    private static StreamingResponseBody stream(Path file) {
+        return output -> {
+            try {
+                Files.copy(file, output);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.surveys.surveys.controller;
+
+import com.surveys.surveys.indexing.IndexManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controlador REST para consultar el estado de los índices y auditar los planes de consulta.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ * @see IndexManager
+ */
+@RestController
+@RequestMapping("/api/admin/indexes")
+public class IndexController {
+
+    @Autowired
+    private IndexManager indexManager;
+
+    /**
+     * Obtiene el último reporte de índices, o 404 si aún no se ha generado.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getReport() {
+        Map<String, Object> report = indexManager.getLastReport();
+        if (report == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Verifica los índices y ejecuta {@code explain} sobre todas las consultas declaradas.
+     */
+    @PostMapping("/audit")
+    public ResponseEntity<Map<String, Object>> audit() {
+        return ResponseEntity.ok(indexManager.provision(true));
+    }
+}
@@ -0,0 +1,54 @@
+package com.surveys.surveys.controller;
+
+import com.surveys.surveys.purge.PurgeJob;
+import com.surveys.surveys.purge.SurveyPurger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST para consultar el progreso del borrado de encuestas eliminadas.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ * @see SurveyPurger
+ */
+@RestController
+@RequestMapping("/api/admin/purge-jobs")
+public class PurgeJobController {
+
+    @Autowired
+    private SurveyPurger surveyPurger;
+
+    /**
+     * Obtiene los borrados más recientes, opcionalmente filtrados por estado.
+     */
+    @GetMapping
+    public ResponseEntity<List<PurgeJob>> getJobs(@RequestParam(required = false) PurgeJob.Status status) {
+        return ResponseEntity.ok(surveyPurger.getJobs(status));
+    }
+
+    /**
+     * Obtiene el progreso del borrado de una encuesta.
+     */
+    @GetMapping("/{surveyId}")
+    public ResponseEntity<PurgeJob> getJob(@PathVariable String surveyId) {
+        return surveyPurger.getJob(surveyId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Vuelve a encolar un borrado que falló.
+     */
+    @PostMapping("/{surveyId}/retry")
+    public ResponseEntity<PurgeJob> retry(@PathVariable String surveyId) {
+        if (surveyPurger.getJob(surveyId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.accepted().body(surveyPurger.schedule(surveyId));
+    }
+}
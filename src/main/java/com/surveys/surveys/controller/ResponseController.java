@@ -1,5 +1,11 @@
 package com.surveys.surveys.controller;
 
+import com.surveys.surveys.archive.ArchiveManifest;
+import com.surveys.surveys.diagnostics.AnswerValidationEvent;
+import com.surveys.surveys.diagnostics.SubmissionEvent;
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.exception.ResourceNotFoundException;
+import com.surveys.surveys.exception.ValidationException;
 import com.surveys.surveys.model.Response;
 import com.surveys.surveys.services.ResponseService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,12 +41,31 @@ public class ResponseController {
 
     /**
      * Envía una respuesta a una encuesta publicada.
+     * Con JFR grabando, cubre el envío con un {@link SubmissionEvent}.
      * 
      * @param response respuesta de la encuesta
      * @return ResponseEntity con la respuesta guardada
      */
     @PostMapping("/submit")
     public ResponseEntity<?> submitResponse(@Valid @RequestBody Response response) {
+        SubmissionEvent event = new SubmissionEvent();
+        event.begin();
+        ResponseEntity<?> result = null;
+        try {
+            result = submit(response);
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.surveyId = response.getSurveyId();
+                event.answerCount = response.getAnswers() == null ? 0 : response.getAnswers().size();
+                event.accepted = result != null && result.getStatusCode() == HttpStatus.CREATED;
+                event.commit();
+            }
+        }
+    }
+
+    private ResponseEntity<?> submit(Response response) {
         try {
             // Validaciones específicas
             if (response.getSurveyId() == null || response.getSurveyId().trim().isEmpty()) {
@@ -62,24 +87,17 @@ public class ResponseController {
             }
             
             // Validar estructura de respuestas
-            for (int i = 0; i < response.getAnswers().size(); i++) {
-                Response.Answer answer = response.getAnswers().get(i);
-                if (answer.getQuestionId() == null || answer.getQuestionId().trim().isEmpty()) {
-                    return ResponseEntity.badRequest()
-                        .body(Map.of(
-                            "error", "INVALID_QUESTION_ID",
-                            "message", "La respuesta en posición " + i + " no tiene questionId válido",
-                            "timestamp", Instant.now()
-                        ));
-                }
-                if (answer.getAnswer() == null) {
-                    return ResponseEntity.badRequest()
-                        .body(Map.of(
-                            "error", "EMPTY_ANSWER",
-                            "message", "La respuesta para la pregunta " + answer.getQuestionId() + " está vacía",
-                            "timestamp", Instant.now()
-                        ));
-                }
+            AnswerValidationEvent validation = new AnswerValidationEvent();
+            validation.begin();
+            ResponseEntity<?> invalid = validateAnswers(response.getAnswers());
+            validation.end();
+            if (validation.shouldCommit()) {
+                validation.answerCount = response.getAnswers().size();
+                validation.valid = invalid == null;
+                validation.commit();
+            }
+            if (invalid != null) {
+                return invalid;
             }
             
             Response savedResponse = responseService.saveResponse(response);
@@ -94,13 +112,20 @@ public class ResponseController {
                     "answerCount", savedResponse.getAnswers().size()
                 ));
                 
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | ValidationException e) {
             return ResponseEntity.badRequest()
                 .body(Map.of(
                     "error", "VALIDATION_ERROR",
                     "message", e.getMessage(),
                     "timestamp", Instant.now()
                 ));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of(
+                    "error", "SURVEY_NOT_FOUND",
+                    "message", e.getMessage(),
+                    "timestamp", Instant.now()
+                ));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of(
@@ -111,33 +136,84 @@ public class ResponseController {
         }
     }
 
+    /**
+     * Valida la estructura de cada respuesta del envío.
+     *
+     * @return la respuesta de error para la primera inválida, o {@code null} si todas son válidas
+     */
+    private ResponseEntity<?> validateAnswers(List<Response.Answer> answers) {
+        for (int i = 0; i < answers.size(); i++) {
+            Response.Answer answer = answers.get(i);
+            if (answer.getQuestionId() == null || answer.getQuestionId().trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of(
+                        "error", "INVALID_QUESTION_ID",
+                        "message", "La respuesta en posición " + i + " no tiene questionId válido",
+                        "timestamp", Instant.now()
+                    ));
+            }
+            if (answer.getAnswer() == null) {
+                return ResponseEntity.badRequest()
+                    .body(Map.of(
+                        "error", "EMPTY_ANSWER",
+                        "message", "La respuesta para la pregunta " + answer.getQuestionId() + " está vacía",
+                        "timestamp", Instant.now()
+                    ));
+            }
+        }
+        return null;
+    }
+
     // ========================================
     // RUTAS DE ADMINISTRACIÓN (Solo ADMIN)
     // ========================================
 
     /**
-     * Obtiene todas las respuestas del sistema.
+     * Obtiene una página de las respuestas del sistema.
      * 
-     * @return ResponseEntity con la lista de todas las respuestas
+     * @param cursor cursor devuelto por la página anterior, vacío para la primera
+     * @param size tamaño de página, limitado por {@code surveys.pagination.max-size}
+     * @return ResponseEntity con la página de respuestas
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')") 
-    public ResponseEntity<List<Response>> getAllResponses() {
-        List<Response> responses = responseService.getAllResponses();
+    public ResponseEntity<CursorPage<Response>> getAllResponses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<Response> responses = responseService.getAllResponses(cursor, size);
         return ResponseEntity.ok(responses);
     }
 
     /**
-     * Obtiene todas las respuestas de una encuesta específica.
+     * Obtiene una página de las respuestas de una encuesta específica.
      * 
      * @param surveyId identificador de la encuesta
-     * @return ResponseEntity con la lista de respuestas de la encuesta
+     * @param cursor cursor devuelto por la página anterior, vacío para la primera
+     * @param size tamaño de página, limitado por {@code surveys.pagination.max-size}
+     * @return ResponseEntity con la página de respuestas de la encuesta
      */
     @GetMapping("/survey/{surveyId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Response>> getResponsesBySurvey(@PathVariable String surveyId) {
-        List<Response> responses = responseService.getResponsesBySurvey(surveyId);
+    public ResponseEntity<CursorPage<Response>> getResponsesBySurvey(
+            @PathVariable String surveyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<Response> responses = responseService.getResponsesBySurvey(surveyId, cursor, size);
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Obtiene las analíticas precalculadas de las respuestas archivadas de una encuesta.
+     * 
+     * @param surveyId identificador de la encuesta
+     * @return ResponseEntity con el manifiesto del archivo, o 404 si no tiene respuestas archivadas
+     */
+    @GetMapping("/survey/{surveyId}/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ArchiveManifest> getArchive(@PathVariable String surveyId) {
+        return responseService.getArchiveManifest(surveyId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
 }
@@ -0,0 +1,55 @@
+package com.surveys.surveys.controller;
+
+import com.surveys.surveys.partitioning.ResponsePartitions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador REST para consultar y eliminar las particiones mensuales de respuestas.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ * @see ResponsePartitions
+ */
+@RestController
+@RequestMapping("/api/admin/response-partitions")
+public class ResponsePartitionController {
+
+    @Autowired
+    private ResponsePartitions partitions;
+
+    /**
+     * Obtiene las colecciones de respuestas en orden cronológico.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getPartitions() {
+        return ResponseEntity.ok(Map.of(
+            "enabled", partitions.isEnabled(),
+            "collections", partitions.collections()));
+    }
+
+    /**
+     * Elimina la partición de un mes ({@code yyyyMM}) con todas sus respuestas.
+     */
+    @DeleteMapping("/{month}")
+    public ResponseEntity<Void> dropPartition(@PathVariable String month) {
+        if (partitions.drop(ResponsePartitions.parseMonth(month))) {
+            return ResponseEntity.ok().build();
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Elimina las particiones de los meses anteriores al indicado ({@code yyyyMM}).
+     */
+    @DeleteMapping
+    public ResponseEntity<List<YearMonth>> dropPartitionsBefore(@RequestParam String before) {
+        return ResponseEntity.ok(partitions.dropBefore(ResponsePartitions.parseMonth(before)));
+    }
+}
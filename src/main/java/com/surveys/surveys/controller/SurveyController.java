@@ -2,9 +2,16 @@ package com.surveys.surveys.controller;
 
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
+import com.surveys.surveys.cache.SurveyViewCache;
+import com.surveys.surveys.cache.SurveyViewSnapshot;
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.dto.SurveySummary;
 import com.surveys.surveys.model.Survey;
 import com.surveys.surveys.enums.SurveyStatus;
 import com.surveys.surveys.model.Branding;
@@ -12,8 +19,10 @@ import com.surveys.surveys.services.SurveyService;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import com.surveys.surveys.model.User;
+import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Optional;
 import com.surveys.surveys.model.Question;
 
 /**
@@ -27,30 +36,46 @@ import com.surveys.surveys.model.Question;
 @RequestMapping("/api/surveys")
 public class SurveyController {
 
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
     @Autowired
     private SurveyService surveyService;
 
+    @Autowired
+    private SurveyViewCache surveyViewCache;
+
     // ========================================
     // RUTAS PÚBLICAS
     // ========================================
 
     /**
-     * Obtiene encuestas publicadas disponibles para responder.
+     * Obtiene el resumen de las encuestas publicadas disponibles para responder.
      */
     @GetMapping("/published")
-    public ResponseEntity<List<Survey>> getPublishedSurveys() {
-        List<Survey> surveys = surveyService.getSurveys(SurveyStatus.PUBLICADA, false);
+    public ResponseEntity<List<SurveySummary>> getPublishedSurveys() {
+        List<SurveySummary> surveys = surveyService.getSurveySummaries(SurveyStatus.PUBLICADA);
         return ResponseEntity.ok(surveys);
     }
 
     /**
      * Obtiene información pública de una encuesta específica.
+     * Con la vista pre-serializada activa responde con los bytes en caché,
+     * {@code ETag} y {@code Last-Modified}, o {@code 304} si el cliente ya la tiene.
+     * Esa vista es JSON; los clientes que sólo aceptan CBOR o Smile reciben la
+     * encuesta serializada en su formato.
      */
     @GetMapping("/{id}/view")
-    public ResponseEntity<Survey> viewSurvey(@PathVariable String id) {
-        return surveyService.getSurveyById(id)
-                .filter(survey -> survey.getStatus() == SurveyStatus.PUBLICADA)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<?> viewSurvey(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (surveyViewCache.isEnabled() && !prefersBinary(accept)) {
+            return surveyViewCache.getSnapshot(id, () -> findPublished(id))
+                    .<ResponseEntity<?>>map(snapshot -> snapshot.toResponse(SurveyViewSnapshot.acceptsGzip(acceptEncoding)))
+                    .orElse(ResponseEntity.notFound().build());
+        }
+        return findPublished(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -66,7 +91,9 @@ public class SurveyController {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         User user = (User) authentication.getPrincipal();
 
-        // Establecer valores iniciales
+        // Establecer valores iniciales; el ID lo asigna el servidor, como ObjectId, para que
+        // la encuesta aparezca en los listados paginados por _id
+        survey.setId(null);
         survey.setAdminId(user.getId());
         survey.setStatus(SurveyStatus.CREADA);
         survey.setCreatedAt(Instant.now());
@@ -89,13 +116,15 @@ public class SurveyController {
     }
 
     /**
-     * Obtiene todas las encuestas con filtros opcionales.
+     * Obtiene una página de encuestas con filtros opcionales.
      */
     @GetMapping
-    public ResponseEntity<List<Survey>> getAllSurveys(
+    public ResponseEntity<CursorPage<SurveySummary>> getAllSurveys(
             @RequestParam(required = false) SurveyStatus status,
-            @RequestParam(required = false) Boolean isTemplate) {
-        List<Survey> surveys = this.surveyService.getSurveys(status, isTemplate);
+            @RequestParam(required = false) Boolean isTemplate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<SurveySummary> surveys = this.surveyService.getSurveys(status, isTemplate, cursor, size);
         return ResponseEntity.ok(surveys);
     }
 
@@ -122,24 +151,32 @@ public class SurveyController {
     }
 
     /**
-     * Elimina una encuesta.
+     * Elimina una encuesta. Responde 202 porque sus respuestas se borran en
+     * segundo plano; {@code Location} apunta al progreso del borrado.
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteSurvey(@PathVariable String id) {
         if (this.surveyService.deleteSurvey(id)) {
-            return ResponseEntity.ok().build();
+            return ResponseEntity.accepted().location(URI.create("/api/admin/purge-jobs/" + id)).build();
         }
         return ResponseEntity.notFound().build();
     }
 
     /**
-     * Busca encuestas por nombre y/o adminId.
+     * Busca encuestas por texto en nombre y descripción, ordenadas por relevancia,
+     * con filtros opcionales. {@code name} se acepta como alias de {@code q}.
      */
     @GetMapping("/search")
-    public ResponseEntity<List<Survey>> searchSurveys(
+    public ResponseEntity<CursorPage<SurveySummary>> searchSurveys(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) String adminId) {
-        List<Survey> surveys = this.surveyService.searchSurveys(name, adminId);
+            @RequestParam(required = false) String adminId,
+            @RequestParam(required = false) SurveyStatus status,
+            @RequestParam(required = false) Boolean isTemplate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        String text = q != null ? q : name;
+        CursorPage<SurveySummary> surveys = this.surveyService.searchSurveys(text, adminId, status, isTemplate, cursor, size);
         return ResponseEntity.ok(surveys);
     }
 
@@ -174,22 +211,26 @@ public class SurveyController {
     }
 
     /**
-     * Obtiene todas las plantillas de encuestas.
+     * Obtiene una página de plantillas de encuestas.
      */
     @GetMapping("/templates")
-    public ResponseEntity<List<Survey>> getAllTemplates() {
-        List<Survey> templates = this.surveyService.getSurveys(null, true);
+    public ResponseEntity<CursorPage<SurveySummary>> getAllTemplates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPage<SurveySummary> templates = this.surveyService.getSurveys(null, true, cursor, size);
         return ResponseEntity.ok(templates);
     }
 
     /**
      * Actualiza la configuración visual de una encuesta.
+     * Con {@code expectedRevision} responde 409 si la encuesta cambió entretanto.
      */
     @PatchMapping("/{id}/branding")
     public ResponseEntity<Survey> updateBranding(
             @PathVariable String id,
-            @RequestBody Branding branding) {
-        return this.surveyService.updateBranding(id, branding)
+            @RequestBody Branding branding,
+            @RequestParam(required = false) Long expectedRevision) {
+        return this.surveyService.updateBranding(id, branding, expectedRevision)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -219,16 +260,18 @@ public class SurveyController {
 
     /**
      * Agrega una nueva pregunta a una encuesta.
+     * Con {@code expectedRevision} responde 409 si la encuesta cambió entretanto.
      */
     @PostMapping("/{surveyId}/questions")
     public ResponseEntity<Survey> addQuestion(
             @PathVariable String surveyId,
-            @RequestBody Question question) {
+            @RequestBody Question question,
+            @RequestParam(required = false) Long expectedRevision) {
         if (question.getId() == null || question.getId().isEmpty()) {
             question.setId(java.util.UUID.randomUUID().toString());
         }
 
-        return surveyService.addQuestion(surveyId, question)
+        return surveyService.addQuestion(surveyId, question, expectedRevision)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -238,8 +281,8 @@ public class SurveyController {
      */
     @GetMapping("/{surveyId}/questions")
     public ResponseEntity<List<Question>> getQuestions(@PathVariable String surveyId) {
-        return surveyService.getSurveyById(surveyId)
-                .map(survey -> ResponseEntity.ok(survey.getQuestions()))
+        return surveyService.getQuestions(surveyId)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -250,38 +293,69 @@ public class SurveyController {
     public ResponseEntity<Question> getQuestionById(
             @PathVariable String surveyId,
             @PathVariable String questionId) {
-        return surveyService.getSurveyById(surveyId)
-                .map(survey -> survey.getQuestions().stream()
-                        .filter(q -> q.getId().equals(questionId))
-                        .findFirst()
-                        .map(ResponseEntity::ok)
-                        .orElse(ResponseEntity.notFound().build()))
+        return surveyService.getQuestion(surveyId, questionId)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Actualiza una pregunta existente en una encuesta.
+     * Con {@code expectedRevision} responde 409 si la encuesta cambió entretanto.
      */
     @PutMapping("/{surveyId}/questions/{questionId}")
     public ResponseEntity<Survey> updateQuestion(
             @PathVariable String surveyId,
             @PathVariable String questionId,
-            @RequestBody Question question) {
-        return surveyService.updateQuestion(surveyId, questionId, question)
+            @RequestBody Question question,
+            @RequestParam(required = false) Long expectedRevision) {
+        return surveyService.updateQuestion(surveyId, questionId, question, expectedRevision)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Elimina una pregunta de una encuesta.
+     * Con {@code expectedRevision} responde 409 si la encuesta cambió entretanto.
      */
     @DeleteMapping("/{surveyId}/questions/{questionId}")
     public ResponseEntity<Void> removeQuestion(
             @PathVariable String surveyId,
-            @PathVariable String questionId) {
-        return surveyService.removeQuestion(surveyId, questionId)
+            @PathVariable String questionId,
+            @RequestParam(required = false) Long expectedRevision) {
+        return surveyService.removeQuestion(surveyId, questionId, expectedRevision)
                 .map(s -> ResponseEntity.ok().<Void>build())
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    private Optional<Survey> findPublished(String id) {
+        return surveyService.getSurveyById(id)
+                .filter(survey -> survey.getStatus() == SurveyStatus.PUBLICADA);
+    }
+
+    /**
+     * Indica si el cliente prefiere CBOR o Smile a JSON según la calidad ({@code q})
+     * de cada tipo en {@code Accept}.
+     */
+    private static boolean prefersBinary(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        double json = 0;
+        double binary = 0;
+        try {
+            for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    json = Math.max(json, mediaType.getQualityValue());
+                }
+                if (!mediaType.isWildcardSubtype() && (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)
+                        || mediaType.isCompatibleWith(APPLICATION_SMILE))) {
+                    binary = Math.max(binary, mediaType.getQualityValue());
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return binary > json;
+    }
+
 }
@@ -0,0 +1,31 @@
+package com.surveys.surveys.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR que cubre el recorrido de validación de las respuestas de un envío.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.surveys.AnswerValidation")
+@Label("Validación de respuestas")
+@Category({"Surveys", "Respuestas"})
+@Description("Validación de cada respuesta de un envío")
+@Enabled(false)
+@StackTrace(false)
+public class AnswerValidationEvent extends Event {
+
+    @Label("Respuestas")
+    public int answerCount;
+
+    @Label("Válidas")
+    public boolean valid;
+}
@@ -0,0 +1,94 @@
+package com.surveys.surveys.diagnostics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estadísticas de un par (colección, operación) de MongoDB.
+ *
+ * <p>Las duraciones se registran en microsegundos en un {@link Recorder} de
+ * HdrHistogram, que admite escrituras concurrentes sin bloqueo; al leer se
+ * vuelca el intervalo pendiente en el histograma acumulado. Los contadores
+ * usan {@link LongAdder} por la misma razón.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class CommandStats {
+
+    /** Una hora en microsegundos; duraciones mayores se recortan a este valor. */
+    private static final long HIGHEST_TRACKABLE_MICROS = 3_600_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String collection;
+    private final String operation;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram accumulated = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder documents = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder slow = new LongAdder();
+
+    private volatile long slowestMicros;
+    private volatile String slowestShape;
+
+    CommandStats(String collection, String operation) {
+        this.collection = collection;
+        this.operation = operation;
+    }
+
+    void record(long micros, long returned, long size, boolean failed) {
+        recorder.recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+        totalMicros.add(micros);
+        documents.add(returned);
+        bytes.add(size);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    void recordSlow(long micros, String shape) {
+        slow.increment();
+        synchronized (this) {
+            if (micros > slowestMicros) {
+                slowestMicros = micros;
+                slowestShape = shape;
+            }
+        }
+    }
+
+    long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    synchronized Map<String, Object> snapshot() {
+        interval = recorder.getIntervalHistogram(interval);
+        accumulated.add(interval);
+
+        long count = accumulated.getTotalCount();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("collection", collection);
+        report.put("operation", operation);
+        report.put("count", count);
+        report.put("errors", errors.sum());
+        report.put("slow", slow.sum());
+        report.put("totalMs", totalMicros.sum() / 1000.0);
+        report.put("p50Ms", accumulated.getValueAtPercentile(50.0) / 1000.0);
+        report.put("p95Ms", accumulated.getValueAtPercentile(95.0) / 1000.0);
+        report.put("p99Ms", accumulated.getValueAtPercentile(99.0) / 1000.0);
+        report.put("maxMs", accumulated.getMaxValue() / 1000.0);
+        report.put("documents", documents.sum());
+        report.put("avgDocuments", count == 0 ? 0 : documents.sum() / (double) count);
+        report.put("bytes", bytes.sum());
+        report.put("slowestShape", slowestShape);
+        return report;
+    }
+}
@@ -0,0 +1,144 @@
+package com.surveys.surveys.diagnostics;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.io.BsonInput;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
+/**
+ * Extrae la forma de los filtros de un comando de MongoDB.
+ *
+ * <p>La forma conserva los campos y operadores pero reemplaza cada valor por
+ * {@code "?"}, así que dos consultas que sólo difieren en sus parámetros
+ * tienen la misma forma y ningún dato de los usuarios llega al log. Los
+ * {@code sort} se conservan tal cual porque sólo contienen nombres de campo
+ * y direcciones.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class FilterShapes {
+
+    private static final BsonString REDACTED = new BsonString("?");
+
+    private FilterShapes() {
+    }
+
+    /**
+     * Copia las partes del comando de las que se extrae la forma (filtro, orden o
+     * pipeline), o devuelve {@code null} si no lleva filtro (por ejemplo {@code insert}).
+     *
+     * <p>Los documentos del comando son vistas sobre el buffer del driver, que se
+     * reutiliza al volver de {@code commandStarted}; la copia no depende de él y
+     * copia esos documentos byte a byte, sin decodificarlos ni redactarlos.
+     */
+    static BsonDocument source(String commandName, BsonDocument command) {
+        BsonDocument source = new BsonDocument();
+        switch (commandName) {
+            case "find" -> {
+                putCopy(source, "filter", command.get("filter"));
+                putCopy(source, "sort", command.get("sort"));
+            }
+            case "count", "distinct" -> putCopy(source, "query", command.get("query"));
+            case "findAndModify" -> {
+                putCopy(source, "query", command.get("query"));
+                putCopy(source, "sort", command.get("sort"));
+            }
+            case "aggregate" -> putCopy(source, "pipeline", command.get("pipeline"));
+            case "update" -> putCopy(source, "q", firstStatement(command, "updates"));
+            case "delete" -> putCopy(source, "q", firstStatement(command, "deletes"));
+            default -> {
+                return null;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Devuelve la forma de una copia obtenida con {@link #source}: redacta todo
+     * salvo el {@code sort}.
+     */
+    static BsonDocument of(BsonDocument source) {
+        BsonDocument shape = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : source.entrySet()) {
+            shape.put(entry.getKey(), "sort".equals(entry.getKey()) ? entry.getValue() : redact(entry.getValue()));
+        }
+        return shape;
+    }
+
+    private static BsonValue firstStatement(BsonDocument command, String field) {
+        BsonValue statements = command.get(field);
+        if (statements instanceof BsonArray array && !array.isEmpty() && array.get(0).isDocument()) {
+            return array.get(0).asDocument().get("q");
+        }
+        return null;
+    }
+
+    private static void putCopy(BsonDocument source, String key, BsonValue value) {
+        if (value != null) {
+            source.put(key, copy(value));
+        }
+    }
+
+    private static BsonValue copy(BsonValue value) {
+        if (value.isDocument()) {
+            return copy(value.asDocument());
+        }
+        if (value.isArray()) {
+            BsonArray copy = new BsonArray();
+            value.asArray().forEach(element -> copy.add(copy(element)));
+            return copy;
+        }
+        // Los valores simples se leen del buffer a objetos propios
+        return value;
+    }
+
+    private static BsonDocument copy(BsonDocument document) {
+        try (BsonReader reader = document.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binary) {
+                BsonInput input = binary.getBsonInput();
+                int size = input.readInt32();
+                byte[] bytes = new byte[size];
+                ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(size);
+                input.readBytes(bytes, 4, size - 4);
+                return new RawBsonDocument(bytes);
+            }
+        }
+        return document.clone();
+    }
+
+    private static BsonValue redact(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                redacted.put(entry.getKey(), "$sort".equals(entry.getKey())
+                    ? entry.getValue()
+                    : redact(entry.getValue()));
+            }
+            return redacted;
+        }
+        if (value.isArray()) {
+            // Los operadores lógicos ($and, $or) y los pipelines llevan documentos;
+            // las listas de valores ($in, $nin) se reducen a un solo marcador.
+            BsonArray array = value.asArray();
+            BsonArray redacted = new BsonArray();
+            boolean documents = !array.isEmpty() && array.stream().allMatch(BsonValue::isDocument);
+            if (documents) {
+                array.forEach(element -> redacted.add(redact(element)));
+            } else {
+                redacted.add(REDACTED);
+            }
+            return redacted;
+        }
+        return REDACTED;
+    }
+}
@@ -0,0 +1,151 @@
+package com.surveys.surveys.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Grabaciones de Java Flight Recorder bajo demanda.
+ *
+ * <p>Los eventos propios ({@link SubmissionEvent}, {@link AnswerValidationEvent},
+ * {@link TokenParsingEvent}, {@link UserLoadEvent} y {@link RepositoryCallEvent})
+ * están deshabilitados por defecto, así que sin grabación el JIT elimina su
+ * creación y sólo queda una comprobación de {@code isEnabled()}. Cada grabación
+ * combina el perfil {@code default} del JDK con {@code jfr/surveys.jfc}, que
+ * los habilita. Sólo hay una grabación bajo demanda a la vez.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class FlightRecordings {
+
+    static final String SETTINGS = "jfr/surveys.jfc";
+
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private Recording recording;
+
+    public FlightRecordings(@Value("${surveys.diagnostics.jfr.max-age:PT30M}") Duration maxAge,
+                            @Value("${surveys.diagnostics.jfr.max-size:256MB}") DataSize maxSize) {
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Inicia una grabación si no hay una en curso.
+     *
+     * @param duration duración tras la cual se detiene sola; {@code null} para
+     *                 grabar hasta {@link #stop()} conservando los últimos
+     *                 {@code surveys.diagnostics.jfr.max-age}
+     * @return estado de la grabación
+     */
+    public synchronized Map<String, Object> start(Duration duration) {
+        if (!isRunning()) {
+            close();
+            Recording started = new Recording(settings());
+            started.setName("surveys");
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSize.toBytes());
+            if (duration != null) {
+                started.setDuration(duration);
+            }
+            started.start();
+            recording = started;
+        }
+        return getStatus();
+    }
+
+    /**
+     * Vuelca lo grabado hasta ahora a un archivo temporal sin detener la grabación.
+     *
+     * @return el archivo, que debe borrar quien lo reciba, o vacío si no hay grabación
+     */
+    public synchronized Optional<Path> dump() {
+        if (recording == null || recording.getState() == RecordingState.NEW) {
+            return Optional.empty();
+        }
+        try {
+            Path file = Files.createTempFile("surveys-", ".jfr");
+            recording.dump(file);
+            return Optional.of(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Detiene la grabación en curso.
+     *
+     * @return {@code false} si no había ninguna
+     */
+    public synchronized boolean stop() {
+        if (!isRunning()) {
+            return false;
+        }
+        recording.stop();
+        return true;
+    }
+
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("maxAge", recording.getMaxAge());
+            status.put("maxSizeBytes", recording.getMaxSize());
+            status.put("sizeBytes", recording.getSize());
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * Combina el perfil {@code default} del JDK con el de la aplicación.
+     */
+    static Map<String, String> settings() {
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource(SETTINGS).getInputStream(), StandardCharsets.UTF_8)) {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            settings.putAll(Configuration.create(reader).getSettings());
+            return settings;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Perfil JFR inválido: " + SETTINGS, e);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.surveys.surveys.diagnostics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escucha los comandos que el cliente de MongoDB envía al servidor y
+ * acumula sus estadísticas por colección y operación.
+ *
+ * <p>De cada comando se registra la duración, los documentos devueltos y los
+ * bytes enviados y recibidos. Los que superan
+ * {@code surveys.diagnostics.mongo.slow-threshold} se escriben en el logger
+ * {@code surveys.mongo.slow} como pares {@code clave=valor}, con la forma
+ * redactada del filtro (ver {@link FilterShapes}). Al empezar cada comando solo
+ * se copia su filtro; la forma se calcula si resulta lento. Los comandos sin
+ * colección ({@code hello}, {@code ping}, autenticación) se ignoran.
+ *
+ * <p>Se registra en el cliente desde {@code MongoConfig}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class MongoCommandMonitor implements CommandListener {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("surveys.mongo.slow");
+
+    private final boolean enabled;
+    private final long slowThresholdMicros;
+
+    private final ConcurrentHashMap<Integer, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, CommandStats>> stats = new ConcurrentHashMap<>();
+
+    public MongoCommandMonitor(@Value("${surveys.diagnostics.mongo.enabled:true}") boolean enabled,
+                               @Value("${surveys.diagnostics.mongo.slow-threshold:100ms}") Duration slowThreshold) {
+        this.enabled = enabled;
+        this.slowThresholdMicros = TimeUnit.NANOSECONDS.toMicros(slowThreshold.toNanos());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        String collection = collectionOf(event.getCommandName(), command);
+        if (collection == null) {
+            return;
+        }
+        inFlight.put(event.getRequestId(), new InFlight(
+            collection,
+            event.getCommandName(),
+            FilterShapes.source(event.getCommandName(), command),
+            sizeOf(command)));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        InFlight command = inFlight.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+        BsonDocument response = event.getResponse();
+        complete(command, event.getElapsedTime(TimeUnit.MICROSECONDS),
+            documentsIn(response), command.requestBytes + sizeOf(response), null);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        InFlight command = inFlight.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+        complete(command, event.getElapsedTime(TimeUnit.MICROSECONDS), 0, command.requestBytes,
+            event.getThrowable());
+    }
+
+    /**
+     * Devuelve los pares (colección, operación) con más tiempo acumulado.
+     *
+     * @param limit número máximo de entradas
+     */
+    public Map<String, Object> getTopOffenders(int limit) {
+        List<CommandStats> all = new ArrayList<>();
+        stats.values().forEach(byOperation -> all.addAll(byOperation.values()));
+        all.sort(Comparator.comparingLong(CommandStats::getTotalMicros).reversed());
+
+        List<Map<String, Object>> offenders = new ArrayList<>();
+        for (CommandStats entry : all.subList(0, Math.min(Math.max(limit, 0), all.size()))) {
+            offenders.add(entry.snapshot());
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", enabled);
+        report.put("slowThresholdMs", slowThresholdMicros / 1000.0);
+        report.put("tracked", all.size());
+        report.put("offenders", offenders);
+        return report;
+    }
+
+    /**
+     * Descarta las estadísticas acumuladas.
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    private void complete(InFlight command, long micros, long documents, long bytes, Throwable error) {
+        CommandStats entry = statsFor(command.collection, command.operation);
+        entry.record(micros, documents, bytes, error != null);
+        if (micros < slowThresholdMicros) {
+            return;
+        }
+        String shape = command.filter == null ? null : FilterShapes.of(command.filter).toJson();
+        entry.recordSlow(micros, shape);
+        slowLog.warn("Comando lento collection={} operation={} durationMs={} documents={} bytes={} outcome={} shape={}",
+            command.collection, command.operation, micros / 1000.0, documents, bytes,
+            error == null ? "success" : "error", shape);
+    }
+
+    private CommandStats statsFor(String collection, String operation) {
+        ConcurrentHashMap<String, CommandStats> byOperation = stats.get(collection);
+        if (byOperation == null) {
+            byOperation = stats.computeIfAbsent(collection, c -> new ConcurrentHashMap<>());
+        }
+        CommandStats entry = byOperation.get(operation);
+        if (entry == null) {
+            entry = byOperation.computeIfAbsent(operation, o -> new CommandStats(collection, o));
+        }
+        return entry;
+    }
+
+    /**
+     * Obtiene la colección de un comando: el valor de su primera clave, o el
+     * campo {@code collection} en {@code getMore}.
+     */
+    private static String collectionOf(String commandName, BsonDocument command) {
+        BsonValue target = "getMore".equals(commandName)
+            ? command.get("collection")
+            : command.get(commandName);
+        return target != null && target.isString() ? target.asString().getValue() : null;
+    }
+
+    private static long documentsIn(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().get("firstBatch");
+            if (batch == null) {
+                batch = cursor.asDocument().get("nextBatch");
+            }
+            return batch instanceof BsonArray array ? array.size() : 0;
+        }
+        BsonValue values = response.get("values");
+        if (values instanceof BsonArray array) {
+            return array.size();
+        }
+        BsonValue value = response.get("value");
+        if (value != null) {
+            return value.isDocument() ? 1 : 0;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : 0;
+    }
+
+    /**
+     * Tamaño en bytes leído de los buffers del driver, sin volver a codificar el
+     * documento. Los comandos con carga ({@code insert}, {@code update} y
+     * {@code delete} en lote) llegan como un documento armado con los documentos
+     * de la carga: se suman estos, sin los pocos campos del comando.
+     */
+    private static long sizeOf(BsonDocument document) {
+        long size = bufferedSize(document);
+        if (size >= 0) {
+            return size;
+        }
+        size = 0;
+        for (BsonValue value : document.values()) {
+            if (value instanceof BsonArray array) {
+                for (BsonValue element : array) {
+                    if (element.isDocument()) {
+                        size += Math.max(0, bufferedSize(element.asDocument()));
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Tamaño de un documento respaldado por un buffer, que empieza con su
+     * tamaño en bytes, o -1 si el documento no tiene buffer.
+     */
+    private static long bufferedSize(BsonDocument document) {
+        if (document instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BsonReader reader = document.asBsonReader()) {
+            return reader instanceof BsonBinaryReader binary ? binary.getBsonInput().readInt32() : -1;
+        }
+    }
+
+    private static final class InFlight {
+        private final String collection;
+        private final String operation;
+        private final BsonDocument filter;
+        private final long requestBytes;
+
+        private InFlight(String collection, String operation, BsonDocument filter, long requestBytes) {
+            this.collection = collection;
+            this.operation = operation;
+            this.filter = filter;
+            this.requestBytes = requestBytes;
+        }
+    }
+}
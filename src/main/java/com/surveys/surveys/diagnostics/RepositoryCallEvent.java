@@ -0,0 +1,35 @@
+package com.surveys.surveys.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR que cubre una llamada a un repositorio de Spring Data o a
+ * {@code MongoTemplate}, cuyo repositorio es {@code "MongoTemplate"}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.surveys.RepositoryCall")
+@Label("Llamada a repositorio")
+@Category({"Surveys", "MongoDB"})
+@Description("Llamada a un método de un repositorio de Spring Data o de MongoTemplate")
+@Enabled(false)
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repositorio")
+    public String repository;
+
+    @Label("Método")
+    public String method;
+
+    @Label("Exitosa")
+    public boolean success;
+}
@@ -0,0 +1,87 @@
+package com.surveys.surveys.diagnostics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite un {@link RepositoryCallEvent} por cada llamada a un repositorio de
+ * Spring Data o a {@link MongoTemplate}, que es por donde pasa la mayor parte
+ * del acceso a datos de {@code SurveyServicesImpl}.
+ *
+ * <p>Agrega un interceptor al proxy de cada repositorio y envuelve el
+ * {@link MongoTemplate} en un proxy de clase con el mismo interceptor; mientras
+ * el evento está deshabilitado el interceptor sólo pasa la llamada. Las
+ * llamadas anidadas, como las de un repositorio a {@link MongoTemplate}, quedan
+ * dentro del evento de la llamada exterior.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class RepositoryCallEvents implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                (proxy, repository) -> proxy.addAdvice(
+                    new Interceptor(repository.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof MongoTemplate template) {
+            ProxyFactory proxy = new ProxyFactory(template);
+            proxy.setProxyTargetClass(true);
+            proxy.addAdvice(new Interceptor(MongoTemplate.class.getSimpleName()));
+            return proxy.getProxy(template.getClass().getClassLoader());
+        }
+        return bean;
+    }
+
+    static final class Interceptor implements MethodInterceptor {
+
+        /** Llamada con evento en curso en el hilo. */
+        private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+        private final String repository;
+
+        Interceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            if (!event.isEnabled() || ACTIVE.get() != null) {
+                return invocation.proceed();
+            }
+            ACTIVE.set(Boolean.TRUE);
+            event.begin();
+            boolean success = false;
+            try {
+                Object result = invocation.proceed();
+                success = true;
+                return result;
+            } finally {
+                ACTIVE.remove();
+                event.end();
+                if (event.shouldCommit()) {
+                    event.repository = repository;
+                    event.method = invocation.getMethod().getName();
+                    event.success = success;
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.surveys.surveys.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR que cubre un envío de respuesta en {@code POST /api/responses/submit}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.surveys.Submission")
+@Label("Envío de respuesta")
+@Category({"Surveys", "Respuestas"})
+@Description("Envío de una respuesta a una encuesta")
+@Enabled(false)
+@StackTrace(false)
+public class SubmissionEvent extends Event {
+
+    @Label("Encuesta")
+    public String surveyId;
+
+    @Label("Respuestas")
+    @Description("Número de respuestas a preguntas del envío")
+    public int answerCount;
+
+    @Label("Aceptado")
+    public boolean accepted;
+}
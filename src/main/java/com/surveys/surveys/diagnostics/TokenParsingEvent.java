@@ -0,0 +1,28 @@
+package com.surveys.surveys.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR que cubre la verificación de firma y lectura de los claims de un token.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.surveys.TokenParsing")
+@Label("Lectura de claims JWT")
+@Category({"Surveys", "Seguridad"})
+@Description("Verificación de firma y lectura de los claims de un token JWT")
+@Enabled(false)
+@StackTrace(false)
+public class TokenParsingEvent extends Event {
+
+    @Label("Válido")
+    public boolean valid;
+}
@@ -0,0 +1,28 @@
+package com.surveys.surveys.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR que cubre la carga de un usuario desde {@code UserDetailsService}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Name("com.surveys.UserLoad")
+@Label("Carga de usuario")
+@Category({"Surveys", "Seguridad"})
+@Description("Carga de un usuario para autenticar una petición")
+@Enabled(false)
+@StackTrace(false)
+public class UserLoadEvent extends Event {
+
+    @Label("Encontrado")
+    public boolean found;
+}
@@ -0,0 +1,42 @@
+package com.surveys.surveys.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados con cursor opaco para solicitar la siguiente.
+ * 
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * Constructor con parámetros.
+     *
+     * @param items elementos de la página
+     * @param nextCursor cursor de la página siguiente, o {@code null} si es la última
+     */
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return items.size();
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
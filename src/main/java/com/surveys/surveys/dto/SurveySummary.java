@@ -0,0 +1,69 @@
+package com.surveys.surveys.dto;
+
+import com.surveys.surveys.enums.SurveyStatus;
+import org.springframework.data.annotation.Id;
+
+import java.time.Instant;
+
+/**
+ * Resumen de encuesta para los listados: solo los datos que muestran las
+ * pantallas de lista, sin preguntas ni branding.
+ * 
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SurveySummary {
+
+    /**
+     * Campos que se leen de la colección {@code surveys} para armar el resumen.
+     */
+    public static final String FIELDS = "{ name: 1, description: 1, version: 1, status: 1, createdAt: 1, "
+            + "modifiedAt: 1, scheduledOpen: 1, scheduledClose: 1, isTemplate: 1, adminId: 1 }";
+
+    @Id
+    private String id;
+    private String name;
+    private String description;
+    private Integer version;
+    private SurveyStatus status;
+    private Instant createdAt;
+    private Instant modifiedAt;
+    private Instant scheduledOpen;
+    private Instant scheduledClose;
+    private boolean isTemplate;
+    private String adminId;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Integer getVersion() { return version; }
+    public void setVersion(Integer version) { this.version = version; }
+
+    public SurveyStatus getStatus() { return status; }
+    public void setStatus(SurveyStatus status) { this.status = status; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getModifiedAt() { return modifiedAt; }
+    public void setModifiedAt(Instant modifiedAt) { this.modifiedAt = modifiedAt; }
+
+    public Instant getScheduledOpen() { return scheduledOpen; }
+    public void setScheduledOpen(Instant scheduledOpen) { this.scheduledOpen = scheduledOpen; }
+
+    public Instant getScheduledClose() { return scheduledClose; }
+    public void setScheduledClose(Instant scheduledClose) { this.scheduledClose = scheduledClose; }
+
+    public boolean isTemplate() { return isTemplate; }
+    public void setTemplate(boolean template) { this.isTemplate = template; }
+
+    public String getAdminId() { return adminId; }
+    public void setAdminId(String adminId) { this.adminId = adminId; }
+}
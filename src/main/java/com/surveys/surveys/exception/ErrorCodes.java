@@ -25,6 +25,7 @@ public final class ErrorCodes {
     public static final String SURVEY_NOT_FOUND = "SUR_001";
     public static final String SURVEY_ALREADY_ANSWERED = "SUR_002";
     public static final String SURVEY_EXPIRED = "SUR_003";
+    public static final String SURVEY_CONFLICT = "SUR_004";
     
     // Sistema
     public static final String INTERNAL_SERVER_ERROR = "SYS_001";
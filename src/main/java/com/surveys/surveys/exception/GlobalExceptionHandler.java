@@ -143,6 +143,28 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Maneja ediciones concurrentes sobre una revisión desactualizada (409).
+     */
+    @ExceptionHandler(SurveyConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handleSurveyConflictException(
+            SurveyConflictException ex,
+            HttpServletRequest request) {
+
+        MessageResolver.UserMessage userMessage = messageResolver.getMessage(ex.getErrorCode());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getErrorCode(),
+                userMessage.getUserMessage(),
+                userMessage.getUserMessage(),
+                userMessage.getDeveloperMessage() + " - " + ex.getMessage(),
+                HttpStatus.CONFLICT.value(),
+                request.getRequestURI());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Maneja errores de validación personalizados con códigos específicos.
      */
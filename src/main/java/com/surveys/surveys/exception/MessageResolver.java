@@ -46,6 +46,11 @@ public class MessageResolver {
             "El usuario ya tiene una respuesta registrada para esta encuesta."
         ));
         
+        messages.put(ErrorCodes.SURVEY_CONFLICT, new UserMessage(
+            "La encuesta fue modificada por otra persona. Recarga los cambios e inténtalo de nuevo.",
+            "La revisión esperada no coincide con la revisión actual de la encuesta."
+        ));
+        
         // Mensaje por defecto
         messages.put("DEFAULT", new UserMessage(
             "Ha ocurrido un error inesperado. Por favor, inténtalo más tarde.",
@@ -0,0 +1,15 @@
+package com.surveys.surveys.exception;
+
+public class SurveyConflictException extends RuntimeException {
+    private final String errorCode;
+    
+    public SurveyConflictException(String surveyId, Long expectedRevision) {
+        super(ErrorCodes.SURVEY_CONFLICT + ": Survey with ID " + surveyId
+                + " is no longer at revision " + expectedRevision);
+        this.errorCode = ErrorCodes.SURVEY_CONFLICT;
+    }
+    
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,55 @@
+package com.surveys.surveys.indexing;
+
+import org.bson.Document;
+
+/**
+ * Forma de una consulta de repositorio (filtro, orden y proyección con valores
+ * de ejemplo) sobre la que se ejecuta {@code explain}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class AuditedQuery {
+
+    private final String name;
+    private final String collection;
+    private final Document filter;
+    private final Document sort;
+    private final Document projection;
+
+    AuditedQuery(String name, String collection, Document filter, Document sort) {
+        this(name, collection, filter, sort, null);
+    }
+
+    AuditedQuery(String name, String collection, Document filter, Document sort, Document projection) {
+        this.name = name;
+        this.collection = collection;
+        this.filter = filter;
+        this.sort = sort;
+        this.projection = projection;
+    }
+
+    /**
+     * Nombre de la consulta, en la forma {@code Repositorio.metodo}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public Document getFilter() {
+        return filter;
+    }
+
+    public Document getSort() {
+        return sort;
+    }
+
+    public Document getProjection() {
+        return projection;
+    }
+}
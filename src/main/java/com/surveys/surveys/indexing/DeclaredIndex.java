@@ -0,0 +1,34 @@
+package com.surveys.surveys.indexing;
+
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+/**
+ * Índice que la aplicación necesita en una colección.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class DeclaredIndex {
+
+    private final String collection;
+    private final IndexDefinition definition;
+
+    DeclaredIndex(String collection, IndexDefinition definition) {
+        this.collection = collection;
+        this.definition = definition;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public IndexDefinition getDefinition() {
+        return definition;
+    }
+
+    public String getName() {
+        Object name = definition.getIndexOptions().get("name");
+        return name != null ? name.toString() : definition.getIndexKeys().toJson();
+    }
+}
@@ -0,0 +1,17 @@
+package com.surveys.surveys.indexing;
+
+/**
+ * Comportamiento de la auditoría de planes de consulta al arrancar.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum DiagnosticsMode {
+    /** No se ejecuta {@code explain}. */
+    OFF,
+    /** Se registra una advertencia por cada consulta que recorre la colección completa. */
+    WARN,
+    /** El arranque falla si algún índice no se pudo crear o alguna consulta usa COLLSCAN. */
+    FAIL
+}
@@ -0,0 +1,197 @@
+package com.surveys.surveys.indexing;
+
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.repository.ResponseRepository;
+import com.surveys.surveys.repository.SurveyRepository;
+import com.surveys.surveys.repository.UserRepository;
+import com.surveys.surveys.search.SurveySearch;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Catálogo de los índices que necesitan las consultas de la aplicación y de
+ * la forma de cada consulta para auditar su plan.
+ *
+ * <p>Al agregar un método a un repositorio se debe declarar aquí su consulta
+ * (y el índice que la sirve si ninguno existente lo hace); la auditoría
+ * reporta los métodos que no figuran en el catálogo.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class IndexCatalog {
+
+    static final String SURVEYS = "surveys";
+    static final String RESPONSES = "responses";
+    static final String USERS = "users";
+    static final String PURGE_JOBS = "purge_jobs";
+    static final String QUESTION_SETS = "question_sets";
+
+    /**
+     * Repositorios cuyos métodos deben figurar en {@link #queries()}.
+     */
+    static final List<Class<?>> REPOSITORIES = List.of(
+        SurveyRepository.class, ResponseRepository.class, UserRepository.class);
+
+    private static final ObjectId SAMPLE_ID = new ObjectId("000000000000000000000000");
+    private static final String SAMPLE = "sample";
+    private static final Date FROM = new Date(0);
+    private static final Date TO = new Date();
+
+    private IndexCatalog() {
+        // Clase utilitaria
+    }
+
+    /**
+     * Índices compuestos de encuestas y respuestas. Los índices de usuarios se
+     * obtienen de las anotaciones {@code @Indexed} de la entidad.
+     */
+    static List<DeclaredIndex> indexes() {
+        List<DeclaredIndex> indexes = new ArrayList<>(List.of(
+            // findByStatus, findSummariesByStatus, findByStatusAndAdminId
+            survey(new Index().on("status", Sort.Direction.ASC).on("adminId", Sort.Direction.ASC)
+                .named("survey_status_admin")),
+            // Paginación por estado
+            survey(new Index().on("status", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                .named("survey_status_id")),
+            // findByIsTemplate y paginación de plantillas
+            survey(new Index().on("isTemplate", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                .named("survey_template_id")),
+            // findByAdminId y búsqueda por administrador sin texto
+            survey(new Index().on("adminId", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                .named("survey_admin_id")),
+            // Historial de versiones
+            survey(new Index().on("rootVersionId", Sort.Direction.ASC).on("version", Sort.Direction.DESC)
+                .named("survey_version_chain")),
+            // Aperturas y cierres programados
+            survey(new Index().on("status", Sort.Direction.ASC).on("scheduledOpen", Sort.Direction.ASC)
+                .named("survey_scheduled_open")),
+            survey(new Index().on("status", Sort.Direction.ASC).on("scheduledClose", Sort.Direction.ASC)
+                .named("survey_scheduled_close")),
+            // Encuestas cerradas pendientes de archivar
+            survey(new Index().on("status", Sort.Direction.ASC).on("closedAt", Sort.Direction.ASC)
+                .named("survey_status_closed")),
+            // Encuestas que referencian un conjunto del banco de preguntas
+            survey(new Index().on("questionSetId", Sort.Direction.ASC).sparse()
+                .named("survey_question_set")),
+            new DeclaredIndex(SURVEYS, SurveySearch.textIndex())));
+        responseIndexes().forEach(index -> indexes.add(new DeclaredIndex(RESPONSES, index)));
+        // Trabajos de borrado por estado y listado del más reciente al más antiguo
+        indexes.add(new DeclaredIndex(PURGE_JOBS, new Index().on("status", Sort.Direction.ASC)
+            .on("createdAt", Sort.Direction.DESC).named("purge_status_created")));
+        indexes.add(new DeclaredIndex(PURGE_JOBS, new Index().on("createdAt", Sort.Direction.DESC)
+            .named("purge_created")));
+        // Conjuntos de preguntas liberados pendientes de eliminar
+        indexes.add(new DeclaredIndex(QUESTION_SETS, new Index().on("releasedAt", Sort.Direction.ASC).sparse()
+            .named("question_set_released")));
+        return indexes;
+    }
+
+    /**
+     * Índices de una colección de respuestas; se aplican también a cada partición mensual.
+     */
+    static List<Index> responseIndexes() {
+        return List.of(
+            // findBySurveyId, findBySurveyIdAndSubmittedAtBetween, findTopBySurveyId, countBySurveyId
+            new Index().on("surveyId", Sort.Direction.ASC).on("submittedAt", Sort.Direction.DESC)
+                .named("response_survey_submitted"),
+            // Paginación de respuestas por encuesta
+            new Index().on("surveyId", Sort.Direction.ASC).on("_id", Sort.Direction.ASC)
+                .named("response_survey_id"),
+            // findBySubmittedAtBetween
+            new Index().on("submittedAt", Sort.Direction.ASC)
+                .named("response_submitted"));
+    }
+
+    /**
+     * Consultas de los repositorios y de los componentes que usan {@code MongoTemplate}.
+     */
+    static List<AuditedQuery> queries() {
+        Document afterSample = new Document("$gt", SAMPLE_ID);
+        Document byId = new Document("_id", 1);
+        String publicada = SurveyStatus.PUBLICADA.name();
+        return List.of(
+            query("SurveyRepository.findByAdminId", SURVEYS, new Document("adminId", SAMPLE), null),
+            query("SurveyRepository.findByStatus", SURVEYS, new Document("status", publicada), null),
+            query("SurveyRepository.findByIsTemplate", SURVEYS, new Document("isTemplate", true), null),
+            query("SurveyRepository.findByStatusAndAdminId", SURVEYS,
+                new Document("status", publicada).append("adminId", SAMPLE), null),
+            query("SurveyRepository.findByRootVersionIdOrderByVersionDescCreatedAtDesc", SURVEYS,
+                new Document("rootVersionId", SAMPLE), new Document("version", -1).append("createdAt", -1)),
+            query("SurveyRepository.findFirstByRootVersionIdOrderByVersionDesc", SURVEYS,
+                new Document("rootVersionId", SAMPLE), new Document("version", -1)),
+            query("SurveyRepository.findSummariesByStatus", SURVEYS, new Document("status", publicada), null),
+            query("SurveyRepository.findByIdGreaterThanOrderByIdAsc", SURVEYS,
+                new Document("_id", afterSample), byId),
+            query("SurveyRepository.findByStatusAndIdGreaterThanOrderByIdAsc", SURVEYS,
+                new Document("status", publicada).append("_id", afterSample), byId),
+            query("SurveyRepository.findByIsTemplateAndIdGreaterThanOrderByIdAsc", SURVEYS,
+                new Document("isTemplate", true).append("_id", afterSample), byId),
+            query("SurveySearch.search(text)", SURVEYS,
+                new Document("$text", new Document("$search", SAMPLE)).append("adminId", SAMPLE), null),
+            query("SurveySearch.search(adminId)", SURVEYS,
+                new Document("_id", afterSample).append("adminId", SAMPLE), byId),
+            query("SurveyLifecycleScheduler.loadTransitions", SURVEYS, new Document("$or", List.of(
+                new Document("status", SurveyStatus.CREADA.name()).append("scheduledOpen", new Document("$lte", TO)),
+                new Document("status", publicada).append("scheduledClose", new Document("$lte", TO)))), null),
+            query("ResponseArchiver.archiveDue", SURVEYS, new Document("status", SurveyStatus.CERRADA.name())
+                .append("$or", List.of(
+                    new Document("closedAt", new Document("$lt", TO)),
+                    new Document("closedAt", null).append("modifiedAt", new Document("$lt", TO)))), null),
+
+            query("ResponseRepository.findBySurveyId", RESPONSES, new Document("surveyId", SAMPLE), null),
+            query("ResponseRepository.findBySubmittedAtBetween", RESPONSES,
+                new Document("submittedAt", new Document("$gt", FROM).append("$lt", TO)), null),
+            query("ResponseRepository.findBySurveyIdAndSubmittedAtBetween", RESPONSES,
+                new Document("surveyId", SAMPLE).append("submittedAt", new Document("$gt", FROM).append("$lt", TO)), null),
+            query("ResponseRepository.findKeysBySurveyIdSubmittedUntil", RESPONSES,
+                new Document("surveyId", SAMPLE).append("submittedAt", new Document("$lte", TO)), null,
+                new Document("submittedAt", 1)),
+            query("ResponseRepository.countBySurveyId", RESPONSES, new Document("surveyId", SAMPLE), null),
+            query("ResponseRepository.findTopBySurveyId", RESPONSES,
+                new Document("surveyId", SAMPLE), new Document("submittedAt", -1)),
+            query("ResponseRepository.findByIdGreaterThanOrderByIdAsc", RESPONSES,
+                new Document("_id", afterSample), byId),
+            query("ResponseRepository.findBySurveyIdAndIdGreaterThanOrderByIdAsc", RESPONSES,
+                new Document("surveyId", SAMPLE).append("_id", afterSample), byId),
+
+            query("SurveyPurger.purge", RESPONSES, new Document("surveyId", SAMPLE), null),
+            query("SurveyPurger.getJobs", PURGE_JOBS, new Document(), new Document("createdAt", -1)),
+            query("SurveyPurger.getJobs(status)", PURGE_JOBS,
+                new Document("status", "PENDIENTE"), new Document("createdAt", -1)),
+            query("SurveyPurger.resumeUnfinished", PURGE_JOBS,
+                new Document("status", new Document("$ne", "COMPLETADO")), null),
+
+            query("QuestionBank.referenced", SURVEYS, new Document("questionSetId", SAMPLE), null),
+            query("QuestionBank.collectReleased", QUESTION_SETS,
+                new Document("releasedAt", new Document("$lt", TO)), null, byId),
+
+            query("UserRepository.findByUsername", USERS, new Document("username", SAMPLE), null),
+            query("UserRepository.existsByUsername", USERS, new Document("username", SAMPLE), null),
+            query("UserRepository.existsByEmail", USERS, new Document("email", SAMPLE), null),
+            query("UserRepository.findByEmailIgnoreCaseOrUsernameIgnoreCase", USERS, new Document("$or", List.of(
+                new Document("email", Pattern.compile("^" + SAMPLE + "$", Pattern.CASE_INSENSITIVE)),
+                new Document("username", Pattern.compile("^" + SAMPLE + "$", Pattern.CASE_INSENSITIVE)))), null));
+    }
+
+    private static DeclaredIndex survey(Index index) {
+        return new DeclaredIndex(SURVEYS, index);
+    }
+
+    private static AuditedQuery query(String name, String collection, Document filter, Document sort) {
+        return new AuditedQuery(name, collection, filter, sort);
+    }
+
+    private static AuditedQuery query(String name, String collection, Document filter, Document sort,
+                                      Document projection) {
+        return new AuditedQuery(name, collection, filter, sort, projection);
+    }
+}
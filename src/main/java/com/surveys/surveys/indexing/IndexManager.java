@@ -0,0 +1,255 @@
+package com.surveys.surveys.indexing;
+
+import com.surveys.surveys.model.User;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Crea y verifica al arrancar los índices del {@link IndexCatalog} y audita el
+ * plan de cada consulta declarada.
+ *
+ * <p>La creación es idempotente: un índice que ya existe con la misma definición
+ * no se vuelve a construir. Un índice que existe con otra definición se reporta
+ * como fallido sin modificarlo. Después de crearlos se comprueba en
+ * {@code listIndexes} que cada uno esté presente.
+ *
+ * <p>Con {@code surveys.indexes.diagnostics} en {@code WARN} o {@code FAIL} se
+ * ejecuta {@code explain} sobre cada consulta y se marca la que recorra la
+ * colección completa ({@code COLLSCAN}). En {@code WARN} todo corre en segundo
+ * plano y solo se registran advertencias; en {@code FAIL} corre antes de aceptar
+ * tráfico y el arranque se interrumpe ante cualquier problema.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class IndexManager {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexManager.class);
+
+    private static final String COLLSCAN = "COLLSCAN";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final DiagnosticsMode diagnostics;
+
+    private volatile Map<String, Object> lastReport;
+
+    public IndexManager(MongoTemplate mongoTemplate,
+                        @Value("${surveys.indexes.enabled:true}") boolean enabled,
+                        @Value("${surveys.indexes.diagnostics:OFF}") DiagnosticsMode diagnostics) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Provisiona los índices al arrancar. En modo {@code FAIL} lo hace de forma
+     * síncrona y lanza {@link IllegalStateException} si algo no está en orden.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (diagnostics == DiagnosticsMode.FAIL) {
+            Map<String, Object> report = provision(true);
+            List<String> problems = problems(report);
+            if (!problems.isEmpty()) {
+                throw new IllegalStateException("Auditoría de índices fallida: " + String.join("; ", problems));
+            }
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                provision(diagnostics == DiagnosticsMode.WARN);
+            } catch (RuntimeException e) {
+                log.warn("No se pudieron provisionar los índices", e);
+            }
+        }, "index-provisioning");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Crea y verifica los índices y, si se pide, audita los planes de consulta.
+     *
+     * @param explain si se ejecuta {@code explain} sobre las consultas declaradas
+     * @return reporte con el estado de cada índice y de cada plan
+     */
+    public synchronized Map<String, Object> provision(boolean explain) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("checkedAt", Instant.now());
+        report.put("indexes", ensureIndexes());
+        if (explain) {
+            report.put("queries", auditQueries());
+            report.put("unauditedMethods", unauditedMethods());
+        }
+        for (String problem : problems(report)) {
+            log.warn("Índices: {}", problem);
+        }
+        lastReport = report;
+        return report;
+    }
+
+    /**
+     * Último reporte generado, o {@code null} si aún no se ha ejecutado.
+     */
+    public Map<String, Object> getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Crea en una colección de respuestas adicional, como una partición mensual,
+     * los mismos índices que tiene {@code responses}.
+     */
+    public void ensureResponseIndexes(String collection) {
+        IndexCatalog.responseIndexes().forEach(mongoTemplate.indexOps(collection)::ensureIndex);
+    }
+
+    private List<Map<String, Object>> ensureIndexes() {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (DeclaredIndex index : declaredIndexes()) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("collection", index.getCollection());
+            result.put("name", index.getName());
+            result.put("keys", index.getDefinition().getIndexKeys());
+            try {
+                mongoTemplate.indexOps(index.getCollection()).ensureIndex(index.getDefinition());
+                boolean present = mongoTemplate.indexOps(index.getCollection()).getIndexInfo().stream()
+                    .map(IndexInfo::getName)
+                    .anyMatch(index.getName()::equals);
+                result.put("status", present ? "OK" : "MISSING");
+            } catch (RuntimeException e) {
+                result.put("status", "FAILED");
+                result.put("error", e.getMessage());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private List<DeclaredIndex> declaredIndexes() {
+        List<DeclaredIndex> indexes = new ArrayList<>(IndexCatalog.indexes());
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+            mongoTemplate.getConverter().getMappingContext();
+        IndexResolver.create(mappingContext).resolveIndexFor(User.class)
+            .forEach(definition -> indexes.add(new DeclaredIndex(IndexCatalog.USERS, definition)));
+        return indexes;
+    }
+
+    private List<Map<String, Object>> auditQueries() {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (AuditedQuery query : IndexCatalog.queries()) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("query", query.getName());
+            result.put("collection", query.getCollection());
+            try {
+                Set<String> stages = new LinkedHashSet<>();
+                collectStages(winningPlan(explain(query)), stages);
+                result.put("stages", stages);
+                result.put("collectionScan", stages.contains(COLLSCAN));
+            } catch (RuntimeException e) {
+                result.put("error", e.getMessage());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private Document explain(AuditedQuery query) {
+        Document find = new Document("find", query.getCollection()).append("filter", query.getFilter());
+        if (query.getSort() != null) {
+            find.append("sort", query.getSort());
+        }
+        if (query.getProjection() != null) {
+            find.append("projection", query.getProjection());
+        }
+        return mongoTemplate.getDb().runCommand(new Document("explain", find).append("verbosity", "queryPlanner"));
+    }
+
+    private static Document winningPlan(Document explain) {
+        Document planner = explain.get("queryPlanner", Document.class);
+        return planner != null ? planner.get("winningPlan", Document.class) : explain;
+    }
+
+    /**
+     * Recorre el plan ganador y sus etapas hijas. Cubre los formatos clásico
+     * ({@code inputStage}), de motor SBE ({@code queryPlan}) y fragmentado ({@code shards}).
+     */
+    private static void collectStages(Object node, Set<String> stages) {
+        if (node instanceof Document document) {
+            Object stage = document.get("stage");
+            if (stage instanceof String name) {
+                stages.add(name);
+            }
+            document.values().forEach(value -> collectStages(value, stages));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages));
+        }
+    }
+
+    private static List<String> unauditedMethods() {
+        Set<String> audited = IndexCatalog.queries().stream()
+            .map(AuditedQuery::getName)
+            .collect(Collectors.toSet());
+        List<String> missing = new ArrayList<>();
+        for (Class<?> repository : IndexCatalog.REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isDefault() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                String name = repository.getSimpleName() + "." + method.getName();
+                if (!audited.contains(name)) {
+                    missing.add(name);
+                }
+            }
+        }
+        return missing;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> problems(Map<String, Object> report) {
+        List<String> problems = new ArrayList<>();
+        for (Map<String, Object> index : (List<Map<String, Object>>) report.get("indexes")) {
+            if (!"OK".equals(index.get("status"))) {
+                problems.add("índice " + index.get("collection") + "." + index.get("name") + " " + index.get("status")
+                    + (index.containsKey("error") ? " (" + index.get("error") + ")" : ""));
+            }
+        }
+        for (Map<String, Object> query : (List<Map<String, Object>>) report.getOrDefault("queries", List.of())) {
+            if (Boolean.TRUE.equals(query.get("collectionScan"))) {
+                problems.add("consulta " + query.get("query") + " recorre la colección completa (COLLSCAN)");
+            } else if (query.containsKey("error")) {
+                problems.add("consulta " + query.get("query") + " no se pudo auditar (" + query.get("error") + ")");
+            }
+        }
+        for (String method : (List<String>) report.getOrDefault("unauditedMethods", List.of())) {
+            problems.add("método " + method + " sin consulta declarada en el catálogo");
+        }
+        return problems;
+    }
+}
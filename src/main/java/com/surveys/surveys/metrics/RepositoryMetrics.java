@@ -0,0 +1,80 @@
+package com.surveys.surveys.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada método de los repositorios de Spring Data
+ * ({@code SurveyRepository}, {@code ResponseRepository}, ...) en el
+ * temporizador {@code surveys.repository.invocations}, etiquetado con el
+ * repositorio, el método y el resultado.
+ *
+ * <p>Se engancha a cada fábrica de repositorios antes de que cree el proxy.
+ * Los temporizadores de un método se crean en su primera llamada y se guardan
+ * por {@link Method}; las siguientes llamadas sólo hacen una búsqueda en el
+ * mapa. Reemplaza al medidor {@code spring.data.repository.invocations} de
+ * Actuator, que construye las etiquetas en cada invocación.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class RepositoryMetrics implements BeanPostProcessor, RepositoryMethodInvocationListener {
+
+    private static final int SUCCESS = 0;
+    private static final int ERROR = 1;
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final ConcurrentHashMap<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    public RepositoryMetrics(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(this));
+        }
+        return bean;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        Timer[] methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method,
+                m -> register(invocation.getRepositoryInterface(), m));
+        }
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        boolean success = result != null && result.getState() == RepositoryMethodInvocationResult.State.SUCCESS;
+        methodTimers[success ? SUCCESS : ERROR].record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] register(Class<?> repositoryInterface, Method method) {
+        MeterRegistry meterRegistry = registry.getObject();
+        String repository = repositoryInterface.getSimpleName();
+        Timer[] methodTimers = new Timer[2];
+        methodTimers[SUCCESS] = SurveyMetrics.timer(meterRegistry, "surveys.repository.invocations",
+            "Tiempo de los métodos de los repositorios",
+            "repository", repository, "method", method.getName(), "outcome", "success");
+        methodTimers[ERROR] = SurveyMetrics.timer(meterRegistry, "surveys.repository.invocations",
+            "Tiempo de los métodos de los repositorios",
+            "repository", repository, "method", method.getName(), "outcome", "error");
+        return methodTimers;
+    }
+}
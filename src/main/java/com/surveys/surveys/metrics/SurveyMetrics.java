@@ -0,0 +1,102 @@
+package com.surveys.surveys.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Medidores de las rutas calientes de la aplicación.
+ *
+ * <p>Cada temporizador y contador se registra una sola vez al arrancar, con
+ * sus etiquetas ya resueltas, y quien mide guarda {@link System#nanoTime()}
+ * y llama a los métodos {@code record...}: así una medición no crea objetos
+ * ni busca el medidor en el registro. Los temporizadores publican
+ * histogramas de percentiles entre {@link #MIN_EXPECTED} y
+ * {@link #MAX_EXPECTED}, que Prometheus agrega con
+ * {@code histogram_quantile}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SurveyMetrics {
+
+    static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final Timer saveResponseSuccess;
+    private final Timer saveResponseError;
+    private final Timer jwtValid;
+    private final Timer jwtInvalid;
+    private final Timer jwtError;
+    private final Counter rateLimitRejections;
+
+    public SurveyMetrics(MeterRegistry registry) {
+        this.saveResponseSuccess = timer(registry, "surveys.responses.save",
+            "Tiempo de guardado de una respuesta", "outcome", "success");
+        this.saveResponseError = timer(registry, "surveys.responses.save",
+            "Tiempo de guardado de una respuesta", "outcome", "error");
+        this.jwtValid = timer(registry, "surveys.jwt.verification",
+            "Tiempo de verificación del token JWT", "outcome", "valid");
+        this.jwtInvalid = timer(registry, "surveys.jwt.verification",
+            "Tiempo de verificación del token JWT", "outcome", "invalid");
+        this.jwtError = timer(registry, "surveys.jwt.verification",
+            "Tiempo de verificación del token JWT", "outcome", "error");
+        this.rateLimitRejections = Counter.builder("surveys.ratelimit.rejections")
+            .description("Peticiones rechazadas por el límite de tasa")
+            .register(registry);
+    }
+
+    /**
+     * Registra la duración de un guardado de respuesta.
+     *
+     * @param startNanos valor de {@link System#nanoTime()} al empezar
+     * @param success {@code false} si el guardado lanzó una excepción
+     */
+    public void recordSaveResponse(long startNanos, boolean success) {
+        (success ? saveResponseSuccess : saveResponseError)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra la duración de una verificación de token.
+     *
+     * @param startNanos valor de {@link System#nanoTime()} al empezar
+     * @param valid si el token autenticó al usuario
+     */
+    public void recordJwtVerification(long startNanos, boolean valid) {
+        (valid ? jwtValid : jwtInvalid).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registra una verificación de token que terminó en excepción
+     * (firma incorrecta, token expirado o usuario inexistente).
+     *
+     * @param startNanos valor de {@link System#nanoTime()} al empezar
+     */
+    public void recordJwtError(long startNanos) {
+        jwtError.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cuenta una petición rechazada por {@code RateLimitingFilter}.
+     */
+    public void recordRateLimitRejection() {
+        rateLimitRejections.increment();
+    }
+
+    static Timer timer(MeterRegistry registry, String name, String description, String... tags) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_EXPECTED)
+            .maximumExpectedValue(MAX_EXPECTED)
+            .register(registry);
+    }
+}
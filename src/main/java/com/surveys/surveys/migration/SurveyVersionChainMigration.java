@@ -0,0 +1,176 @@
+package com.surveys.surveys.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.surveys.surveys.cache.SurveyCache;
+import com.surveys.surveys.cache.SurveyViewCache;
+import com.surveys.surveys.model.Survey;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Completa {@code rootVersionId} y {@code version} en las encuestas creadas
+ * antes de que existieran, para que el historial de versiones se resuelva
+ * con una sola consulta indexada.
+ *
+ * <p>La raíz de cada encuesta se obtiene siguiendo {@code previousVersionId}
+ * en memoria sobre una proyección de la colección. Dentro de cada cadena las
+ * versiones pendientes se numeran por fecha de creación, a continuación de la
+ * mayor versión ya migrada. Corre en segundo plano al arrancar y es idempotente.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SurveyVersionChainMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(SurveyVersionChainMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final SurveyCache surveyCache;
+    private final SurveyViewCache surveyViewCache;
+
+    public SurveyVersionChainMigration(MongoTemplate mongoTemplate, SurveyCache surveyCache,
+                                       SurveyViewCache surveyViewCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.surveyCache = surveyCache;
+        this.surveyViewCache = surveyViewCache;
+    }
+
+    /**
+     * Migra los documentos pendientes sin bloquear el arranque. El índice
+     * {@code survey_version_chain} lo provisiona {@code IndexManager}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(() -> {
+            try {
+                migrate();
+            } catch (RuntimeException e) {
+                log.warn("No se pudo migrar la cadena de versiones de encuestas", e);
+            }
+        }, "survey-version-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Asigna raíz y número de versión a las encuestas que no los tienen.
+     *
+     * @return cantidad de encuestas migradas
+     */
+    public synchronized int migrate() {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Survey.class));
+        Map<String, Document> pending = new HashMap<>();
+        collection.find(new Document("rootVersionId", new Document("$exists", false)))
+            .projection(new Document("previousVersionId", 1).append("createdAt", 1))
+            .forEach(doc -> pending.put(doc.getObjectId("_id").toHexString(), doc));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Document>> families = new HashMap<>();
+        Map<String, String> resolved = new HashMap<>();
+        for (String id : pending.keySet()) {
+            String root = resolveRoot(id, pending, resolved, collection);
+            families.computeIfAbsent(root, key -> new ArrayList<>()).add(pending.get(id));
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Survey.class);
+        families.forEach((root, members) -> {
+            members.sort(Comparator
+                .comparing((Document doc) -> doc.getDate("createdAt"), Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(doc -> doc.getObjectId("_id")));
+            int version = latestMigratedVersion(root);
+            for (Document member : members) {
+                bulk.updateOne(new Query(Criteria.where("_id").is(member.getObjectId("_id"))),
+                    new Update().set("rootVersionId", root).set("version", ++version));
+            }
+        });
+        int migrated = bulk.execute().getModifiedCount();
+
+        surveyCache.invalidateAll();
+        surveyViewCache.invalidateAll();
+        log.info("Cadena de versiones migrada: {} encuestas en {} cadenas", migrated, families.size());
+        return migrated;
+    }
+
+    /**
+     * Sigue {@code previousVersionId} hasta la primera versión. Los antecesores que
+     * ya fueron migrados aportan su {@code rootVersionId} directamente.
+     */
+    private String resolveRoot(String id, Map<String, Document> pending, Map<String, String> resolved,
+                               MongoCollection<Document> collection) {
+        List<String> path = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        String current = id;
+        String root = null;
+        while (root == null) {
+            if (resolved.containsKey(current)) {
+                root = resolved.get(current);
+                break;
+            }
+            if (!visited.add(current)) {
+                // Ciclo en los datos: se corta tomando el nodo actual como raíz
+                root = current;
+                break;
+            }
+            path.add(current);
+            Document doc = pending.get(current);
+            if (doc == null) {
+                doc = findMigrated(current, collection);
+                if (doc != null && doc.getString("rootVersionId") != null) {
+                    root = doc.getString("rootVersionId");
+                    break;
+                }
+            }
+            String previous = doc != null ? doc.getString("previousVersionId") : null;
+            if (previous == null || (!pending.containsKey(previous) && findMigrated(previous, collection) == null)) {
+                root = current;
+            } else {
+                current = previous;
+            }
+        }
+        for (String node : path) {
+            resolved.put(node, root);
+        }
+        return root;
+    }
+
+    private static Document findMigrated(String id, MongoCollection<Document> collection) {
+        if (!ObjectId.isValid(id)) {
+            return null;
+        }
+        return collection.find(new Document("_id", new ObjectId(id)))
+            .projection(new Document("rootVersionId", 1).append("previousVersionId", 1))
+            .first();
+    }
+
+    private int latestMigratedVersion(String root) {
+        Query query = new Query(Criteria.where("rootVersionId").is(root))
+            .with(Sort.by(Sort.Direction.DESC, "version"))
+            .limit(1);
+        query.fields().include("version");
+        Survey latest = mongoTemplate.findOne(query, Survey.class);
+        return latest != null && latest.getVersion() != null ? latest.getVersion() : 0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.surveys.surveys.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.Min;
@@ -34,6 +35,9 @@ public class Question {
     
     @Min(value = 1, message = "El orden debe ser mayor a 0")
     private Integer order;      
+
+    @Transient
+    private boolean frozen;
     
     public Question() {
         this.required = false;
@@ -45,22 +49,38 @@ public class Question {
         this.required = required;
     }
     
+    /**
+     * Vuelve la pregunta de solo lectura: los setters lanzan
+     * {@link UnsupportedOperationException}. Las opciones deben ser ya inmutables.
+     * Lo usa el banco de preguntas para compartir una instancia entre encuestas.
+     */
+    public Question freeze() {
+        this.frozen = true;
+        return this;
+    }
+
     // Getters y Setters
     public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public void setId(String id) { checkWritable(); this.id = id; }
     
     public String getText() { return text; }
-    public void setText(String text) { this.text = text; }
+    public void setText(String text) { checkWritable(); this.text = text; }
     
     public String getType() { return type; }
-    public void setType(String type) { this.type = type; }
+    public void setType(String type) { checkWritable(); this.type = type; }
     
     public boolean isRequired() { return required; }
-    public void setRequired(boolean required) { this.required = required; }
+    public void setRequired(boolean required) { checkWritable(); this.required = required; }
     
     public Object getOptions() { return options; }
-    public void setOptions(Object options) { this.options = options; }
+    public void setOptions(Object options) { checkWritable(); this.options = options; }
     
     public Integer getOrder() { return order; }
-    public void setOrder(Integer order) { this.order = order; }
+    public void setOrder(Integer order) { checkWritable(); this.order = order; }
+
+    private void checkWritable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("La pregunta " + id + " es compartida y de solo lectura");
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.surveys.surveys.model;
 
+import com.surveys.surveys.answers.AnswerValue;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.Instant;
@@ -22,17 +23,18 @@ public class Response {
     private List<Answer> answers = new ArrayList<>();
 
     /**
-     * Respuesta individual a una pregunta.
+     * Respuesta individual a una pregunta. El valor tiene el tipo de la
+     * pregunta (ver {@link AnswerValue}).
      */
     public static class Answer {
         private String questionId;
-        private Object answer;
+        private AnswerValue answer;
 
         public String getQuestionId() { return questionId; }
         public void setQuestionId(String questionId) { this.questionId = questionId; }
 
-        public Object getAnswer() { return answer; }
-        public void setAnswer(Object answer) { this.answer = answer; }
+        public AnswerValue getAnswer() { return answer; }
+        public void setAnswer(AnswerValue answer) { this.answer = answer; }
     }
 
     public Response() {
@@ -3,6 +3,7 @@ package com.surveys.surveys.model;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.surveys.surveys.enums.SurveyStatus;
 
 import java.time.Instant;
@@ -26,17 +27,24 @@ public class Survey {
     private SurveyStatus status;
     private Instant createdAt;
     private Instant modifiedAt;
+    private Long revision;
     private Instant scheduledOpen;
     private Instant scheduledClose;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant closedAt;
     private boolean isTemplate;
     private String adminId;
     private Branding branding;
     private String previousVersionId;
+    private String rootVersionId;
     private List<Question> questions;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String questionSetId;
 
     public Survey() {
         this.createdAt = Instant.now();
         this.modifiedAt = Instant.now();
+        this.revision = 0L;
         this.version = 1;
         this.isTemplate = false;
         this.status = SurveyStatus.CREADA;
@@ -77,6 +85,13 @@ public class Survey {
     public Instant getModifiedAt() { return modifiedAt; }
     public void setModifiedAt(Instant modifiedAt) { this.modifiedAt = modifiedAt; }
 
+    /**
+     * Contador de ediciones; cada actualización lo incrementa y los clientes
+     * pueden enviarlo como {@code expectedRevision} para detectar conflictos.
+     */
+    public Long getRevision() { return revision; }
+    public void setRevision(Long revision) { this.revision = revision; }
+
     public Instant getScheduledOpen() { return scheduledOpen; }
     public void setScheduledOpen(Instant scheduledOpen) { 
         this.scheduledOpen = scheduledOpen;
@@ -89,6 +104,12 @@ public class Survey {
         this.modifiedAt = Instant.now();
     }
 
+    /**
+     * Instante en que la encuesta pasó a {@code CERRADA}; lo usa el archivo de respuestas.
+     */
+    public Instant getClosedAt() { return closedAt; }
+    public void setClosedAt(Instant closedAt) { this.closedAt = closedAt; }
+
     public boolean isTemplate() { return isTemplate; }
     public void setTemplate(boolean template) { 
         isTemplate = template;
@@ -113,9 +134,22 @@ public class Survey {
         this.modifiedAt = Instant.now();
     }
 
+    /**
+     * Identificador de la primera versión de la cadena; en la versión raíz es su propio ID.
+     */
+    public String getRootVersionId() { return rootVersionId; }
+    public void setRootVersionId(String rootVersionId) { this.rootVersionId = rootVersionId; }
+
     public List<Question> getQuestions() { return questions; }
     public void setQuestions(List<Question> questions) {
         this.questions = questions;
         this.modifiedAt = Instant.now();
     }
+
+    /**
+     * Conjunto compartido del banco de preguntas; cuando existe, las preguntas
+     * no se guardan en el documento sino que se leen de {@code QuestionBank}.
+     */
+    public String getQuestionSetId() { return questionSetId; }
+    public void setQuestionSetId(String questionSetId) { this.questionSetId = questionSetId; }
 }
@@ -0,0 +1,178 @@
+package com.surveys.surveys.pagination;
+
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.exception.ErrorCodes;
+import com.surveys.surveys.exception.ValidationException;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Paginación por clave sobre {@code _id}. Cada página continúa después del
+ * último identificador entregado, así que el costo de una página no depende
+ * de su profundidad y nunca se carga más de {@code max-size + 1} documentos.
+ * 
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class KeysetPagination {
+
+    /**
+     * Identificador menor que cualquier ObjectId, usado para la primera página.
+     */
+    public static final ObjectId FIRST_ID = new ObjectId("000000000000000000000000");
+
+    /**
+     * Primer byte de los cursores que continúan en la segunda de dos fuentes concatenadas.
+     */
+    private static final byte TAIL = (byte) 0xFF;
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public KeysetPagination(
+            @Value("${surveys.pagination.default-size:50}") int defaultSize,
+            @Value("${surveys.pagination.max-size:500}") int maxSize) {
+        this.maxSize = maxSize;
+        this.defaultSize = Math.min(defaultSize, maxSize);
+    }
+
+    /**
+     * Tamaño efectivo de página: el solicitado, limitado al máximo configurado.
+     */
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        if (requested < 1) {
+            throw new ValidationException(ErrorCodes.VALIDATION_FIELD_INVALID
+                    + ": El tamaño de página debe ser mayor a 0");
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    /**
+     * Identificador a partir del cual continuar según el cursor recibido. Se entrega
+     * como {@link ObjectId} porque Spring no convierte los String en comparaciones por rango.
+     */
+    public ObjectId afterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_ID;
+        }
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(cursor);
+            if (raw.length != 12) {
+                throw new IllegalArgumentException("Longitud de cursor inválida: " + raw.length);
+            }
+            return new ObjectId(raw);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCodes.VALIDATION_FIELD_INVALID + ": Cursor inválido", e);
+        }
+    }
+
+    /**
+     * Límite de la consulta: un elemento extra indica si existe otra página.
+     */
+    public Limit fetchLimit(int size) {
+        return Limit.of(size + 1);
+    }
+
+    /**
+     * Arma la página a partir de los {@code size + 1} documentos consultados.
+     */
+    public <T> CursorPage<T> page(List<T> fetched, int size, Function<T, String> idOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = new ArrayList<>(fetched.subList(0, size));
+        return new CursorPage<>(items, encode(idOf.apply(items.get(size - 1))));
+    }
+
+    /**
+     * Desplazamiento indicado por un cursor de resultados ordenados por relevancia,
+     * donde no existe una clave estable sobre la cual continuar.
+     */
+    public int offset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(cursor);
+            if (raw.length != Integer.BYTES) {
+                throw new IllegalArgumentException("Longitud de cursor inválida: " + raw.length);
+            }
+            int offset = ByteBuffer.wrap(raw).getInt();
+            if (offset < 0) {
+                throw new IllegalArgumentException("Desplazamiento negativo: " + offset);
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCodes.VALIDATION_FIELD_INVALID + ": Cursor inválido", e);
+        }
+    }
+
+    /**
+     * Arma una página por desplazamiento a partir de los {@code size + 1} documentos consultados.
+     */
+    public <T> CursorPage<T> offsetPage(List<T> fetched, int size, int offset) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        byte[] next = ByteBuffer.allocate(Integer.BYTES).putInt(offset + size).array();
+        return new CursorPage<>(new ArrayList<>(fetched.subList(0, size)),
+                Base64.getUrlEncoder().withoutPadding().encodeToString(next));
+    }
+
+    /**
+     * Cursor de una secuencia que concatena dos fuentes, como el archivo de una
+     * encuesta seguido de MongoDB, cuando la primera ya se recorrió: envuelve el
+     * cursor propio de la segunda, que es {@code null} al empezar a recorrerla.
+     */
+    public String tail(String cursor) {
+        byte[] inner = cursor == null ? new byte[0] : Base64.getUrlDecoder().decode(cursor);
+        byte[] raw = ByteBuffer.allocate(1 + inner.length).put(TAIL).put(inner).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * Indica si el cursor fue creado con {@link #tail(String)}. Los cursores por
+     * desplazamiento tienen siempre {@value Integer#BYTES} bytes.
+     */
+    public boolean isTail(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return false;
+        }
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(cursor);
+            return raw.length != Integer.BYTES && raw.length > 0 && raw[0] == TAIL;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCodes.VALIDATION_FIELD_INVALID + ": Cursor inválido", e);
+        }
+    }
+
+    /**
+     * Cursor de la segunda fuente envuelto por {@link #tail(String)}, o {@code null}
+     * si todavía no se entregó ninguna de sus páginas.
+     */
+    public String tailOf(String cursor) {
+        byte[] raw = Base64.getUrlDecoder().decode(cursor);
+        if (raw.length == 1) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOfRange(raw, 1, raw.length));
+    }
+
+    static String encode(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(new ObjectId(id).toByteArray());
+    }
+}
@@ -0,0 +1,285 @@
+package com.surveys.surveys.partitioning;
+
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.exception.ErrorCodes;
+import com.surveys.surveys.exception.ValidationException;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.pagination.KeysetPagination;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Lecturas y escrituras de respuestas sobre las particiones mensuales de
+ * {@link ResponsePartitions}.
+ *
+ * <p>Las consultas se reparten solo entre las particiones del rango pedido y
+ * sus resultados se combinan en orden de {@code submittedAt}. La paginación
+ * recorre las particiones en orden cronológico y, dentro de cada una, por
+ * {@code _id}; el cursor lleva la partición y el último identificador entregado.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class PartitionedResponseStore {
+
+    private static final Comparator<Response> BY_SUBMITTED_AT = Comparator
+        .comparing(Response::getSubmittedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Response::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final int CURSOR_LENGTH = Integer.BYTES + 12;
+
+    private final MongoTemplate mongoTemplate;
+    private final ResponsePartitions partitions;
+    private final KeysetPagination pagination;
+
+    public PartitionedResponseStore(MongoTemplate mongoTemplate, ResponsePartitions partitions,
+                                    KeysetPagination pagination) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitions = partitions;
+        this.pagination = pagination;
+    }
+
+    /**
+     * Guarda la respuesta en la partición de su mes. Si ya existía en otra
+     * partición (cambió {@code submittedAt}) se elimina de la anterior.
+     */
+    public Response save(Response response) {
+        if (response.getSubmittedAt() == null) {
+            response.setSubmittedAt(Instant.now());
+        }
+        String target = partitions.collectionFor(response.getSubmittedAt());
+        if (response.getId() != null) {
+            locate(response.getId())
+                .filter(current -> !current.equals(target))
+                .ifPresent(current -> mongoTemplate.remove(byId(response.getId()), current));
+        }
+        return mongoTemplate.save(response, target);
+    }
+
+    public Optional<Response> findById(String id) {
+        return locate(id).map(collection -> mongoTemplate.findById(id, Response.class, collection));
+    }
+
+    /**
+     * @return {@code true} si la respuesta existía
+     */
+    public boolean delete(String id) {
+        return locate(id)
+            .map(collection -> mongoTemplate.remove(byId(id), collection).getDeletedCount() > 0)
+            .orElse(false);
+    }
+
+    /**
+     * Respuestas de una encuesta (o de todas con {@code surveyId} nulo) enviadas
+     * estrictamente entre {@code from} y {@code to}, en orden de envío.
+     * Los extremos nulos dejan el rango abierto.
+     */
+    public List<Response> find(String surveyId, Instant from, Instant to) {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "submittedAt", "_id"));
+        if (surveyId != null) {
+            query.addCriteria(Criteria.where("surveyId").is(surveyId));
+        }
+        if (from != null || to != null) {
+            Criteria range = Criteria.where("submittedAt");
+            if (from != null) {
+                range.gt(from);
+            }
+            if (to != null) {
+                range.lt(to);
+            }
+            query.addCriteria(range);
+        }
+        List<List<Response>> parts = new ArrayList<>();
+        for (String collection : partitions.collectionsBetween(from, to)) {
+            parts.add(mongoTemplate.find(query, Response.class, collection));
+        }
+        return merge(parts);
+    }
+
+    /**
+     * Solo {@code _id} y {@code submittedAt} de las respuestas de una encuesta
+     * enviadas hasta {@code until} inclusive.
+     */
+    public List<Response> keys(String surveyId, Instant until) {
+        Query query = new Query(Criteria.where("surveyId").is(surveyId).and("submittedAt").lte(until));
+        query.fields().include("submittedAt");
+        List<Response> keys = new ArrayList<>();
+        for (String collection : partitions.collectionsBetween(null, until)) {
+            keys.addAll(mongoTemplate.find(query, Response.class, collection));
+        }
+        return keys;
+    }
+
+    public long count(String surveyId) {
+        Query query = new Query(Criteria.where("surveyId").is(surveyId));
+        long total = 0;
+        for (String collection : partitions.collections()) {
+            total += mongoTemplate.count(query, collection);
+        }
+        return total;
+    }
+
+    /**
+     * Últimas respuestas de una encuesta, de la más reciente a la más antigua.
+     * Las particiones se leen desde el mes actual hacia atrás hasta completar el límite.
+     */
+    public List<Response> latest(String surveyId, int limit) {
+        List<Response> latest = new ArrayList<>();
+        List<String> collections = partitions.collections();
+        for (int i = collections.size() - 1; i >= 0 && latest.size() < limit; i--) {
+            Query query = new Query(Criteria.where("surveyId").is(surveyId))
+                .with(Sort.by(Sort.Direction.DESC, "submittedAt"))
+                .limit(limit - latest.size());
+            latest.addAll(mongoTemplate.find(query, Response.class, collections.get(i)));
+        }
+        latest.sort(BY_SUBMITTED_AT.reversed());
+        return latest;
+    }
+
+    /**
+     * Página de respuestas de una encuesta, o de todas con {@code surveyId} nulo.
+     */
+    public CursorPage<Response> page(String surveyId, String cursor, Integer size) {
+        int pageSize = pagination.resolveSize(size);
+        int afterKey = 0;
+        ObjectId afterId = KeysetPagination.FIRST_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            ByteBuffer raw = decode(cursor);
+            afterKey = raw.getInt();
+            byte[] id = new byte[12];
+            raw.get(id);
+            afterId = new ObjectId(id);
+        }
+
+        List<Response> fetched = new ArrayList<>();
+        List<Integer> keys = new ArrayList<>();
+        for (String collection : partitions.collections()) {
+            int key = partitions.keyOf(collection);
+            if (key < afterKey) {
+                continue;
+            }
+            Query query = new Query(Criteria.where("_id").gt(key == afterKey ? afterId : KeysetPagination.FIRST_ID))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(pageSize + 1 - fetched.size());
+            if (surveyId != null) {
+                query.addCriteria(Criteria.where("surveyId").is(surveyId));
+            }
+            for (Response response : mongoTemplate.find(query, Response.class, collection)) {
+                fetched.add(response);
+                keys.add(key);
+            }
+            if (fetched.size() > pageSize) {
+                break;
+            }
+        }
+
+        if (fetched.size() <= pageSize) {
+            return new CursorPage<>(fetched, null);
+        }
+        Response last = fetched.get(pageSize - 1);
+        ByteBuffer next = ByteBuffer.allocate(CURSOR_LENGTH)
+            .putInt(keys.get(pageSize - 1))
+            .put(new ObjectId(last.getId()).toByteArray());
+        return new CursorPage<>(new ArrayList<>(fetched.subList(0, pageSize)),
+            Base64.getUrlEncoder().withoutPadding().encodeToString(next.array()));
+    }
+
+    /**
+     * Colección que contiene la respuesta. Se busca primero en la partición del
+     * mes en que se generó el identificador y luego en las demás, de la más reciente a la más antigua.
+     */
+    private Optional<String> locate(String id) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+        List<String> candidates = new ArrayList<>(partitions.collections());
+        String likely = ResponsePartitions.collectionName(
+            ResponsePartitions.monthOf(new ObjectId(id).getDate().toInstant()));
+        candidates.sort(Comparator.comparing((String name) -> !name.equals(likely))
+            .thenComparing(Comparator.<String>reverseOrder()));
+        Query query = byId(id);
+        return candidates.stream()
+            .filter(collection -> mongoTemplate.exists(query, collection))
+            .findFirst();
+    }
+
+    private static Query byId(String id) {
+        return new Query(Criteria.where("_id").is(new ObjectId(id)));
+    }
+
+    private static ByteBuffer decode(String cursor) {
+        try {
+            byte[] raw = Base64.getUrlDecoder().decode(cursor);
+            if (raw.length != CURSOR_LENGTH) {
+                throw new IllegalArgumentException("Longitud de cursor inválida: " + raw.length);
+            }
+            return ByteBuffer.wrap(raw);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCodes.VALIDATION_FIELD_INVALID + ": Cursor inválido", e);
+        }
+    }
+
+    /**
+     * Combina listas ya ordenadas por {@code submittedAt} en una sola lista ordenada.
+     */
+    private static List<Response> merge(List<List<Response>> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::current, BY_SUBMITTED_AT));
+        int total = 0;
+        for (List<Response> part : parts) {
+            total += part.size();
+            Iterator<Response> iterator = part.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+        List<Response> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.current());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Elemento actual de una partición durante la combinación y el resto de la partición.
+     */
+    private static final class Head {
+        private final Response current;
+        private final Iterator<Response> rest;
+
+        Head(Response current, Iterator<Response> rest) {
+            this.current = current;
+            this.rest = rest;
+        }
+
+        Response current() {
+            return current;
+        }
+
+        Iterator<Response> rest() {
+            return rest;
+        }
+    }
+}
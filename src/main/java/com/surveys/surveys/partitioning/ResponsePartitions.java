@@ -0,0 +1,250 @@
+package com.surveys.surveys.partitioning;
+
+import com.surveys.surveys.exception.ErrorCodes;
+import com.surveys.surveys.exception.ValidationException;
+import com.surveys.surveys.indexing.IndexManager;
+import com.surveys.surveys.model.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Particiones mensuales de las respuestas: cada respuesta se guarda en
+ * {@code responses_YYYYMM} según el mes (UTC) de {@code submittedAt}.
+ *
+ * <p>Las particiones se crean con los índices de {@code responses} la primera
+ * vez que se escribe en ellas. Las consultas por rango de fechas solo leen las
+ * particiones que se solapan con el rango, y la retención elimina meses
+ * completos con {@code drop}, sin borrar documentos uno a uno. La colección
+ * {@code responses} conserva las respuestas anteriores a la activación y se
+ * consulta como una partición más mientras tenga documentos.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ResponsePartitions {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponsePartitions.class);
+
+    private static final String PREFIX = "responses_";
+    private static final Pattern PARTITION_NAME = Pattern.compile("responses_(\\d{6})");
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexManager indexManager;
+    private final boolean enabled;
+    private final int retentionMonths;
+
+    private final NavigableSet<YearMonth> months = new ConcurrentSkipListSet<>();
+    private volatile boolean legacyData;
+    private volatile Instant refreshedAt = Instant.MIN;
+
+    public ResponsePartitions(MongoTemplate mongoTemplate, IndexManager indexManager,
+                              @Value("${surveys.responses.partitioning.enabled:false}") boolean enabled,
+                              @Value("${surveys.responses.partitioning.retention-months:0}") int retentionMonths) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexManager = indexManager;
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Colección donde se guarda una respuesta enviada en el instante indicado.
+     * Si la partición no existe se crea con sus índices.
+     */
+    public String collectionFor(Instant submittedAt) {
+        YearMonth month = monthOf(submittedAt);
+        if (!months.contains(month)) {
+            create(month);
+        }
+        return collectionName(month);
+    }
+
+    /**
+     * Colecciones que pueden contener respuestas enviadas entre {@code from} y {@code to}
+     * en orden cronológico; un extremo {@code null} deja el rango abierto.
+     * La colección sin particionar va primero si aún tiene respuestas.
+     */
+    public List<String> collectionsBetween(Instant from, Instant to) {
+        refreshIfStale();
+        YearMonth first = from != null ? monthOf(from) : null;
+        YearMonth last = to != null ? monthOf(to) : null;
+        List<String> names = new ArrayList<>();
+        if (legacyData) {
+            names.add(legacyCollection());
+        }
+        for (YearMonth month : months) {
+            if ((first == null || !month.isBefore(first)) && (last == null || !month.isAfter(last))) {
+                names.add(collectionName(month));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Todas las colecciones de respuestas en orden cronológico.
+     */
+    public List<String> collections() {
+        return collectionsBetween(null, null);
+    }
+
+    /**
+     * Colecciones donde puede haber respuestas: las particiones si están activas
+     * o, si no, la colección {@code responses}.
+     */
+    public List<String> responseCollections() {
+        return enabled ? collections() : List.of(legacyCollection());
+    }
+
+    /**
+     * Meses con partición, del más antiguo al más reciente.
+     */
+    public List<YearMonth> months() {
+        refreshIfStale();
+        return new ArrayList<>(months);
+    }
+
+    /**
+     * Elimina la partición de un mes completo.
+     *
+     * @return {@code true} si la partición existía
+     */
+    public synchronized boolean drop(YearMonth month) {
+        String name = collectionName(month);
+        boolean existed = mongoTemplate.collectionExists(name);
+        mongoTemplate.dropCollection(name);
+        months.remove(month);
+        if (existed) {
+            log.info("Partición de respuestas eliminada: {}", name);
+        }
+        return existed;
+    }
+
+    /**
+     * Elimina las particiones de los meses anteriores al indicado.
+     *
+     * @return meses eliminados
+     */
+    public List<YearMonth> dropBefore(YearMonth month) {
+        List<YearMonth> dropped = new ArrayList<>();
+        for (YearMonth candidate : months()) {
+            if (candidate.isBefore(month) && drop(candidate)) {
+                dropped.add(candidate);
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Aplica la retención configurada conservando los últimos
+     * {@code surveys.responses.partitioning.retention-months} meses, incluido el actual.
+     */
+    @Scheduled(cron = "${surveys.responses.partitioning.retention-cron:0 30 3 * * *}")
+    public void applyRetention() {
+        if (!enabled || retentionMonths <= 0) {
+            return;
+        }
+        try {
+            YearMonth oldestKept = YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths - 1L);
+            List<YearMonth> dropped = dropBefore(oldestKept);
+            if (!dropped.isEmpty()) {
+                log.info("Retención de respuestas aplicada: {} particiones eliminadas", dropped.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("No se pudo aplicar la retención de respuestas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Clave numérica de una colección ({@code yyyyMM}, o 0 para la colección sin
+     * particionar), usada en los cursores de paginación.
+     */
+    public int keyOf(String collection) {
+        Matcher matcher = PARTITION_NAME.matcher(collection);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    /**
+     * Mes de un instante, en UTC.
+     */
+    public static YearMonth monthOf(Instant instant) {
+        return YearMonth.from(instant.atZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * Mes de una partición escrito como {@code yyyyMM}.
+     *
+     * @throws ValidationException si el texto no es un mes válido
+     */
+    public static YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month, MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException(ErrorCodes.VALIDATION_FIELD_INVALID
+                + ": El mes debe tener el formato yyyyMM", e);
+        }
+    }
+
+    public static String collectionName(YearMonth month) {
+        return PREFIX + month.format(MONTH_FORMAT);
+    }
+
+    private String legacyCollection() {
+        return mongoTemplate.getCollectionName(Response.class);
+    }
+
+    private synchronized void create(YearMonth month) {
+        if (months.contains(month)) {
+            return;
+        }
+        String name = collectionName(month);
+        indexManager.ensureResponseIndexes(name);
+        months.add(month);
+        log.info("Partición de respuestas creada: {}", name);
+    }
+
+    /**
+     * Relee las particiones existentes para ver las creadas o eliminadas por otras instancias.
+     */
+    private void refreshIfStale() {
+        if (Instant.now().isBefore(refreshedAt.plus(REFRESH_INTERVAL))) {
+            return;
+        }
+        synchronized (this) {
+            List<YearMonth> found = new ArrayList<>();
+            for (String name : mongoTemplate.getCollectionNames()) {
+                Matcher matcher = PARTITION_NAME.matcher(name);
+                if (matcher.matches()) {
+                    found.add(YearMonth.parse(matcher.group(1), MONTH_FORMAT));
+                }
+            }
+            months.retainAll(found);
+            months.addAll(found);
+            legacyData = mongoTemplate.getCollection(legacyCollection()).estimatedDocumentCount() > 0;
+            refreshedAt = Instant.now();
+        }
+    }
+}
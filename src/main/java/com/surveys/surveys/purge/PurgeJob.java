@@ -0,0 +1,63 @@
+package com.surveys.surveys.purge;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Progreso del borrado en segundo plano de una encuesta y sus respuestas.
+ * {@code questionSetId} es el conjunto de preguntas que referenciaba la
+ * encuesta, leído al programar el borrado porque el documento se elimina antes.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Document(collection = "purge_jobs")
+public class PurgeJob {
+    @Id
+    private String surveyId;
+    private Status status;
+    private long deletedResponses;
+    private Instant createdAt;
+    private Instant updatedAt;
+    private Instant completedAt;
+    private String lastError;
+    private String questionSetId;
+
+    /**
+     * Estados de un borrado. Los que no están en {@code COMPLETADO} se reanudan al arrancar.
+     */
+    public enum Status {
+        PENDIENTE,
+        EN_CURSO,
+        FALLIDO,
+        COMPLETADO
+    }
+
+    // Getters y Setters
+    public String getSurveyId() { return surveyId; }
+    public void setSurveyId(String surveyId) { this.surveyId = surveyId; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public long getDeletedResponses() { return deletedResponses; }
+    public void setDeletedResponses(long deletedResponses) { this.deletedResponses = deletedResponses; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    public Instant getCompletedAt() { return completedAt; }
+    public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public String getQuestionSetId() { return questionSetId; }
+    public void setQuestionSetId(String questionSetId) { this.questionSetId = questionSetId; }
+}
@@ -0,0 +1,235 @@
+package com.surveys.surveys.purge;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.mongodb.client.result.DeleteResult;
+import com.surveys.surveys.answers.ResponseDictionaries;
+import com.surveys.surveys.archive.ResponseArchive;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.partitioning.ResponsePartitions;
+import com.surveys.surveys.questionbank.QuestionBank;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Borra en segundo plano las respuestas de las encuestas eliminadas.
+ *
+ * <p>Al eliminar una encuesta se registra primero un {@link PurgeJob} y luego
+ * se borra el documento de la encuesta, así que ninguna eliminación queda sin
+ * su trabajo de limpieza. Un hilo dedicado borra las respuestas en lotes de
+ * {@code surveys.purge.batch-size} y un {@link RateLimiter} limita los
+ * documentos borrados por segundo a {@code surveys.purge.rate}, para que el
+ * borrado de una encuesta grande no compita con las solicitudes en curso. El
+ * progreso se guarda después de cada lote; los trabajos sin terminar se
+ * reanudan al arrancar y continúan con las respuestas que queden. Al terminar
+ * se libera el conjunto de preguntas de la encuesta si ninguna otra lo usa
+ * (ver {@link QuestionBank#release}).
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SurveyPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(SurveyPurger.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ResponsePartitions partitions;
+    private final ResponseArchive archive;
+    private final ResponseDictionaries dictionaries;
+    private final QuestionBank questionBank;
+    private final int batchSize;
+    private final RateLimiter rateLimiter;
+
+    private final LinkedBlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public SurveyPurger(MongoTemplate mongoTemplate, ResponsePartitions partitions, ResponseArchive archive,
+                        ResponseDictionaries dictionaries, QuestionBank questionBank,
+                        @Value("${surveys.purge.batch-size:500}") int batchSize,
+                        @Value("${surveys.purge.rate:2000}") double rate) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitions = partitions;
+        this.archive = archive;
+        this.dictionaries = dictionaries;
+        this.questionBank = questionBank;
+        this.batchSize = batchSize;
+        this.rateLimiter = RateLimiter.create(rate);
+    }
+
+    /**
+     * Inicia el hilo de borrado y encola los trabajos que quedaron sin terminar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::work, "survey-purge");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Registra el borrado de las respuestas de una encuesta y lo encola. Se
+     * llama antes de borrar la encuesta, para guardar su conjunto de preguntas.
+     */
+    public PurgeJob schedule(String surveyId) {
+        Instant now = Instant.now();
+        Update update = new Update()
+            .set("status", PurgeJob.Status.PENDIENTE)
+            .set("updatedAt", now)
+            .unset("lastError")
+            .setOnInsert("createdAt", now)
+            .setOnInsert("deletedResponses", 0L);
+        Query questionSet = byId(surveyId);
+        questionSet.fields().include("questionSetId");
+        Survey survey = mongoTemplate.findOne(questionSet, Survey.class);
+        if (survey != null && survey.getQuestionSetId() != null) {
+            update.set("questionSetId", survey.getQuestionSetId());
+        }
+        PurgeJob job = mongoTemplate.findAndModify(byId(surveyId), update,
+            FindAndModifyOptions.options().upsert(true).returnNew(true),
+            PurgeJob.class);
+        queue.offer(surveyId);
+        return job;
+    }
+
+    public Optional<PurgeJob> getJob(String surveyId) {
+        return Optional.ofNullable(mongoTemplate.findById(surveyId, PurgeJob.class));
+    }
+
+    /**
+     * Trabajos de borrado, los más recientes primero; con {@code status} solo los de ese estado.
+     */
+    public List<PurgeJob> getJobs(PurgeJob.Status status) {
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(100);
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        return mongoTemplate.find(query, PurgeJob.class);
+    }
+
+    private void work() {
+        try {
+            resumeUnfinished();
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron cargar los borrados pendientes: {}", e.getMessage());
+        }
+        while (running) {
+            try {
+                purge(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void resumeUnfinished() {
+        Query query = new Query(Criteria.where("status").ne(PurgeJob.Status.COMPLETADO));
+        query.fields().include("_id");
+        List<PurgeJob> unfinished = mongoTemplate.find(query, PurgeJob.class);
+        unfinished.forEach(job -> queue.offer(job.getSurveyId()));
+        if (!unfinished.isEmpty()) {
+            log.info("Reanudando {} borrados de encuestas", unfinished.size());
+        }
+    }
+
+    /**
+     * Borra las respuestas de la encuesta en lotes, luego su archivo en disco,
+     * su diccionario de respuestas compactas y el documento de la encuesta si
+     * aún existía; por último libera su conjunto de preguntas y elimina los
+     * liberados antes.
+     */
+    void purge(String surveyId) {
+        PurgeJob job = getJob(surveyId).orElse(null);
+        if (job == null || job.getStatus() == PurgeJob.Status.COMPLETADO) {
+            // Encolado dos veces (al programarlo y al reanudar) y ya terminado
+            return;
+        }
+        try {
+            setStatus(surveyId, PurgeJob.Status.EN_CURSO, null);
+            for (String collection : partitions.responseCollections()) {
+                while (running) {
+                    Query batch = new Query(Criteria.where("surveyId").is(surveyId)).limit(batchSize);
+                    batch.fields().include("_id");
+                    List<Object> ids = mongoTemplate.find(batch, Document.class, collection).stream()
+                        .map(doc -> doc.get("_id"))
+                        .toList();
+                    if (ids.isEmpty()) {
+                        break;
+                    }
+                    rateLimiter.acquire(ids.size());
+                    DeleteResult result = mongoTemplate.remove(new Query(Criteria.where("_id").in(ids)), collection);
+                    addDeleted(surveyId, result.getDeletedCount());
+                }
+            }
+            if (!running) {
+                // Se reanuda en el próximo arranque
+                return;
+            }
+            addDeleted(surveyId, archive.delete(surveyId));
+            dictionaries.delete(surveyId);
+            mongoTemplate.remove(byId(surveyId), Survey.class);
+            questionBank.release(job.getQuestionSetId());
+            questionBank.collectReleased();
+            setStatus(surveyId, PurgeJob.Status.COMPLETADO, null);
+            log.info("Borrado de la encuesta {} completado", surveyId);
+        } catch (RuntimeException e) {
+            log.warn("Falló el borrado de la encuesta {}: {}", surveyId, e.getMessage());
+            setStatus(surveyId, PurgeJob.Status.FALLIDO, e.getMessage());
+        }
+    }
+
+    private void addDeleted(String surveyId, long deleted) {
+        mongoTemplate.updateFirst(byId(surveyId),
+            new Update().inc("deletedResponses", deleted).set("updatedAt", Instant.now()),
+            PurgeJob.class);
+    }
+
+    private void setStatus(String surveyId, PurgeJob.Status status, String error) {
+        Instant now = Instant.now();
+        Update update = new Update().set("status", status).set("updatedAt", now);
+        if (status == PurgeJob.Status.COMPLETADO) {
+            update.set("completedAt", now);
+        }
+        if (error != null) {
+            update.set("lastError", error);
+        } else {
+            update.unset("lastError");
+        }
+        mongoTemplate.updateFirst(byId(surveyId), update, PurgeJob.class);
+    }
+
+    private static Query byId(String surveyId) {
+        return new Query(Criteria.where("_id").is(surveyId));
+    }
+}
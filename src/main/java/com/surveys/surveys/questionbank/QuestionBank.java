@@ -0,0 +1,277 @@
+package com.surveys.surveys.questionbank;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Survey;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Almacén direccionado por contenido para las preguntas de las encuestas.
+ *
+ * <p>Cada pregunta distinta se guarda una sola vez en {@code question_bank},
+ * con el hash SHA-256 de su contenido como {@code _id}. Una lista de preguntas
+ * se guarda como conjunto inmutable en {@code question_sets}: referencias
+ * {@code (questionId, hash, order)} identificadas a su vez por su hash. Las
+ * copias de una encuesta (duplicados, versiones, instancias de plantillas)
+ * solo guardan el ID del conjunto, y una versión que cambia una pregunta solo
+ * agrega el contenido de esa pregunta.
+ *
+ * <p>Los conjuntos leídos se mantienen en memoria y sus preguntas, congeladas
+ * con {@link Question#freeze()} y con opciones inmodificables, se comparten
+ * entre los conjuntos que contienen la misma entrada y con las encuestas que
+ * los referencian. Los cambios a las preguntas de una encuesta se hacen en el
+ * documento (copia en escritura), nunca sobre estas instancias.
+ *
+ * <p>Un conjunto que ya ninguna encuesta referencia se libera al borrar la
+ * última ({@link #release}) y se elimina en una recolección posterior
+ * ({@link #collectReleased}), pasado {@code surveys.question-bank.release-grace}
+ * desde que se liberó y desde que se guardó por última vez, si sigue sin
+ * referencias. La espera cubre las copias y encuestas nuevas que estaban
+ * guardando ese conjunto mientras se borraba la última encuesta. Las preguntas
+ * de {@code question_bank} nunca se eliminan: se comparten entre conjuntos por
+ * su contenido y una pregunta que vuelva a guardarse recupera la misma entrada.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class QuestionBank {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionBank.class);
+
+    static final String QUESTIONS_COLLECTION = "question_bank";
+    static final String SETS_COLLECTION = "question_sets";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration releaseGrace;
+    private final Cache<String, Optional<QuestionSet>> sets;
+    private final Cache<String, Question> sharedQuestions;
+
+    public QuestionBank(
+            MongoTemplate mongoTemplate,
+            @Value("${surveys.question-bank.cache-size:500}") long cacheSize,
+            @Value("${surveys.question-bank.release-grace:PT1H}") Duration releaseGrace) {
+        this.mongoTemplate = mongoTemplate;
+        this.releaseGrace = releaseGrace;
+        this.sets = CacheBuilder.newBuilder()
+            .maximumSize(cacheSize)
+            .build();
+        this.sharedQuestions = CacheBuilder.newBuilder()
+            .weakValues()
+            .build();
+    }
+
+    /**
+     * Guarda las preguntas como conjunto inmutable y devuelve su ID. Las
+     * preguntas y conjuntos que ya existen no se vuelven a escribir; del
+     * conjunto solo se renueva {@code storedAt}, que lo protege de la recolección.
+     */
+    public String store(List<Question> questions) {
+        List<Document> entries = new ArrayList<>(questions.size());
+        Map<String, Document> contents = new LinkedHashMap<>();
+        for (Question question : questions) {
+            Document content = content(question);
+            String hash = hash(content);
+            contents.putIfAbsent(hash, content);
+            entries.add(new Document("questionId", question.getId())
+                .append("hash", hash)
+                .append("order", question.getOrder()));
+        }
+        String setId = hash(new Document("entries", entries));
+
+        if (!contents.isEmpty()) {
+            List<WriteModel<Document>> writes = new ArrayList<>(contents.size());
+            contents.forEach((hash, content) -> writes.add(insertIfAbsent(hash, content)));
+            mongoTemplate.getCollection(QUESTIONS_COLLECTION)
+                .bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        }
+        Date now = Date.from(Instant.now());
+        mongoTemplate.getCollection(SETS_COLLECTION).updateOne(
+            Filters.eq("_id", setId),
+            new Document("$setOnInsert", new Document("entries", entries).append("createdAt", now))
+                .append("$set", new Document("storedAt", now)),
+            new UpdateOptions().upsert(true));
+        return setId;
+    }
+
+    /**
+     * Marca el conjunto para {@link #collectReleased} si ninguna encuesta lo referencia.
+     */
+    public void release(String setId) {
+        if (setId == null || referenced(setId)) {
+            return;
+        }
+        mongoTemplate.getCollection(SETS_COLLECTION).updateOne(
+            Filters.and(Filters.eq("_id", setId), Filters.exists("releasedAt", false)),
+            Updates.set("releasedAt", Date.from(Instant.now())));
+    }
+
+    /**
+     * Elimina los conjuntos liberados hace más de {@code release-grace} que
+     * siguen sin referencias y no se guardaron en ese plazo. Los que volvieron a
+     * referenciarse dejan de estar liberados.
+     *
+     * @return cantidad de conjuntos eliminados
+     */
+    public int collectReleased() {
+        Date cutoff = Date.from(Instant.now().minus(releaseGrace));
+        MongoCollection<Document> collection = mongoTemplate.getCollection(SETS_COLLECTION);
+        List<String> released = new ArrayList<>();
+        collection.find(Filters.lt("releasedAt", cutoff))
+            .projection(Projections.include("_id"))
+            .forEach(set -> released.add(set.getString("_id")));
+        int dropped = 0;
+        for (String setId : released) {
+            if (referenced(setId)) {
+                collection.updateOne(Filters.eq("_id", setId), Updates.unset("releasedAt"));
+            } else if (collection.deleteOne(Filters.and(Filters.eq("_id", setId),
+                    Filters.or(Filters.exists("storedAt", false), Filters.lt("storedAt", cutoff))))
+                    .getDeletedCount() > 0) {
+                sets.invalidate(setId);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.info("Eliminados {} conjuntos de preguntas sin encuestas", dropped);
+        }
+        return dropped;
+    }
+
+    private boolean referenced(String setId) {
+        return mongoTemplate.exists(new Query(Criteria.where("questionSetId").is(setId)), Survey.class);
+    }
+
+    /**
+     * Obtiene un conjunto por su ID; los conjuntos son inmutables y se guardan en memoria.
+     */
+    public Optional<QuestionSet> find(String setId) {
+        if (setId == null) {
+            return Optional.empty();
+        }
+        try {
+            return sets.get(setId, () -> load(setId));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("No se pudo cargar el conjunto de preguntas " + setId, e.getCause());
+        }
+    }
+
+    /**
+     * Completa las preguntas de una encuesta que referencia un conjunto con la
+     * lista compartida del conjunto. No altera {@code modifiedAt}.
+     */
+    public Survey hydrate(Survey survey) {
+        if (survey == null || survey.getQuestionSetId() == null) {
+            return survey;
+        }
+        Instant modifiedAt = survey.getModifiedAt();
+        survey.setQuestions(find(survey.getQuestionSetId())
+            .map(QuestionSet::getQuestions)
+            .orElse(List.of()));
+        survey.setModifiedAt(modifiedAt);
+        return survey;
+    }
+
+    private Optional<QuestionSet> load(String setId) {
+        Document set = mongoTemplate.getCollection(SETS_COLLECTION).find(Filters.eq("_id", setId)).first();
+        if (set == null) {
+            log.warn("Conjunto de preguntas inexistente: {}", setId);
+            return Optional.empty();
+        }
+        List<Document> entries = set.getList("entries", Document.class);
+        List<String> hashes = entries.stream().map(entry -> entry.getString("hash")).distinct().toList();
+        Map<String, Document> contents = new HashMap<>();
+        mongoTemplate.getCollection(QUESTIONS_COLLECTION)
+            .find(Filters.in("_id", hashes))
+            .forEach(content -> contents.put(content.getString("_id"), content));
+
+        List<Question> questions = new ArrayList<>(entries.size());
+        for (Document entry : entries) {
+            Document content = contents.get(entry.getString("hash"));
+            if (content == null) {
+                log.warn("Pregunta {} ausente del banco en el conjunto {}", entry.getString("hash"), setId);
+                continue;
+            }
+            questions.add(share(entry, content));
+        }
+        return Optional.of(new QuestionSet(setId, questions));
+    }
+
+    private Question share(Document entry, Document content) {
+        String key = entry.getString("hash") + ":" + entry.getString("questionId") + ":" + entry.get("order");
+        try {
+            return sharedQuestions.get(key, () -> {
+                Question question = mongoTemplate.getConverter().read(Question.class, content);
+                question.setId(entry.getString("questionId"));
+                question.setOrder(entry.getInteger("order"));
+                question.setOptions(unmodifiable(question.getOptions()));
+                return question.freeze();
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("No se pudo leer la pregunta " + key, e.getCause());
+        }
+    }
+
+    /**
+     * Copia inmodificable de las listas y mapas de las opciones; los valores escalares son inmutables.
+     */
+    private static Object unmodifiable(Object options) {
+        if (options instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(unmodifiable(item)));
+            return Collections.unmodifiableList(copy);
+        }
+        if (options instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, value) -> copy.put(key, unmodifiable(value)));
+            return Collections.unmodifiableMap(copy);
+        }
+        return options;
+    }
+
+    private Document content(Question question) {
+        return new Document("text", question.getText())
+            .append("type", question.getType())
+            .append("required", question.isRequired())
+            .append("options", mongoTemplate.getConverter().convertToMongoType(question.getOptions()));
+    }
+
+    private static UpdateOneModel<Document> insertIfAbsent(String hash, Document content) {
+        return new UpdateOneModel<>(Filters.eq("_id", hash), new Document("$setOnInsert", content),
+            new UpdateOptions().upsert(true));
+    }
+
+    static String hash(Document document) {
+        return Hashing.sha256().hashString(document.toJson(), StandardCharsets.UTF_8).toString();
+    }
+}
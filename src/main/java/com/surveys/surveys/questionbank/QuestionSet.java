@@ -0,0 +1,56 @@
+package com.surveys.surveys.questionbank;
+
+import com.surveys.surveys.model.Question;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Conjunto inmutable de preguntas identificado por el hash de su contenido.
+ *
+ * <p>Las instancias de {@link Question} del conjunto son de solo lectura y se
+ * comparten con los demás conjuntos que contienen la misma pregunta y con
+ * todas las encuestas que lo referencian, sin copiarlas.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class QuestionSet {
+
+    private final String id;
+    private final List<Question> questions;
+    private final Map<String, Question> questionsById;
+
+    QuestionSet(String id, List<Question> questions) {
+        this.id = id;
+        this.questions = List.copyOf(questions);
+        this.questionsById = new HashMap<>();
+        for (Question question : this.questions) {
+            if (question.getId() != null) {
+                questionsById.put(question.getId(), question);
+            }
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Preguntas del conjunto en su orden, en una lista inmodificable de instancias
+     * compartidas y congeladas ({@link Question#freeze()}).
+     */
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * Busca una pregunta por su ID sin recorrer la lista.
+     */
+    public Optional<Question> find(String questionId) {
+        return Optional.ofNullable(questionsById.get(questionId));
+    }
+}
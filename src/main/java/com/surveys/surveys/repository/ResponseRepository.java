@@ -1,6 +1,8 @@
 package com.surveys.surveys.repository;
 
 import com.surveys.surveys.model.Response;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import java.time.Instant;
@@ -36,9 +38,25 @@ public interface ResponseRepository extends MongoRepository<Response, String> {
      */
     long countBySurveyId(String surveyId);
     
+    /**
+     * Solo _id y submittedAt de las respuestas de una encuesta enviadas hasta "until".
+     */
+    @Query(value = "{ 'surveyId': ?0, 'submittedAt': { $lte: ?1 } }", fields = "{ 'submittedAt': 1 }")
+    List<Response> findKeysBySurveyIdSubmittedUntil(String surveyId, Instant until);
+
     /**
      * Obtiene últimas respuestas ordenadas por fecha.
      */
     @Query(sort = "{ submittedAt: -1 }")
     List<Response> findTopBySurveyId(String surveyId);
+
+    /**
+     * Página de todas las respuestas con _id mayor a "afterId".
+     */
+    List<Response> findByIdGreaterThanOrderByIdAsc(ObjectId afterId, Limit limit);
+
+    /**
+     * Página de respuestas de una encuesta con _id mayor a "afterId".
+     */
+    List<Response> findBySurveyIdAndIdGreaterThanOrderByIdAsc(String surveyId, ObjectId afterId, Limit limit);
 }
@@ -1,10 +1,15 @@
 package com.surveys.surveys.repository;
 
+import com.surveys.surveys.dto.SurveySummary;
 import com.surveys.surveys.enums.SurveyStatus;
 import com.surveys.surveys.model.Survey;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,11 +22,6 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface SurveyRepository extends MongoRepository<Survey, String> {
 
-    /**
-     * Busca encuestas por nombre (case insensitive).
-     */
-    List<Survey> findByNameContainingIgnoreCase(String name);
-
     /**
      * Busca encuestas por administrador.
      */
@@ -41,4 +41,42 @@ public interface SurveyRepository extends MongoRepository<Survey, String> {
      * Busca encuestas por estado y administrador.
      */
     List<Survey> findByStatusAndAdminId(SurveyStatus status, String adminId);
+
+    /**
+     * Todas las versiones de una cadena, de la más reciente a la más antigua.
+     */
+    List<Survey> findByRootVersionIdOrderByVersionDescCreatedAtDesc(String rootVersionId);
+
+    /**
+     * Versión más reciente de una cadena (solo el número de versión).
+     */
+    @Query(fields = "{ version: 1 }")
+    Optional<Survey> findFirstByRootVersionIdOrderByVersionDesc(String rootVersionId);
+
+    /**
+     * Resúmenes de encuestas por estado, sin preguntas ni branding.
+     */
+    @Query(fields = SurveySummary.FIELDS)
+    List<SurveySummary> findSummariesByStatus(SurveyStatus status);
+
+    // Consultas paginadas por clave: devuelven hasta "limit" resúmenes con _id mayor a "afterId"
+
+    /**
+     * Página de todas las encuestas.
+     */
+    @Query(fields = SurveySummary.FIELDS)
+    List<SurveySummary> findByIdGreaterThanOrderByIdAsc(ObjectId afterId, Limit limit);
+
+    /**
+     * Página de encuestas por estado.
+     */
+    @Query(fields = SurveySummary.FIELDS)
+    List<SurveySummary> findByStatusAndIdGreaterThanOrderByIdAsc(SurveyStatus status, ObjectId afterId, Limit limit);
+
+    /**
+     * Página de encuestas por tipo (plantilla o normal).
+     */
+    @Query(fields = SurveySummary.FIELDS)
+    List<SurveySummary> findByIsTemplateAndIdGreaterThanOrderByIdAsc(
+        boolean isTemplate, ObjectId afterId, Limit limit);
 }
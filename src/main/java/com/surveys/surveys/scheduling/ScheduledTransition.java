@@ -0,0 +1,70 @@
+package com.surveys.surveys.scheduling;
+
+import com.surveys.surveys.enums.SurveyStatus;
+
+import java.time.Instant;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cambio de estado programado para una encuesta en un instante dado.
+ * 
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ScheduledTransition implements Delayed {
+
+    private final String surveyId;
+    private final SurveyStatus from;
+    private final SurveyStatus to;
+    private final Instant dueAt;
+
+    ScheduledTransition(String surveyId, SurveyStatus from, SurveyStatus to, Instant dueAt) {
+        this.surveyId = surveyId;
+        this.from = from;
+        this.to = to;
+        this.dueAt = dueAt;
+    }
+
+    /**
+     * Clave que identifica la transición; solo puede haber una pendiente por encuesta y destino.
+     */
+    String key() {
+        return surveyId + ":" + to;
+    }
+
+    /**
+     * Campo de la encuesta que define el instante de la transición.
+     */
+    String scheduleField() {
+        return to == SurveyStatus.PUBLICADA ? "scheduledOpen" : "scheduledClose";
+    }
+
+    ScheduledTransition retryAt(Instant instant) {
+        return new ScheduledTransition(surveyId, from, to, instant);
+    }
+
+    String getSurveyId() { return surveyId; }
+    SurveyStatus getFrom() { return from; }
+    SurveyStatus getTo() { return to; }
+    Instant getDueAt() { return dueAt; }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(dueAt.toEpochMilli() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof ScheduledTransition transition) {
+            return dueAt.compareTo(transition.dueAt);
+        }
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public String toString() {
+        return surveyId + " " + from + " -> " + to + " @ " + dueAt;
+    }
+}
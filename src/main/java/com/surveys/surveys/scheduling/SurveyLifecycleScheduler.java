@@ -0,0 +1,270 @@
+package com.surveys.surveys.scheduling;
+
+import com.surveys.surveys.cache.SurveyChangedEvent;
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.model.Survey;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+
+/**
+ * Aplica la apertura y el cierre programados de las encuestas
+ * ({@code scheduledOpen} y {@code scheduledClose}).
+ *
+ * <p>Las transiciones que vencen dentro del horizonte configurado se guardan
+ * en una {@link DelayQueue} y un hilo dedicado las ejecuta en su instante.
+ * Cada transición es una actualización atómica condicionada al estado actual
+ * en la base de datos, por lo que varias instancias pueden ejecutarla sin
+ * conflicto y solo una la aplica. Al arrancar se cargan también las
+ * transiciones vencidas mientras la aplicación estuvo detenida.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SurveyLifecycleScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SurveyLifecycleScheduler.class);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration horizon;
+
+    private final DelayQueue<ScheduledTransition> queue = new DelayQueue<>();
+    private final Map<String, ScheduledTransition> pending = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public SurveyLifecycleScheduler(
+            MongoTemplate mongoTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${surveys.scheduler.enabled:true}") boolean enabled,
+            @Value("${surveys.scheduler.horizon:PT24H}") Duration horizon) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.horizon = horizon;
+    }
+
+    /**
+     * Inicia el hilo que ejecuta las transiciones. Antes de atender la cola
+     * recupera las transiciones vencidas y carga las próximas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "survey-lifecycle-scheduler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Recarga periódicamente las transiciones que entran en el horizonte,
+     * incluidas las programadas desde otras instancias.
+     */
+    @Scheduled(
+        fixedDelayString = "${surveys.scheduler.refresh-interval-ms:300000}",
+        initialDelayString = "${surveys.scheduler.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (!running) {
+            return;
+        }
+        try {
+            loadTransitions();
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron recargar las transiciones programadas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registra las transiciones pendientes de una encuesta recién guardada,
+     * reemplazando las que tenía programadas.
+     */
+    public void schedule(Survey survey) {
+        if (!enabled || survey == null || survey.getId() == null) {
+            return;
+        }
+        Instant limit = Instant.now().plus(horizon);
+        if (survey.getStatus() == SurveyStatus.CREADA) {
+            enqueue(survey.getId(), SurveyStatus.CREADA, SurveyStatus.PUBLICADA, survey.getScheduledOpen(), limit);
+        } else {
+            cancel(survey.getId(), SurveyStatus.PUBLICADA);
+        }
+        if (survey.getStatus() == SurveyStatus.PUBLICADA) {
+            enqueue(survey.getId(), SurveyStatus.PUBLICADA, SurveyStatus.CERRADA, survey.getScheduledClose(), limit);
+        } else {
+            cancel(survey.getId(), SurveyStatus.CERRADA);
+        }
+    }
+
+    /**
+     * Aplica de inmediato las transiciones vencidas de una encuesta.
+     *
+     * @return la encuesta con su estado actualizado, o la misma si no había cambios
+     */
+    public Survey applyDueTransitions(Survey survey) {
+        if (survey == null || survey.getId() == null) {
+            return survey;
+        }
+        Instant now = Instant.now();
+        Survey current = survey;
+        if (current.getStatus() == SurveyStatus.CREADA && isDue(current.getScheduledOpen(), now)) {
+            current = apply(new ScheduledTransition(current.getId(), SurveyStatus.CREADA, SurveyStatus.PUBLICADA,
+                current.getScheduledOpen()), now).orElse(current);
+        }
+        if (current.getStatus() == SurveyStatus.PUBLICADA && isDue(current.getScheduledClose(), now)) {
+            current = apply(new ScheduledTransition(current.getId(), SurveyStatus.PUBLICADA, SurveyStatus.CERRADA,
+                current.getScheduledClose()), now).orElse(current);
+        }
+        return current;
+    }
+
+    /**
+     * Número de transiciones en espera.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void run() {
+        try {
+            loadTransitions();
+        } catch (RuntimeException e) {
+            if (running) {
+                log.warn("No se pudieron cargar las transiciones programadas al iniciar: {}", e.getMessage());
+            }
+        }
+        while (running) {
+            try {
+                ScheduledTransition transition = queue.take();
+                pending.remove(transition.key(), transition);
+                execute(transition);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void execute(ScheduledTransition transition) {
+        try {
+            apply(transition, Instant.now());
+        } catch (RuntimeException e) {
+            if (!running) {
+                return;
+            }
+            log.warn("Falló la transición {}; se reintentará en {}: {}", transition, RETRY_DELAY, e.getMessage());
+            ScheduledTransition retry = transition.retryAt(Instant.now().plus(RETRY_DELAY));
+            if (pending.putIfAbsent(retry.key(), retry) == null) {
+                queue.offer(retry);
+            }
+        }
+    }
+
+    /**
+     * Carga de la base de datos las transiciones que vencen antes del horizonte,
+     * incluidas las que ya vencieron.
+     */
+    private void loadTransitions() {
+        Instant limit = Instant.now().plus(horizon);
+        Query query = new Query(new Criteria().orOperator(
+            Criteria.where("status").is(SurveyStatus.CREADA).and("scheduledOpen").lte(limit),
+            Criteria.where("status").is(SurveyStatus.PUBLICADA).and("scheduledClose").lte(limit)));
+        query.fields().include("status", "scheduledOpen", "scheduledClose");
+
+        List<Survey> surveys = mongoTemplate.find(query, Survey.class);
+        surveys.forEach(this::schedule);
+        if (!surveys.isEmpty()) {
+            log.info("Cargadas {} encuestas con apertura o cierre programado", surveys.size());
+        }
+    }
+
+    /**
+     * Ejecuta la transición solo si la encuesta sigue en el estado de origen
+     * y su instante programado ya pasó.
+     */
+    private Optional<Survey> apply(ScheduledTransition transition, Instant now) {
+        if (!transition.getFrom().canTransitionTo(transition.getTo())) {
+            log.warn("Transición no permitida ignorada: {}", transition);
+            return Optional.empty();
+        }
+        Query query = new Query(Criteria.where("_id").is(transition.getSurveyId())
+            .and("status").is(transition.getFrom())
+            .and(transition.scheduleField()).lte(now));
+        Update update = new Update()
+            .set("status", transition.getTo())
+            .set("modifiedAt", now)
+            .inc("revision", 1);
+        if (transition.getTo() == SurveyStatus.CERRADA) {
+            update.set("closedAt", now);
+        }
+
+        Survey updated = mongoTemplate.findAndModify(query, update,
+            FindAndModifyOptions.options().returnNew(true), Survey.class);
+        if (updated == null) {
+            return Optional.empty();
+        }
+        log.info("Encuesta {} cambió de {} a {} (programado para {})",
+            transition.getSurveyId(), transition.getFrom(), transition.getTo(), transition.getDueAt());
+        eventPublisher.publishEvent(new SurveyChangedEvent(transition.getSurveyId()));
+        schedule(updated);
+        return Optional.of(updated);
+    }
+
+    private void enqueue(String surveyId, SurveyStatus from, SurveyStatus to, Instant dueAt, Instant limit) {
+        if (dueAt == null || dueAt.isAfter(limit)) {
+            cancel(surveyId, to);
+            return;
+        }
+        ScheduledTransition transition = new ScheduledTransition(surveyId, from, to, dueAt);
+        ScheduledTransition previous = pending.put(transition.key(), transition);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+        queue.offer(transition);
+    }
+
+    private void cancel(String surveyId, SurveyStatus to) {
+        ScheduledTransition previous = pending.remove(surveyId + ":" + to);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+    }
+
+    private static boolean isDue(Instant instant, Instant now) {
+        return instant != null && !instant.isAfter(now);
+    }
+}
@@ -0,0 +1,110 @@
+package com.surveys.surveys.search;
+
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.dto.SurveySummary;
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.pagination.KeysetPagination;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Búsqueda de encuestas sobre el índice de texto de MongoDB.
+ *
+ * <p>El índice cubre {@code name} (con mayor peso) y {@code description} con
+ * reglas de idioma español; lo declara {@link #textIndex()} y MongoDB lo mantiene
+ * al día con cada escritura.
+ * Los filtros por administrador, estado y tipo se aplican en la misma consulta,
+ * que solo lee los campos de {@link SurveySummary}.
+ * Con texto los resultados se ordenan por relevancia y se paginan por
+ * desplazamiento; sin texto se paginan por clave sobre {@code _id}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SurveySearch {
+
+    static final String TEXT_INDEX_NAME = "survey_text";
+    private static final Set<String> SUMMARY_FIELDS = Document.parse(SurveySummary.FIELDS).keySet();
+
+    private final MongoTemplate mongoTemplate;
+    private final KeysetPagination pagination;
+
+    public SurveySearch(MongoTemplate mongoTemplate, KeysetPagination pagination) {
+        this.mongoTemplate = mongoTemplate;
+        this.pagination = pagination;
+    }
+
+    /**
+     * Busca encuestas combinando texto libre y filtros opcionales.
+     *
+     * @param text palabras a buscar en nombre y descripción; vacío para listar solo por filtros
+     * @param adminId administrador dueño de las encuestas
+     * @param status estado de las encuestas
+     * @param isTemplate si se buscan plantillas o encuestas normales
+     * @param cursor cursor devuelto por la página anterior
+     * @param size tamaño de página solicitado
+     */
+    public CursorPage<SurveySummary> search(String text, String adminId, SurveyStatus status, Boolean isTemplate,
+                                     String cursor, Integer size) {
+        int pageSize = pagination.resolveSize(size);
+        if (text == null || text.isBlank()) {
+            Query query = new Query(Criteria.where("_id").gt(pagination.afterId(cursor)))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(pageSize + 1);
+            applyFilters(query, adminId, status, isTemplate);
+            return pagination.page(findSummaries(query), pageSize, SurveySummary::getId);
+        }
+
+        int offset = pagination.offset(cursor);
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+            .sortByScore()
+            .with(Sort.by(Sort.Direction.ASC, "_id"))
+            .skip(offset)
+            .limit(pageSize + 1);
+        applyFilters(query, adminId, status, isTemplate);
+        List<SurveySummary> fetched = findSummaries(query);
+        return pagination.offsetPage(fetched, pageSize, offset);
+    }
+
+    private List<SurveySummary> findSummaries(Query query) {
+        SUMMARY_FIELDS.forEach(query.fields()::include);
+        return mongoTemplate.find(query, SurveySummary.class, mongoTemplate.getCollectionName(Survey.class));
+    }
+
+    private static void applyFilters(Query query, String adminId, SurveyStatus status, Boolean isTemplate) {
+        if (adminId != null) {
+            query.addCriteria(Criteria.where("adminId").is(adminId));
+        }
+        if (status != null) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (isTemplate != null) {
+            query.addCriteria(Criteria.where("isTemplate").is(isTemplate));
+        }
+    }
+
+    /**
+     * Definición del índice de texto que usa la búsqueda; lo crea {@code IndexManager}.
+     */
+    public static TextIndexDefinition textIndex() {
+        return TextIndexDefinition.builder()
+            .named(TEXT_INDEX_NAME)
+            .onField("name", 3F)
+            .onField("description")
+            .withDefaultLanguage("spanish")
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.surveys.surveys.security;
 
+import com.surveys.surveys.metrics.SurveyMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -56,6 +57,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final UserDetailsService userDetailsService;
 
+    /**
+     * Medidores de la aplicación.
+     * Utilizado para registrar la duración de cada verificación de token.
+     */
+    private final SurveyMetrics metrics;
+
     /**
      * Constructor que inicializa el filtro con sus dependencias requeridas.
      * 
@@ -64,11 +71,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      *
      * @param jwtService servicio para manejo de tokens JWT, no debe ser {@code null}
      * @param userDetailsService servicio para cargar detalles de usuarios, no debe ser {@code null}
+     * @param metrics medidores donde se registra la verificación de tokens, no debe ser {@code null}
      * @throws IllegalArgumentException si alguna dependencia es {@code null}
      */
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+                                   SurveyMetrics metrics) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.metrics = metrics;
     }
 
     /**
@@ -133,6 +143,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        long start = System.nanoTime();
+        boolean verified = false;
         try {
             // Extraer y validar el token
             String jwt = authHeader.substring(7);
@@ -143,7 +155,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 
                 // Validar el token
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                boolean valid = jwtService.isTokenValid(jwt, userDetails);
+                metrics.recordJwtVerification(start, valid);
+                verified = true;
+                if (valid) {
                     // Crear el token de autenticación
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -163,6 +178,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
             
         } catch (Exception e) {
+            if (!verified) {
+                metrics.recordJwtError(start);
+            }
             // En caso de error, enviar respuesta de no autorizado
             SecurityContextHolder.clearContext();
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
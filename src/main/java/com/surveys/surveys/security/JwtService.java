@@ -1,5 +1,6 @@
 package com.surveys.surveys.security;
 
+import com.surveys.surveys.diagnostics.TokenParsingEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -240,11 +241,24 @@ public class JwtService {
      * @see Jwts#parserBuilder()
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        TokenParsingEvent event = new TokenParsingEvent();
+        event.begin();
+        boolean valid = false;
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            valid = true;
+            return claims;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.valid = valid;
+                event.commit();
+            }
+        }
     }
 
     /**
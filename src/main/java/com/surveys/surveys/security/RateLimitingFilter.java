@@ -1,10 +1,12 @@
 package com.surveys.surveys.security;
 
 import com.google.common.util.concurrent.RateLimiter;
+import com.surveys.surveys.metrics.SurveyMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -29,10 +31,14 @@ import java.io.IOException;
 public class RateLimitingFilter extends OncePerRequestFilter {
     
     private final RateLimiter rateLimiter;
+
+    private final SurveyMetrics metrics;
     
-    public RateLimitingFilter() {
-        // Configura 10 peticiones por segundo
-        this.rateLimiter = RateLimiter.create(10.0);
+    public RateLimitingFilter(SurveyMetrics metrics,
+                              @Value("${surveys.rate-limit.permits-per-second:10}") double permitsPerSecond) {
+        // Por defecto 10 peticiones por segundo
+        this.rateLimiter = RateLimiter.create(permitsPerSecond);
+        this.metrics = metrics;
     }
 
     /**
@@ -62,6 +68,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
         
         if (!rateLimiter.tryAcquire()) {
+            metrics.recordRateLimitRejection();
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value()); // 429
             response.setContentType("application/json");
             response.getWriter().write("{\"error\": \"Demasiadas peticiones. Por favor, intente más tarde.\"}");
@@ -1,5 +1,7 @@
 package com.surveys.surveys.services;
 
+import com.surveys.surveys.archive.ArchiveManifest;
+import com.surveys.surveys.dto.CursorPage;
 import com.surveys.surveys.model.Response;
 import java.time.Instant;
 import java.util.List;
@@ -20,15 +22,20 @@ public interface ResponseService {
     Response saveResponse(Response response);
 
     /**
-     * Busca respuesta por ID.
+     * Busca respuesta por ID. No incluye las respuestas archivadas.
      */
     Optional<Response> getResponseById(String id);
 
     /**
-     * Obtiene todas las respuestas.
+     * Obtiene todas las respuestas que siguen en MongoDB, sin las archivadas.
      */
     List<Response> getAllResponses();
 
+    /**
+     * Obtiene una página de todas las respuestas que siguen en MongoDB, sin las archivadas.
+     */
+    CursorPage<Response> getAllResponses(String cursor, Integer size);
+
     /**
      * Elimina respuesta por ID.
      */
@@ -40,7 +47,13 @@ public interface ResponseService {
     List<Response> getResponsesBySurvey(String surveyId);
 
     /**
-     * Busca respuestas por rango de fechas.
+     * Obtiene una página de las respuestas de una encuesta.
+     */
+    CursorPage<Response> getResponsesBySurvey(String surveyId, String cursor, Integer size);
+
+    /**
+     * Busca respuestas por rango de fechas. No incluye las respuestas archivadas;
+     * para ellas use el rango de una encuesta.
      */
     List<Response> getResponsesByDateRange(Instant startDate, Instant endDate);
 
@@ -51,7 +64,7 @@ public interface ResponseService {
         String surveyId, Instant startDate, Instant endDate);
 
     /**
-     * Cuenta respuestas de una encuesta.
+     * Cuenta respuestas de una encuesta, incluidas las archivadas.
      */
     long getResponseCount(String surveyId);
 
@@ -59,4 +72,9 @@ public interface ResponseService {
      * Obtiene últimas respuestas de una encuesta.
      */
     List<Response> getLatestResponses(String surveyId, int limit);
+
+    /**
+     * Obtiene el manifiesto y las analíticas de las respuestas archivadas de una encuesta.
+     */
+    Optional<ArchiveManifest> getArchiveManifest(String surveyId);
 }
@@ -1,5 +1,7 @@
 package com.surveys.surveys.services;
 
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.dto.SurveySummary;
 import com.surveys.surveys.model.Survey;
 import com.surveys.surveys.enums.SurveyStatus;
 import com.surveys.surveys.model.Branding;
@@ -19,13 +21,15 @@ public interface SurveyService {
     
     /**
      * Guarda encuesta nueva o actualiza existente.
+     *
+     * @throws IllegalArgumentException si el ID no es un ObjectId en hexadecimal
      */
     Survey saveSurvey(Survey survey);
 
     /**
-     * Obtiene encuestas filtradas por estado y tipo.
+     * Obtiene el resumen de las encuestas con el estado dado.
      */
-    List<Survey> getSurveys(SurveyStatus status, Boolean isTemplate);
+    List<SurveySummary> getSurveySummaries(SurveyStatus status);
 
     /**
      * Busca encuesta por ID.
@@ -38,14 +42,23 @@ public interface SurveyService {
     Optional<Survey> updateSurvey(String id, Survey survey);
 
     /**
-     * Elimina encuesta por ID.
+     * Elimina encuesta por ID. Sus respuestas se borran en segundo plano.
+     *
+     * @return {@code true} si la encuesta existía
      */
     boolean deleteSurvey(String id);
 
     /**
-     * Busca encuestas por nombre y administrador.
+     * Obtiene una página de resúmenes de encuestas con filtros opcionales.
      */
-    List<Survey> searchSurveys(String name, String adminId);
+    CursorPage<SurveySummary> getSurveys(SurveyStatus status, Boolean isTemplate, String cursor, Integer size);
+
+    /**
+     * Busca una página de encuestas por texto en nombre y descripción,
+     * con filtros opcionales por administrador, estado y tipo.
+     */
+    CursorPage<SurveySummary> searchSurveys(String text, String adminId, SurveyStatus status, Boolean isTemplate,
+                                     String cursor, Integer size);
 
     /**
      * Actualiza estado de encuesta.
@@ -72,33 +85,63 @@ public interface SurveyService {
      */
     Optional<Survey> updateBranding(String id, Branding branding);
 
+    /**
+     * Actualiza branding solo si la encuesta sigue en la revisión esperada.
+     */
+    Optional<Survey> updateBranding(String id, Branding branding, Long expectedRevision);
+
     /**
      * Agrega pregunta a encuesta.
      */
     Optional<Survey> addQuestion(String surveyId, Question question);
 
+    /**
+     * Agrega pregunta solo si la encuesta sigue en la revisión esperada.
+     */
+    Optional<Survey> addQuestion(String surveyId, Question question, Long expectedRevision);
+
     /**
      * Elimina pregunta de encuesta.
      */
     Optional<Survey> removeQuestion(String surveyId, String questionId);
 
+    /**
+     * Elimina pregunta solo si la encuesta sigue en la revisión esperada.
+     */
+    Optional<Survey> removeQuestion(String surveyId, String questionId, Long expectedRevision);
+
     /**
      * Actualiza pregunta existente.
      */
     Optional<Survey> updateQuestion(String surveyId, String questionId, Question question);
 
+    /**
+     * Actualiza pregunta solo si la encuesta sigue en la revisión esperada.
+     */
+    Optional<Survey> updateQuestion(String surveyId, String questionId, Question question, Long expectedRevision);
+
     /**
      * Crea nueva versión de encuesta.
      */
     Optional<Survey> createNewVersion(String surveyId);
 
+    /**
+     * Obtiene las preguntas de una encuesta sin cargar el resto del documento.
+     */
+    Optional<List<Question>> getQuestions(String surveyId);
+
+    /**
+     * Obtiene una sola pregunta de una encuesta.
+     */
+    Optional<Question> getQuestion(String surveyId, String questionId);
+
     /**
      * Obtiene historial de versiones.
      */
     List<Survey> getSurveyVersionHistory(String originalSurveyId);
 
     /**
-     * Verifica y actualiza el estado de una encuesta.
+     * Aplica la apertura o el cierre programados que ya vencieron.
      */
     Survey checkAndUpdateSurveyStatus(Survey survey);
 }
@@ -1,16 +1,38 @@
 package com.surveys.surveys.servicesimpl;
 
+import com.surveys.surveys.answers.AnswerSchemas;
+import com.surveys.surveys.archive.ArchiveManifest;
+import com.surveys.surveys.archive.ResponseArchive;
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.metrics.SurveyMetrics;
 import com.surveys.surveys.model.Response;
+import com.surveys.surveys.pagination.KeysetPagination;
+import com.surveys.surveys.partitioning.PartitionedResponseStore;
+import com.surveys.surveys.partitioning.ResponsePartitions;
 import com.surveys.surveys.repository.ResponseRepository;
 import com.surveys.surveys.services.ResponseService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementación del servicio de respuestas con MongoDB.
+ * Con {@code surveys.responses.partitioning.enabled} las respuestas se guardan
+ * y consultan en particiones mensuales mediante {@link PartitionedResponseStore}.
+ * Las lecturas de una encuesta cuyas respuestas están archivadas combinan el
+ * archivo en disco ({@link ResponseArchive}) con las que sigan en MongoDB.
+ * Las lecturas que no son de una encuesta (por ID, todas las respuestas o por
+ * rango de fechas) solo consultan MongoDB: recorrer el archivo de todas las
+ * encuestas anularía el propósito de sacarlo de la base de datos.
+ * Antes de guardar, cada respuesta se tipa según su pregunta con
+ * {@link AnswerSchemas}.
  * 
  * @author Juan David Valencia
  * @version 1.0
@@ -18,57 +40,236 @@ import java.util.Optional;
  */
 @Service
 public class ResponseServiceImpl implements ResponseService {
+
+    private static final Comparator<Response> BY_SUBMITTED_AT = Comparator
+        .comparing(Response::getSubmittedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Response::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
     
     @Autowired
     private ResponseRepository responseRepository;
+
+    @Autowired
+    private KeysetPagination pagination;
+
+    @Autowired
+    private ResponsePartitions partitions;
+
+    @Autowired
+    private PartitionedResponseStore partitionedResponses;
+
+    @Autowired
+    private ResponseArchive archive;
+
+    @Autowired
+    private SurveyMetrics metrics;
+
+    @Autowired
+    private AnswerSchemas answerSchemas;
     
     @Override
     public Response saveResponse(Response response) {
         if (response == null) {
             throw new IllegalArgumentException("La respuesta no puede ser null");
         }
-        return responseRepository.save(response);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            answerSchemas.resolve(response);
+            Response saved = partitions.isEnabled()
+                ? partitionedResponses.save(response)
+                : responseRepository.save(response);
+            success = true;
+            return saved;
+        } finally {
+            metrics.recordSaveResponse(start, success);
+        }
     }
     
     @Override
     public Optional<Response> getResponseById(String id) {
+        if (partitions.isEnabled()) {
+            return partitionedResponses.findById(id);
+        }
         return responseRepository.findById(id);
     }
     
     @Override
     public List<Response> getAllResponses() {
+        if (partitions.isEnabled()) {
+            return partitionedResponses.find(null, null, null);
+        }
         return responseRepository.findAll();
     }
+
+    @Override
+    public CursorPage<Response> getAllResponses(String cursor, Integer size) {
+        if (partitions.isEnabled()) {
+            return partitionedResponses.page(null, cursor, size);
+        }
+        int pageSize = pagination.resolveSize(size);
+        List<Response> fetched = responseRepository.findByIdGreaterThanOrderByIdAsc(
+            pagination.afterId(cursor), pagination.fetchLimit(pageSize));
+        return pagination.page(fetched, pageSize, Response::getId);
+    }
     
     @Override
     public void deleteResponse(String id) {
+        if (partitions.isEnabled()) {
+            partitionedResponses.delete(id);
+            return;
+        }
         responseRepository.deleteById(id);
     }
     
     @Override
     public List<Response> getResponsesBySurvey(String surveyId) {
-        return responseRepository.findBySurveyId(surveyId);
+        List<Response> responses = partitions.isEnabled()
+            ? partitionedResponses.find(surveyId, null, null)
+            : responseRepository.findBySurveyId(surveyId);
+        if (archive.isArchived(surveyId)) {
+            return withArchived(archive.find(surveyId, null, null), responses);
+        }
+        return responses;
+    }
+
+    @Override
+    public CursorPage<Response> getResponsesBySurvey(String surveyId, String cursor, Integer size) {
+        if (archive.isArchived(surveyId)) {
+            return archivedPage(surveyId, cursor, size);
+        }
+        return recentPage(surveyId, cursor, size);
     }
     
     @Override
     public List<Response> getResponsesByDateRange(Instant startDate, Instant endDate) {
+        if (partitions.isEnabled()) {
+            return partitionedResponses.find(null, startDate, endDate);
+        }
         return responseRepository.findBySubmittedAtBetween(startDate, endDate);
     }
     
     @Override
     public List<Response> getResponsesBySurveyAndDateRange(
             String surveyId, Instant startDate, Instant endDate) {
-        return responseRepository.findBySurveyIdAndSubmittedAtBetween(
-            surveyId, startDate, endDate);
+        List<Response> responses = partitions.isEnabled()
+            ? partitionedResponses.find(surveyId, startDate, endDate)
+            : responseRepository.findBySurveyIdAndSubmittedAtBetween(surveyId, startDate, endDate);
+        if (archive.isArchived(surveyId)) {
+            return withArchived(archive.find(surveyId, startDate, endDate), responses);
+        }
+        return responses;
     }
     
+    /**
+     * Suma las respuestas en MongoDB y las archivadas. Las que siguen en MongoDB
+     * ya archivadas (mientras el archivador las borra, o si se interrumpió) se
+     * cuentan una sola vez; solo pueden ser las enviadas hasta la última archivada.
+     */
     @Override
     public long getResponseCount(String surveyId) {
-        return responseRepository.countBySurveyId(surveyId);
+        long count = partitions.isEnabled()
+            ? partitionedResponses.count(surveyId)
+            : responseRepository.countBySurveyId(surveyId);
+        Optional<Instant> lastArchivedAt = archive.lastArchivedAt(surveyId);
+        if (lastArchivedAt.isEmpty()) {
+            return count + archive.count(surveyId);
+        }
+        List<Response> candidates = count == 0 ? List.of() : partitions.isEnabled()
+            ? partitionedResponses.keys(surveyId, lastArchivedAt.get())
+            : responseRepository.findKeysBySurveyIdSubmittedUntil(surveyId, lastArchivedAt.get());
+        return count + archive.count(surveyId) - archive.archivedIds(surveyId, candidates).size();
     }
     
     @Override
     public List<Response> getLatestResponses(String surveyId, int limit) {
-        return responseRepository.findTopBySurveyId(surveyId);
+        List<Response> responses = partitions.isEnabled()
+            ? partitionedResponses.latest(surveyId, limit)
+            : responseRepository.findTopBySurveyId(surveyId);
+        if (archive.isArchived(surveyId)) {
+            List<Response> latest = withArchived(archive.latest(surveyId, limit), responses);
+            latest.sort(BY_SUBMITTED_AT.reversed());
+            return latest.subList(0, Math.min(limit, latest.size()));
+        }
+        return responses;
+    }
+
+    @Override
+    public Optional<ArchiveManifest> getArchiveManifest(String surveyId) {
+        return archive.getManifest(surveyId);
+    }
+
+    /**
+     * Página de una encuesta archivada: primero las respuestas del archivo, por
+     * desplazamiento, y a continuación las que siguen en MongoDB, por clave sobre
+     * {@code _id} y sin las que ya están en el archivo. Una vez recorrido el
+     * archivo el cursor envuelve el de MongoDB ({@link KeysetPagination#tail(String)}).
+     */
+    private CursorPage<Response> archivedPage(String surveyId, String cursor, Integer size) {
+        int pageSize = pagination.resolveSize(size);
+        String recentCursor = null;
+        List<Response> items = new ArrayList<>();
+        if (pagination.isTail(cursor)) {
+            recentCursor = pagination.tailOf(cursor);
+        } else {
+            int offset = pagination.offset(cursor);
+            List<Response> archived = archive.read(surveyId, offset, pageSize + 1);
+            if (archived.size() > pageSize) {
+                return pagination.offsetPage(archived, pageSize, offset);
+            }
+            items.addAll(archived);
+        }
+
+        // Con la página llena basta una respuesta de MongoDB para saber si hay otra
+        CursorPage<Response> recent = unarchivedPage(surveyId, recentCursor, Math.max(1, pageSize - items.size()));
+        if (items.size() == pageSize) {
+            return new CursorPage<>(items, recent.getItems().isEmpty() ? null : pagination.tail(recentCursor));
+        }
+        items.addAll(recent.getItems());
+        return new CursorPage<>(items, recent.isHasMore() ? pagination.tail(recent.getNextCursor()) : null);
+    }
+
+    /**
+     * Página de respuestas en MongoDB que no están en el archivo. Las que se
+     * descartan se reemplazan con las siguientes, de modo que la página solo
+     * queda incompleta si es la última.
+     */
+    private CursorPage<Response> unarchivedPage(String surveyId, String cursor, int size) {
+        List<Response> items = new ArrayList<>();
+        String next = cursor;
+        do {
+            CursorPage<Response> page = recentPage(surveyId, next, size - items.size());
+            Set<String> archived = archive.archivedIds(surveyId, page.getItems());
+            page.getItems().stream()
+                .filter(response -> !archived.contains(response.getId()))
+                .forEach(items::add);
+            next = page.getNextCursor();
+        } while (next != null && items.size() < size);
+        return new CursorPage<>(items, next);
+    }
+
+    /**
+     * Página por clave sobre {@code _id} de las respuestas de una encuesta en MongoDB.
+     */
+    private CursorPage<Response> recentPage(String surveyId, String cursor, Integer size) {
+        if (partitions.isEnabled()) {
+            return partitionedResponses.page(surveyId, cursor, size);
+        }
+        int pageSize = pagination.resolveSize(size);
+        List<Response> fetched = responseRepository.findBySurveyIdAndIdGreaterThanOrderByIdAsc(
+            surveyId, pagination.afterId(cursor), pagination.fetchLimit(pageSize));
+        return pagination.page(fetched, pageSize, Response::getId);
+    }
+
+    /**
+     * Combina las respuestas archivadas con las que siguen en MongoDB, en orden de envío.
+     * Una respuesta puede estar en ambos lados mientras el archivador termina de borrarla.
+     */
+    private static List<Response> withArchived(List<Response> archived, List<Response> responses) {
+        Map<String, Response> merged = new LinkedHashMap<>();
+        archived.forEach(response -> merged.put(response.getId(), response));
+        responses.forEach(response -> merged.putIfAbsent(response.getId(), response));
+        List<Response> combined = new ArrayList<>(merged.values());
+        combined.sort(BY_SUBMITTED_AT);
+        return combined;
     }
 }
@@ -1,18 +1,43 @@
 package com.surveys.surveys.servicesimpl;
 
+import com.surveys.surveys.cache.SingleFlight;
+import com.surveys.surveys.cache.SurveyCache;
+import com.surveys.surveys.cache.SurveyChangedEvent;
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.dto.SurveySummary;
+import com.surveys.surveys.exception.SurveyConflictException;
+import com.surveys.surveys.migration.SurveyVersionChainMigration;
 import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.pagination.KeysetPagination;
+import com.surveys.surveys.purge.SurveyPurger;
+import com.surveys.surveys.questionbank.QuestionBank;
+import com.surveys.surveys.questionbank.QuestionSet;
 import com.surveys.surveys.repository.SurveyRepository;
+import com.surveys.surveys.scheduling.SurveyLifecycleScheduler;
+import com.surveys.surveys.search.SurveySearch;
 import com.surveys.surveys.services.SurveyService;
 import com.surveys.surveys.enums.SurveyStatus;
 import com.surveys.surveys.model.Branding;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import com.surveys.surveys.model.Question;
-import java.util.ArrayList;
-import java.time.Instant; // ✅ AÑADIR este import
+import java.time.Instant;
 
 /**
  * Implementación del servicio de encuestas con MongoDB.
@@ -27,36 +52,89 @@ public class SurveyServicesImpl implements SurveyService {
     @Autowired
     private SurveyRepository surveyRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private SurveyCache surveyCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SurveyLifecycleScheduler lifecycleScheduler;
+
+    @Autowired
+    private KeysetPagination pagination;
+
+    @Autowired
+    private SurveySearch surveySearch;
+
+    @Autowired
+    private SurveyVersionChainMigration versionChainMigration;
+
+    @Autowired
+    private QuestionBank questionBank;
+
+    @Autowired
+    private SurveyPurger surveyPurger;
+
+    /** Intentos de una edición de preguntas que compite con copias concurrentes de la encuesta. */
+    private static final int QUESTION_WRITE_ATTEMPTS = 3;
+
+    private final SingleFlight<String, Optional<Survey>> surveyLoads = new SingleFlight<>();
+
     @Override
     public Survey saveSurvey(Survey survey) {
         if (survey == null) {
             throw new IllegalArgumentException("La encuesta no puede ser null");
         }
-        return surveyRepository.save(survey);
+        if (survey.getId() == null) {
+            // El ID se asigna antes de guardar para que una encuesta nueva sea su propia raíz
+            survey.setId(new ObjectId().toHexString());
+        } else if (!ObjectId.isValid(survey.getId())) {
+            // Se guardaría como texto y la paginación por clave, que recorre ObjectId, nunca la listaría
+            throw new IllegalArgumentException("El ID de la encuesta debe ser un ObjectId: " + survey.getId());
+        }
+        if (survey.getRootVersionId() == null) {
+            survey.setRootVersionId(survey.getId());
+        }
+        Survey savedSurvey = surveyRepository.save(survey);
+        publishChange(savedSurvey.getId());
+        lifecycleScheduler.schedule(savedSurvey);
+        return savedSurvey;
     }
 
     @Override
-    public List<Survey> getSurveys(SurveyStatus status, Boolean isTemplate) {
+    public List<SurveySummary> getSurveySummaries(SurveyStatus status) {
+        if (status == SurveyStatus.PUBLICADA) {
+            return surveyCache.getSummariesByStatus(status, () -> surveyRepository.findSummariesByStatus(status));
+        }
+        return surveyRepository.findSummariesByStatus(status);
+    }
+
+    @Override
+    public CursorPage<SurveySummary> getSurveys(SurveyStatus status, Boolean isTemplate, String cursor, Integer size) {
+        int pageSize = pagination.resolveSize(size);
+        ObjectId afterId = pagination.afterId(cursor);
+        Limit limit = pagination.fetchLimit(pageSize);
+        List<SurveySummary> fetched;
         if (status != null) {
-            return surveyRepository.findByStatus(status);
+            fetched = surveyRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, afterId, limit);
         } else if (isTemplate != null) {
-            return surveyRepository.findByIsTemplate(isTemplate);
+            fetched = surveyRepository.findByIsTemplateAndIdGreaterThanOrderByIdAsc(isTemplate, afterId, limit);
+        } else {
+            fetched = surveyRepository.findByIdGreaterThanOrderByIdAsc(afterId, limit);
         }
-        return surveyRepository.findAll();
+        return pagination.page(fetched, pageSize, SurveySummary::getId);
     }
 
     @Override
     public Optional<Survey> getSurveyById(String id) {
-        Optional<Survey> surveyOpt = surveyRepository.findById(id);
-        
-        if (surveyOpt.isPresent()) {
-            Survey survey = surveyOpt.get();
-            // ✅ AÑADIR: Verificar y actualizar estado automáticamente
-            Survey updatedSurvey = checkAndUpdateSurveyStatus(survey);
-            return Optional.of(updatedSurvey);
-        }
-        
-        return Optional.empty();
+        // Las lecturas concurrentes del mismo ID comparten una sola consulta a la base de datos.
+        // La apertura y el cierre programados los aplica SurveyLifecycleScheduler, no la lectura.
+        return surveyCache.getSurvey(id, () -> surveyLoads.execute(id,
+            () -> surveyRepository.findById(id).map(questionBank::hydrate)));
     }
 
     @Override
@@ -65,39 +143,50 @@ public class SurveyServicesImpl implements SurveyService {
             .map(existingSurvey -> {
                 survey.setId(id);
                 survey.setCreatedAt(existingSurvey.getCreatedAt());
-                return surveyRepository.save(survey);
+                survey.setVersion(existingSurvey.getVersion());
+                survey.setRootVersionId(existingSurvey.getRootVersionId());
+                survey.setPreviousVersionId(existingSurvey.getPreviousVersionId());
+                survey.setClosedAt(survey.getStatus() != SurveyStatus.CERRADA ? null
+                    : existingSurvey.getClosedAt() != null ? existingSurvey.getClosedAt() : Instant.now());
+                // Las preguntas del cuerpo reemplazan a las del conjunto compartido
+                survey.setQuestionSetId(null);
+                survey.setModifiedAt(Instant.now());
+                survey.setRevision(nextRevision(existingSurvey.getRevision()));
+                Survey savedSurvey = surveyRepository.save(survey);
+                publishChange(id);
+                lifecycleScheduler.schedule(savedSurvey);
+                return savedSurvey;
             });
     }
 
     @Override
     public boolean deleteSurvey(String id) {
         if (surveyRepository.existsById(id)) {
+            // El trabajo se registra antes de borrar la encuesta para no dejar respuestas huérfanas
+            surveyPurger.schedule(id);
             surveyRepository.deleteById(id);
+            publishChange(id);
             return true;
         }
         return false;
     }
 
     @Override
-    public List<Survey> searchSurveys(String name, String adminId) {
-        if (name != null && adminId != null) {
-            return surveyRepository.findByNameContainingIgnoreCase(name).stream()
-                .filter(s -> s.getAdminId().equals(adminId))
-                .collect(Collectors.toList());
-        } else if (name != null) {
-            return surveyRepository.findByNameContainingIgnoreCase(name);
-        } else if (adminId != null) {
-            return surveyRepository.findByAdminId(adminId);
-        }
-        return surveyRepository.findAll();
+    public CursorPage<SurveySummary> searchSurveys(String text, String adminId, SurveyStatus status, Boolean isTemplate,
+                                            String cursor, Integer size) {
+        return surveySearch.search(text, adminId, status, isTemplate, cursor, size);
     }
 
     @Override
     public Optional<Survey> updateSurveyStatus(String id, SurveyStatus status) {
-        return surveyRepository.findById(id)
+        Update update = new Update().set("status", status);
+        if (status == SurveyStatus.CERRADA) {
+            update.set("closedAt", Instant.now());
+        }
+        return modify(id, null, null, touch(update))
             .map(survey -> {
-                survey.setStatus(status);
-                return surveyRepository.save(survey);
+                lifecycleScheduler.schedule(survey);
+                return survey;
             });
     }
 
@@ -120,127 +209,319 @@ public class SurveyServicesImpl implements SurveyService {
                 copy.setDescription(original.getDescription());
                 copy.setBranding(original.getBranding());
                 copy.setAdminId(original.getAdminId());
-                return surveyRepository.save(copy);
+                shareQuestions(original, copy);
+                return questionBank.hydrate(saveSurvey(copy));
             });
     }
 
     @Override
     public Optional<Survey> updateBranding(String id, Branding branding) {
-        return surveyRepository.findById(id)
-            .map(survey -> {
-                survey.setBranding(branding);
-                return surveyRepository.save(survey);
-            });
+        return updateBranding(id, branding, null);
+    }
+
+    @Override
+    public Optional<Survey> updateBranding(String id, Branding branding, Long expectedRevision) {
+        return modify(id, null, expectedRevision, touch(new Update().set("branding", branding)));
     }
 
     @Override
     public Optional<Survey> addQuestion(String surveyId, Question question) {
-        return surveyRepository.findById(surveyId)
-            .map(survey -> {
-                if (survey.getQuestions() == null) {
-                    survey.setQuestions(new ArrayList<>());
-                }
-                
-                question.setOrder(survey.getQuestions().size() + 1);
-                survey.getQuestions().add(question);
-                return surveyRepository.save(survey);
-            });
+        return addQuestion(surveyId, question, null);
+    }
+
+    /**
+     * Agrega la pregunta al final con una actualización por pipeline: el orden
+     * se calcula en el servidor a partir del tamaño actual del arreglo, así que
+     * dos altas concurrentes nunca reciben el mismo número.
+     */
+    @Override
+    public Optional<Survey> addQuestion(String surveyId, Question question, Long expectedRevision) {
+        Document questionDocument = (Document) mongoTemplate.getConverter()
+            .convertToMongoType(question, TypeInformation.of(Question.class));
+        questionDocument.remove("order");
+        Document currentQuestions = new Document("$ifNull", Arrays.asList("$questions", List.of()));
+        Document appended = new Document("$mergeObjects", Arrays.asList(
+            new Document("$literal", questionDocument),
+            new Document("order", new Document("$add", Arrays.asList(new Document("$size", currentQuestions), 1)))));
+        Document stage = new Document("$set", new Document()
+            .append("questions", new Document("$concatArrays", Arrays.asList(currentQuestions, List.of(appended))))
+            .append("modifiedAt", Date.from(Instant.now()))
+            .append("revision", new Document("$add", Arrays.asList(
+                new Document("$ifNull", Arrays.asList("$revision", 0)), 1))));
+
+        return modifyQuestions(surveyId, null, expectedRevision, AggregationUpdate.from(List.of(context -> stage)));
     }
 
     @Override
     public Optional<Survey> removeQuestion(String surveyId, String questionId) {
-        return surveyRepository.findById(surveyId)
-            .map(survey -> {
-                survey.setQuestions(
-                    survey.getQuestions().stream()
-                        .filter(q -> !q.getId().equals(questionId))
-                        .collect(Collectors.toList())
-                );
-                return surveyRepository.save(survey);
-            });
+        return removeQuestion(surveyId, questionId, null);
+    }
+
+    @Override
+    public Optional<Survey> removeQuestion(String surveyId, String questionId, Long expectedRevision) {
+        return modifyQuestions(surveyId, questionId, expectedRevision,
+            touch(new Update().pull("questions", new Document("_id", questionId))));
     }
 
     @Override
     public Optional<Survey> updateQuestion(String surveyId, String questionId, Question question) {
-        return surveyRepository.findById(surveyId)
-            .map(survey -> {
-                List<Question> questions = survey.getQuestions();
-                for (int i = 0; i < questions.size(); i++) {
-                    if (questions.get(i).getId().equals(questionId)) {
-                        question.setId(questionId);
-                        question.setOrder(questions.get(i).getOrder());
-                        questions.set(i, question);
-                        break;
-                    }
-                }
-                return surveyRepository.save(survey);
-            });
+        return updateQuestion(surveyId, questionId, question, null);
+    }
+
+    /**
+     * Reemplaza los campos editables de la pregunta en su posición actual,
+     * conservando su identificador y orden.
+     */
+    @Override
+    public Optional<Survey> updateQuestion(String surveyId, String questionId, Question question, Long expectedRevision) {
+        Update update = new Update()
+            .set("questions.$[q].text", question.getText())
+            .set("questions.$[q].type", question.getType())
+            .set("questions.$[q].required", question.isRequired())
+            .filterArray(Criteria.where("q._id").is(questionId));
+        if (question.getOptions() != null) {
+            update.set("questions.$[q].options", question.getOptions());
+        } else {
+            update.unset("questions.$[q].options");
+        }
+        return modifyQuestions(surveyId, questionId, expectedRevision, touch(update));
+    }
+
+    /**
+     * Lee solo el arreglo de preguntas de la encuesta.
+     */
+    @Override
+    public Optional<List<Question>> getQuestions(String surveyId) {
+        Query query = new Query(Criteria.where("_id").is(surveyId));
+        query.fields().include("questions").include("questionSetId");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Survey.class))
+            .map(questionBank::hydrate)
+            .map(survey -> survey.getQuestions() != null ? survey.getQuestions() : List.of());
+    }
+
+    /**
+     * Lee solo la pregunta pedida mediante una proyección {@code $elemMatch},
+     * sin transferir ni recorrer el resto de preguntas. Si la encuesta referencia
+     * un conjunto compartido la pregunta se toma de su índice en memoria.
+     */
+    @Override
+    public Optional<Question> getQuestion(String surveyId, String questionId) {
+        Query query = new Query(Criteria.where("_id").is(surveyId));
+        query.fields().elemMatch("questions", Criteria.where("_id").is(questionId)).include("questionSetId");
+        Survey survey = mongoTemplate.findOne(query, Survey.class);
+        if (survey != null && survey.getQuestionSetId() != null) {
+            return questionBank.find(survey.getQuestionSetId()).flatMap(set -> set.find(questionId));
+        }
+        return Optional.ofNullable(survey)
+            .map(Survey::getQuestions)
+            .filter(questions -> !questions.isEmpty())
+            .map(questions -> questions.get(0));
     }
 
+    /**
+     * Crea la siguiente versión de la cadena: comparte {@code rootVersionId} con
+     * el original y toma el número siguiente a la última versión existente.
+     */
     @Override
     public Optional<Survey> createNewVersion(String surveyId) {
         return surveyRepository.findById(surveyId)
+            .map(this::withVersionChain)
             .map(original -> {
+                int latestVersion = surveyRepository.findFirstByRootVersionIdOrderByVersionDesc(original.getRootVersionId())
+                    .map(Survey::getVersion)
+                    .orElse(original.getVersion());
+
                 Survey newVersion = new Survey();
                 newVersion.setName(original.getName() + " (Nueva Versión)");
                 newVersion.setDescription(original.getDescription());
                 newVersion.setBranding(original.getBranding());
-                newVersion.setQuestions(new ArrayList<>(original.getQuestions()));
+                shareQuestions(original, newVersion);
                 newVersion.setPreviousVersionId(original.getId());
+                newVersion.setRootVersionId(original.getRootVersionId());
+                newVersion.setVersion(latestVersion + 1);
                 newVersion.setAdminId(original.getAdminId());
-                return surveyRepository.save(newVersion);
+                return questionBank.hydrate(saveSurvey(newVersion));
             });
     }
 
+    /**
+     * Obtiene todas las versiones de la cadena de la encuesta con una sola
+     * consulta sobre el índice {@code (rootVersionId, version)}.
+     */
     @Override
     public List<Survey> getSurveyVersionHistory(String originalSurveyId) {
-        List<Survey> versions = new ArrayList<>();
-        String currentId = originalSurveyId;
-        
-        while (currentId != null) {
-            Optional<Survey> currentVersion = surveyRepository.findById(currentId);
-            if (currentVersion.isPresent()) {
-                versions.add(currentVersion.get());
-                currentId = currentVersion.get().getPreviousVersionId();
-            } else {
-                break;
-            }
-        }
-        
-        return versions;
+        return getSurveyById(originalSurveyId)
+            .map(this::withVersionChain)
+            .map(survey -> surveyRepository.findByRootVersionIdOrderByVersionDescCreatedAtDesc(survey.getRootVersionId()))
+            .map(versions -> {
+                versions.forEach(questionBank::hydrate);
+                return versions;
+            })
+            .orElse(List.of());
     }
 
     /**
-     * ✅ NUEVO: Verifica y actualiza automáticamente el estado basado en scheduledClose
+     * Aplica la apertura o el cierre programados que ya vencieron,
+     * mediante una actualización atómica condicionada al estado actual.
      */
     @Override
     public Survey checkAndUpdateSurveyStatus(Survey survey) {
-        if (survey == null) {
+        return lifecycleScheduler.applyDueTransitions(survey);
+    }
+
+    /**
+     * Aplica la actualización en una sola operación atómica y devuelve la encuesta resultante,
+     * o vacío si no existe o no cumple {@code condition}. Con {@code expectedRevision} la
+     * escritura solo procede si nadie más la modificó; si la encuesta existe pero su revisión
+     * cambió se lanza {@link SurveyConflictException}.
+     */
+    private Optional<Survey> modify(String surveyId, Criteria condition, Long expectedRevision,
+                                    UpdateDefinition update) {
+        Query target = new Query(Criteria.where("_id").is(surveyId));
+        if (condition != null) {
+            target.addCriteria(condition);
+        }
+        Query query = Query.of(target);
+        if (expectedRevision != null) {
+            query.addCriteria(revisionCriteria(expectedRevision));
+        }
+        Survey updated = mongoTemplate.findAndModify(query, update,
+            FindAndModifyOptions.options().returnNew(true), Survey.class);
+        if (updated == null) {
+            if (expectedRevision != null && mongoTemplate.exists(target, Survey.class)) {
+                throw new SurveyConflictException(surveyId, expectedRevision);
+            }
+            return Optional.empty();
+        }
+        publishChange(surveyId);
+        return Optional.of(questionBank.hydrate(updated));
+    }
+
+    /**
+     * Igual que {@link #modify} para cambios en las preguntas. Si la encuesta referencia
+     * un conjunto compartido primero copia sus preguntas al documento (copia en escritura)
+     * y luego aplica el cambio; las encuestas con preguntas propias lo hacen en un solo viaje.
+     * Con {@code questionId} el cambio solo procede si la encuesta tiene esa pregunta; si no
+     * está en el conjunto compartido se devuelve vacío sin copiarlo.
+     * El cambio solo se aplica a documentos sin {@code questionSetId}: si una copia
+     * concurrente vuelve a compartir las preguntas se repite la copia, y tras
+     * {@value #QUESTION_WRITE_ATTEMPTS} intentos se lanza {@link SurveyConflictException}.
+     */
+    private Optional<Survey> modifyQuestions(String surveyId, String questionId, Long expectedRevision,
+                                             UpdateDefinition update) {
+        Long revision = expectedRevision;
+        for (int attempt = 0; attempt < QUESTION_WRITE_ATTEMPTS; attempt++) {
+            Criteria ownQuestions = Criteria.where("questionSetId").exists(false);
+            Criteria guarded = questionId != null
+                ? new Criteria().andOperator(Criteria.where("questions._id").is(questionId), ownQuestions)
+                : ownQuestions;
+            Optional<Survey> updated = modify(surveyId, guarded, revision, update);
+            if (updated.isPresent()) {
+                return updated;
+            }
+            Query query = new Query(Criteria.where("_id").is(surveyId));
+            query.fields().include("questionSetId").include("revision");
+            Survey current = mongoTemplate.findOne(query, Survey.class);
+            if (current == null) {
+                return Optional.empty();
+            }
+            if (current.getQuestionSetId() == null) {
+                // No se cumple la condición, u otra escritura ya copió las preguntas
+                return modify(surveyId, guarded, revision, update);
+            }
+            long currentRevision = current.getRevision() == null ? 0 : current.getRevision();
+            if (revision != null && revision != currentRevision) {
+                throw new SurveyConflictException(surveyId, expectedRevision);
+            }
+            List<Question> shared = questionBank.find(current.getQuestionSetId())
+                .map(QuestionSet::getQuestions)
+                .orElse(List.of());
+            if (questionId != null && shared.stream().noneMatch(question -> questionId.equals(question.getId()))) {
+                // Copiar el conjunto no haría que la pregunta existiera
+                return Optional.empty();
+            }
+            if (materializeQuestions(current, shared) && revision != null) {
+                revision = currentRevision + 1;
+            }
+        }
+        throw new SurveyConflictException(surveyId, expectedRevision);
+    }
+
+    /**
+     * Copia al documento {@code questions}, las preguntas del conjunto compartido que
+     * referencia la encuesta, e incrementa {@code revision}, para que una copia leída antes
+     * no pueda volver a compartirlas (ver {@link #shareQuestions}).
+     *
+     * @return {@code false} si la encuesta cambió desde que se leyó
+     */
+    private boolean materializeQuestions(Survey survey, List<Question> questions) {
+        Query unchanged = new Query(Criteria.where("_id").is(survey.getId())
+            .and("questionSetId").is(survey.getQuestionSetId()))
+            .addCriteria(revisionCriteria(survey.getRevision()));
+        return mongoTemplate.updateFirst(unchanged,
+            new Update().set("questions", questions).unset("questionSetId").inc("revision", 1),
+            Survey.class).getModifiedCount() > 0;
+    }
+
+    /**
+     * Hace que la copia referencie el mismo conjunto de preguntas que el original.
+     * La primera vez guarda las preguntas del original en el banco y, si nadie lo
+     * modificó entretanto, el original también pasa a referenciar el conjunto.
+     */
+    private void shareQuestions(Survey original, Survey copy) {
+        String setId = original.getQuestionSetId();
+        if (setId == null) {
+            if (original.getQuestions() == null || original.getQuestions().isEmpty()) {
+                return;
+            }
+            setId = questionBank.store(original.getQuestions());
+            Query unchanged = new Query(Criteria.where("_id").is(original.getId())
+                .and("questionSetId").exists(false))
+                .addCriteria(revisionCriteria(original.getRevision()));
+            if (mongoTemplate.updateFirst(unchanged,
+                    new Update().set("questionSetId", setId).unset("questions"), Survey.class).getModifiedCount() > 0) {
+                publishChange(original.getId());
+            }
+        }
+        copy.setQuestionSetId(setId);
+        copy.setQuestions(null);
+    }
+
+    private static Criteria revisionCriteria(Long revision) {
+        // Los documentos anteriores al campo revision equivalen a la revisión 0
+        return revision == null || revision == 0
+            ? Criteria.where("revision").in(Arrays.asList(0L, null))
+            : Criteria.where("revision").is(revision);
+    }
+
+    private static Update touch(Update update) {
+        return update.set("modifiedAt", Instant.now()).inc("revision", 1);
+    }
+
+    private static long nextRevision(Long revision) {
+        return revision == null ? 1 : revision + 1;
+    }
+
+    /**
+     * Garantiza que la encuesta tenga {@code rootVersionId}; si aún no fue
+     * migrada ejecuta la migración antes de continuar.
+     */
+    private Survey withVersionChain(Survey survey) {
+        if (survey.getRootVersionId() != null) {
             return survey;
         }
-        
-        Instant now = Instant.now();
-        
-       
-        if (survey.getStatus() == SurveyStatus.PUBLICADA && 
-            survey.getScheduledClose() != null && 
-            now.isAfter(survey.getScheduledClose())) {
-            
-            System.out.println("🔄 Auto-closing survey: " + survey.getId() + 
-                             " (scheduled close: " + survey.getScheduledClose() + 
-                             ", current time: " + now + ")");
-            
-        
-            survey.setStatus(SurveyStatus.CERRADA);
-            
-            
-            Survey savedSurvey = surveyRepository.save(survey);
-            
-            System.out.println(" Survey auto-closed successfully: " + survey.getId());
-            
-            return savedSurvey;
-        }
-        
-        return survey;
+        versionChainMigration.migrate();
+        Survey migrated = surveyRepository.findById(survey.getId()).orElse(survey);
+        if (migrated.getRootVersionId() == null) {
+            migrated.setRootVersionId(migrated.getId());
+        }
+        return migrated;
+    }
+
+    /**
+     * Notifica que una encuesta cambió para invalidar las copias en caché.
+     */
+    private void publishChange(String surveyId) {
+        eventPublisher.publishEvent(new SurveyChangedEvent(surveyId));
     }
 }
@@ -0,0 +1,62 @@
+package com.surveys.surveys.perfgate;
+
+/**
+ * Comparación de una métrica entre la línea base y la ejecución actual.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Finding {
+
+    enum Verdict { OK, IMPROVED, REGRESSED, NEW, MISSING }
+
+    private final String source;
+    private final String name;
+    private final String metric;
+    private final String unit;
+    private final double baseline;
+    private final double current;
+    private final Verdict verdict;
+    private final String reason;
+
+    Finding(String source, String name, String metric, String unit,
+            double baseline, double current, Verdict verdict, String reason) {
+        this.source = source;
+        this.name = name;
+        this.metric = metric;
+        this.unit = unit;
+        this.baseline = baseline;
+        this.current = current;
+        this.verdict = verdict;
+        this.reason = reason;
+    }
+
+    static Finding added(String source, String name, String metric, String unit, double current) {
+        return new Finding(source, name, metric, unit, Double.NaN, current, Verdict.NEW, "sin línea base");
+    }
+
+    static Finding missing(String source, String name) {
+        return new Finding(source, name, "-", "", Double.NaN, Double.NaN, Verdict.MISSING, "no se ejecutó");
+    }
+
+    boolean isRegression() {
+        return verdict == Verdict.REGRESSED;
+    }
+
+    /**
+     * Cambio relativo respecto a la línea base; positivo es un aumento.
+     */
+    double change() {
+        return baseline == 0 || Double.isNaN(baseline) ? Double.NaN : (current - baseline) / baseline;
+    }
+
+    String getSource() { return source; }
+    String getName() { return name; }
+    String getMetric() { return metric; }
+    String getUnit() { return unit; }
+    double getBaseline() { return baseline; }
+    double getCurrent() { return current; }
+    Verdict getVerdict() { return verdict; }
+    String getReason() { return reason; }
+}
@@ -0,0 +1,148 @@
+package com.surveys.surveys.perfgate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara dos resultados JSON de JMH.
+ *
+ * <p>El puntaje principal se compara con el intervalo de confianza del 99,9%
+ * que reporta JMH: hay regresión sólo si el cambio supera la tolerancia y
+ * los intervalos de ambas ejecuciones no se solapan, así que una diferencia
+ * dentro del ruido medido no falla la verificación. En los modos de tiempo
+ * ({@code avgt}, {@code sample}, {@code ss}) más alto es peor; en {@code thrpt},
+ * más bajo. La asignación se compara con {@code gc.alloc.rate.norm} del
+ * perfilador {@code gc}, en bytes por operación, que no depende de la
+ * velocidad de la máquina como sí lo hace la tasa en MB/s.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class JmhComparison {
+
+    static final String SOURCE = "jmh";
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private final Tolerances tolerances;
+
+    JmhComparison(Tolerances tolerances) {
+        this.tolerances = tolerances;
+    }
+
+    List<Finding> compare(JsonNode baseline, JsonNode current) {
+        Map<String, JsonNode> baselines = index(baseline);
+        Map<String, JsonNode> currents = index(current);
+        List<Finding> findings = new ArrayList<>();
+        currents.forEach((name, result) -> {
+            JsonNode base = baselines.get(name);
+            JsonNode primary = result.get("primaryMetric");
+            if (base == null) {
+                findings.add(Finding.added(SOURCE, name, result.get("mode").asText(),
+                    primary.get("scoreUnit").asText(), primary.get("score").asDouble()));
+                return;
+            }
+            findings.add(comparePrimary(name, result.get("mode").asText(), base.get("primaryMetric"), primary));
+            JsonNode baseAllocation = secondary(base, ALLOCATION);
+            JsonNode allocation = secondary(result, ALLOCATION);
+            if (baseAllocation != null && allocation != null) {
+                findings.add(compareAllocation(name, baseAllocation, allocation));
+            }
+        });
+        baselines.keySet().stream()
+            .filter(name -> !currents.containsKey(name))
+            .forEach(name -> findings.add(Finding.missing(SOURCE, name)));
+        return findings;
+    }
+
+    private Finding comparePrimary(String name, String mode, JsonNode base, JsonNode current) {
+        boolean higherIsWorse = !"thrpt".equals(mode);
+        double baseScore = base.get("score").asDouble();
+        double score = current.get("score").asDouble();
+        double worsening = higherIsWorse ? (score - baseScore) / baseScore : (baseScore - score) / baseScore;
+
+        double[] baseInterval = interval(base);
+        double[] interval = interval(current);
+        boolean separated = baseInterval == null || interval == null
+            || (higherIsWorse ? interval[0] > baseInterval[1] : interval[1] < baseInterval[0]);
+
+        Finding.Verdict verdict;
+        String reason;
+        if (worsening > tolerances.benchmarkTime && separated) {
+            verdict = Finding.Verdict.REGRESSED;
+            reason = String.format("empeora %.1f%% (tolerancia %.0f%%)", worsening * 100, tolerances.benchmarkTime * 100);
+        } else if (-worsening > tolerances.benchmarkTime && separated) {
+            verdict = Finding.Verdict.IMPROVED;
+            reason = "";
+        } else {
+            verdict = Finding.Verdict.OK;
+            reason = separated ? "" : "dentro del intervalo de confianza";
+        }
+        return new Finding(SOURCE, name, mode, current.get("scoreUnit").asText(), baseScore, score, verdict, reason);
+    }
+
+    private Finding compareAllocation(String name, JsonNode base, JsonNode current) {
+        double baseBytes = base.get("score").asDouble();
+        double bytes = current.get("score").asDouble();
+        double limit = baseBytes * (1 + tolerances.allocation) + tolerances.allocationSlackBytes;
+        Finding.Verdict verdict = bytes > limit ? Finding.Verdict.REGRESSED
+            : bytes < baseBytes * (1 - tolerances.allocation) - tolerances.allocationSlackBytes
+                ? Finding.Verdict.IMPROVED : Finding.Verdict.OK;
+        String reason = verdict == Finding.Verdict.REGRESSED
+            ? String.format("asigna %.0f B/op, límite %.0f", bytes, limit) : "";
+        return new Finding(SOURCE, name, "alloc", "B/op", baseBytes, bytes, verdict, reason);
+    }
+
+    /**
+     * Intervalo de confianza del puntaje, o {@code null} si JMH no pudo
+     * calcularlo (una sola iteración).
+     */
+    private static double[] interval(JsonNode metric) {
+        JsonNode confidence = metric.get("scoreConfidence");
+        if (confidence == null || confidence.size() != 2
+                || !confidence.get(0).isNumber() || !confidence.get(1).isNumber()) {
+            return null;
+        }
+        return new double[] {confidence.get(0).asDouble(), confidence.get(1).asDouble()};
+    }
+
+    /**
+     * Métrica secundaria por nombre; versiones anteriores de JMH anteponen {@code ·}.
+     */
+    private static JsonNode secondary(JsonNode result, String metric) {
+        JsonNode secondary = result.get("secondaryMetrics");
+        if (secondary == null) {
+            return null;
+        }
+        JsonNode found = secondary.get(metric);
+        return found != null ? found : secondary.get("·" + metric);
+    }
+
+    /**
+     * Indexa los resultados por benchmark y parámetros, p. ej.
+     * {@code JacksonBenchmark.readResponse:size=10}.
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            String benchmark = result.get("benchmark").asText();
+            StringBuilder name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.',
+                benchmark.lastIndexOf('.') - 1) + 1));
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    name.append(':').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            indexed.put(name.toString(), result);
+        }
+        return indexed;
+    }
+}
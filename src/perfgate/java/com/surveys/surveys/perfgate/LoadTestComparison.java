@@ -0,0 +1,103 @@
+package com.surveys.surveys.perfgate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara dos reportes de la prueba de carga de un mismo escenario y perfil.
+ *
+ * <p>Por operación se comparan el throughput y el p99. El p99 de una
+ * operación con pocas peticiones depende de uno o dos valores, así que sólo
+ * se compara cuando ambas ejecuciones tienen al menos
+ * {@code perfgate.min-requests}; además se ignora un margen absoluto en
+ * milisegundos para que las operaciones muy rápidas no fallen por ruido.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LoadTestComparison {
+
+    static final String SOURCE = "loadtest";
+
+    private final Tolerances tolerances;
+
+    LoadTestComparison(Tolerances tolerances) {
+        this.tolerances = tolerances;
+    }
+
+    /**
+     * Nombre de la línea base de un reporte: {@code loadtest-<escenario>-<perfil>.json}.
+     */
+    static String baselineName(JsonNode report) {
+        return "loadtest-" + report.get("scenario").asText() + "-" + report.get("profile").asText() + ".json";
+    }
+
+    List<Finding> compare(JsonNode baseline, JsonNode current) {
+        String scenario = current.get("scenario").asText() + "/" + current.get("profile").asText();
+        JsonNode baseOperations = baseline.get("operations");
+        JsonNode operations = current.get("operations");
+        List<Finding> findings = new ArrayList<>();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = operations.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> operation = fields.next();
+            String name = scenario + " " + operation.getKey();
+            JsonNode stats = operation.getValue();
+            JsonNode base = baseOperations.get(operation.getKey());
+            if (base == null) {
+                findings.add(Finding.added(SOURCE, name, "throughput", "req/s", stats.get("throughput").asDouble()));
+                continue;
+            }
+            findings.add(compareThroughput(name, base, stats));
+            if (base.get("requests").asLong() >= tolerances.minRequests
+                    && stats.get("requests").asLong() >= tolerances.minRequests) {
+                findings.add(compareP99(name, base, stats));
+            }
+        }
+        baseOperations.fieldNames().forEachRemaining(operation -> {
+            if (!operations.has(operation)) {
+                findings.add(Finding.missing(SOURCE, scenario + " " + operation));
+            }
+        });
+        return findings;
+    }
+
+    private Finding compareThroughput(String name, JsonNode base, JsonNode current) {
+        double baseline = base.get("throughput").asDouble();
+        double throughput = current.get("throughput").asDouble();
+        Finding.Verdict verdict;
+        String reason = "";
+        if (throughput < baseline * (1 - tolerances.throughput)) {
+            verdict = Finding.Verdict.REGRESSED;
+            reason = String.format("cae %.1f%% (tolerancia %.0f%%)",
+                (baseline - throughput) / baseline * 100, tolerances.throughput * 100);
+        } else if (throughput > baseline * (1 + tolerances.throughput)) {
+            verdict = Finding.Verdict.IMPROVED;
+        } else {
+            verdict = Finding.Verdict.OK;
+        }
+        return new Finding(SOURCE, name, "throughput", "req/s", baseline, throughput, verdict, reason);
+    }
+
+    private Finding compareP99(String name, JsonNode base, JsonNode current) {
+        double baseline = base.get("p99Ms").asDouble();
+        double p99 = current.get("p99Ms").asDouble();
+        double limit = baseline * (1 + tolerances.p99) + tolerances.p99SlackMs;
+        Finding.Verdict verdict;
+        String reason = "";
+        if (p99 > limit) {
+            verdict = Finding.Verdict.REGRESSED;
+            reason = String.format("supera el límite de %.2f ms", limit);
+        } else if (p99 < baseline * (1 - tolerances.p99) - tolerances.p99SlackMs) {
+            verdict = Finding.Verdict.IMPROVED;
+        } else {
+            verdict = Finding.Verdict.OK;
+        }
+        return new Finding(SOURCE, name, "p99", "ms", baseline, p99, verdict, reason);
+    }
+}
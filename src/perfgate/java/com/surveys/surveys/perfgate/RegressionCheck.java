@@ -0,0 +1,164 @@
+package com.surveys.surveys.perfgate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara los resultados de los benchmarks JMH y de la prueba de carga con
+ * las líneas base guardadas en el repositorio y termina con código 1 si hay
+ * regresiones, lo que hace fallar {@code mvn verify}.
+ *
+ * <p>Se ejecuta con {@code mvn -P benchmarks,loadtest,perfgate verify}.
+ * Propiedades de sistema:
+ * <ul>
+ *   <li>{@code perfgate.baselines}: directorio de las líneas base</li>
+ *   <li>{@code perfgate.jmh-result} y {@code perfgate.loadtest-results}
+ *       (separados por comas): resultados de la ejecución actual</li>
+ *   <li>{@code perfgate.update=true}: reemplaza las líneas base con los
+ *       resultados actuales en lugar de compararlos</li>
+ *   <li>{@code perfgate.report}: reporte JSON de la comparación</li>
+ *   <li>tolerancias, ver {@link Tolerances}</li>
+ * </ul>
+ *
+ * <p>Las líneas base sólo son comparables con ejecuciones en la misma
+ * máquina y JDK; si el JDK cambia se avisa, y al cambiar de máquina de
+ * referencia hay que regenerarlas con {@code perfgate.update}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RegressionCheck {
+
+    static final String JMH_BASELINE = "jmh.json";
+
+    private RegressionCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path baselines = Path.of(System.getProperty("perfgate.baselines", "src/perfgate/baselines"));
+        Path jmhResult = Path.of(System.getProperty("perfgate.jmh-result", "target/jmh-result.json"));
+        List<Path> loadResults = new ArrayList<>();
+        for (String file : System.getProperty("perfgate.loadtest-results", "target/loadtest-result.json").split(",")) {
+            if (!file.isBlank()) {
+                loadResults.add(Path.of(file.trim()));
+            }
+        }
+        Path reportFile = Path.of(System.getProperty("perfgate.report", "target/perfgate-report.json"));
+
+        List<Path> missing = new ArrayList<>();
+        if (!Files.exists(jmhResult)) {
+            missing.add(jmhResult);
+        }
+        loadResults.stream().filter(file -> !Files.exists(file)).forEach(missing::add);
+        if (!missing.isEmpty()) {
+            System.err.printf("Faltan resultados %s; ejecute mvn -P benchmarks,loadtest,perfgate verify%n", missing);
+            System.exit(2);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (Boolean.getBoolean("perfgate.update")) {
+            update(objectMapper, baselines, jmhResult, loadResults);
+            return;
+        }
+
+        Tolerances tolerances = Tolerances.fromSystemProperties();
+        List<Finding> findings = new ArrayList<>();
+        JsonNode jmh = objectMapper.readTree(jmhResult.toFile());
+        JsonNode jmhBaseline = read(objectMapper, baselines.resolve(JMH_BASELINE));
+        if (jmhBaseline != null) {
+            warnIfJdkChanged(jmhBaseline, jmh);
+            findings.addAll(new JmhComparison(tolerances).compare(jmhBaseline, jmh));
+        }
+        for (Path file : loadResults) {
+            JsonNode load = objectMapper.readTree(file.toFile());
+            JsonNode loadBaseline = read(objectMapper, baselines.resolve(LoadTestComparison.baselineName(load)));
+            if (loadBaseline != null) {
+                findings.addAll(new LoadTestComparison(tolerances).compare(loadBaseline, load));
+            }
+        }
+
+        print(findings);
+        write(objectMapper, reportFile, findings);
+        long regressions = findings.stream().filter(Finding::isRegression).count();
+        if (regressions > 0) {
+            System.err.printf("%d regresiones de rendimiento respecto a %s%n", regressions, baselines);
+            System.exit(1);
+        }
+        System.out.printf("Sin regresiones respecto a %s%n", baselines);
+    }
+
+    private static void update(ObjectMapper objectMapper, Path baselines, Path jmhResult,
+                               List<Path> loadResults) throws IOException {
+        Files.createDirectories(baselines);
+        copy(jmhResult, baselines.resolve(JMH_BASELINE));
+        for (Path file : loadResults) {
+            copy(file, baselines.resolve(LoadTestComparison.baselineName(objectMapper.readTree(file.toFile()))));
+        }
+    }
+
+    private static void copy(Path from, Path to) throws IOException {
+        Files.copy(from, to, StandardCopyOption.REPLACE_EXISTING);
+        System.out.printf("Línea base actualizada: %s%n", to);
+    }
+
+    private static JsonNode read(ObjectMapper objectMapper, Path baseline) throws IOException {
+        if (!Files.exists(baseline)) {
+            System.out.printf("Sin línea base %s; se omite la comparación%n", baseline);
+            return null;
+        }
+        return objectMapper.readTree(baseline.toFile());
+    }
+
+    private static void warnIfJdkChanged(JsonNode baseline, JsonNode current) {
+        if (baseline.isEmpty() || current.isEmpty()) {
+            return;
+        }
+        String before = baseline.get(0).path("jdkVersion").asText();
+        String now = current.get(0).path("jdkVersion").asText();
+        if (!before.equals(now)) {
+            System.out.printf("Aviso: la línea base es del JDK %s y esta ejecución del %s%n", before, now);
+        }
+    }
+
+    private static void print(List<Finding> findings) {
+        System.out.printf("%n%-9s %-52s %-10s %12s %12s %8s  %s%n",
+            "origen", "medición", "métrica", "base", "actual", "cambio", "resultado");
+        for (Finding finding : findings) {
+            System.out.printf("%-9s %-52s %-10s %12.3f %12.3f %7.1f%%  %s %s%n",
+                finding.getSource(), finding.getName(), finding.getMetric(), finding.getBaseline(),
+                finding.getCurrent(), finding.change() * 100, finding.getVerdict(), finding.getReason());
+        }
+        System.out.println();
+    }
+
+    private static void write(ObjectMapper objectMapper, Path reportFile, List<Finding> findings) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Finding finding : findings) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("source", finding.getSource());
+            row.put("name", finding.getName());
+            row.put("metric", finding.getMetric());
+            row.put("unit", finding.getUnit());
+            row.put("baseline", Double.isNaN(finding.getBaseline()) ? null : finding.getBaseline());
+            row.put("current", Double.isNaN(finding.getCurrent()) ? null : finding.getCurrent());
+            row.put("verdict", finding.getVerdict());
+            row.put("reason", finding.getReason());
+            rows.add(row);
+        }
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), rows);
+        System.out.println("Reporte guardado en " + reportFile.toAbsolutePath());
+    }
+}
@@ -0,0 +1,45 @@
+package com.surveys.surveys.perfgate;
+
+/**
+ * Cuánto puede empeorar cada métrica antes de considerarse una regresión,
+ * leído de propiedades de sistema {@code perfgate.*}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Tolerances {
+
+    /** Aumento relativo del tiempo por operación en JMH. */
+    final double benchmarkTime;
+    /** Aumento relativo de bytes asignados por operación. */
+    final double allocation;
+    /** Bytes por operación que se ignoran siempre, por ruido del perfilador. */
+    final double allocationSlackBytes;
+    /** Caída relativa del throughput en la prueba de carga. */
+    final double throughput;
+    /** Aumento relativo del p99 en la prueba de carga. */
+    final double p99;
+    /** Milisegundos de p99 que se ignoran siempre. */
+    final double p99SlackMs;
+    /** Peticiones mínimas de una operación para comparar su p99. */
+    final long minRequests;
+
+    private Tolerances() {
+        this.benchmarkTime = percent("perfgate.benchmark-time", 10);
+        this.allocation = percent("perfgate.allocation", 10);
+        this.allocationSlackBytes = Double.parseDouble(System.getProperty("perfgate.allocation-slack-bytes", "32"));
+        this.throughput = percent("perfgate.throughput", 15);
+        this.p99 = percent("perfgate.p99", 25);
+        this.p99SlackMs = Double.parseDouble(System.getProperty("perfgate.p99-slack-ms", "2"));
+        this.minRequests = Long.getLong("perfgate.min-requests", 200L);
+    }
+
+    static Tolerances fromSystemProperties() {
+        return new Tolerances();
+    }
+
+    private static double percent(String property, double defaultPercent) {
+        return Double.parseDouble(System.getProperty(property, String.valueOf(defaultPercent))) / 100.0;
+    }
+}
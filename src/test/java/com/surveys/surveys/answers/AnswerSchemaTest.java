@@ -0,0 +1,154 @@
+package com.surveys.surveys.answers;
+
+import com.surveys.surveys.exception.ValidationException;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.services.SurveyService;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnswerSchemaTest {
+
+    private static final String SURVEY_ID = "65f0c0ffee0000000000a001";
+
+    @Mock
+    private ObjectProvider<SurveyService> surveyServiceProvider;
+
+    @Mock
+    private SurveyService surveyService;
+
+    @Test
+    void storedValuesRoundTripThroughTheConverters() {
+        Survey survey = survey(List.of("Sí", "No", "Tal vez"));
+        when(surveyServiceProvider.getObject()).thenReturn(surveyService);
+        when(surveyService.getSurveyById(SURVEY_ID)).thenReturn(Optional.of(survey));
+        AnswerSchemas schemas = new AnswerSchemas(surveyServiceProvider, 10, Duration.ofMinutes(5));
+        ResponseDictionaries dictionaries = new ResponseDictionaries(null, false, 10);
+
+        Response response = response(
+            "choice", "No",
+            "multi", List.of("Tal vez", "Sí"),
+            "scale", 4,
+            "text", "Comentario",
+            "file", Map.of("fileUrl", "s3://evidencias/1.pdf"));
+        schemas.resolve(response);
+
+        Document stored = new ResponseWritingConverter(dictionaries).convert(response);
+        List<?> answers = (List<?>) stored.get("answers");
+        // Las opciones se guardan por su valor, no por su posición
+        assertEquals("No", ((Document) answers.get(0)).get("answer"));
+        assertEquals(List.of("Tal vez", "Sí"), ((Document) answers.get(1)).get("answer"));
+
+        Response read = new ResponseReadingConverter(schemas, dictionaries).convert(stored);
+        assertEquals(plain(response), plain(read));
+        assertInstanceOf(ChoiceAnswer.class, read.getAnswers().get(0).getAnswer());
+        assertInstanceOf(MultiChoiceAnswer.class, read.getAnswers().get(1).getAnswer());
+        assertInstanceOf(ScaleAnswer.class, read.getAnswers().get(2).getAnswer());
+        assertInstanceOf(TextAnswer.class, read.getAnswers().get(3).getAnswer());
+        assertInstanceOf(FileAnswer.class, read.getAnswers().get(4).getAnswer());
+    }
+
+    @Test
+    void editingOptionsDoesNotChangeStoredAnswers() {
+        AnswerSchema before = AnswerSchema.of(survey(List.of("Sí", "No", "Tal vez")));
+        Response response = response("choice", "Tal vez", "multi", List.of("No", "Tal vez"));
+        before.resolve(response);
+        Object choice = AnswerSchema.toStored(response.getAnswers().get(0).getAnswer());
+        Object multi = AnswerSchema.toStored(response.getAnswers().get(1).getAnswer());
+
+        // Opciones reordenadas, una nueva al principio y "No" eliminada
+        AnswerSchema after = AnswerSchema.of(survey(List.of("Nunca", "Tal vez", "Sí")));
+        assertEquals("Tal vez", after.fromStored("choice", choice).toPlain());
+        assertEquals(List.of("No", "Tal vez"), after.fromStored("multi", multi).toPlain());
+    }
+
+    @Test
+    void legacyValuesAreReadByValue() {
+        // Opciones numéricas guardadas como Integer antes del modelo tipado
+        AnswerSchema schema = AnswerSchema.of(survey(List.of(10, 20, 1)));
+        AnswerValue numeric = schema.fromStored("choice", 1);
+        assertEquals(ChoiceAnswer.of(1), numeric);
+        assertEquals(1, numeric.toPlain());
+        assertEquals(List.of(20, 10), schema.fromStored("multi", List.of(20, 10)).toPlain());
+
+        AnswerValue file = schema.fromStored("file", new Document("fileUrl", "s3://evidencias/2.pdf"));
+        assertEquals(new FileAnswer("s3://evidencias/2.pdf"), file);
+        assertInstanceOf(UntypedAnswer.class, schema.fromStored("unknown", "valor"));
+    }
+
+    @Test
+    void multiChoiceAcceptsAnyNumberOfOptions() {
+        List<Object> options = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            options.add("Opción " + i);
+        }
+        AnswerSchema schema = AnswerSchema.of(survey(options));
+        Response response = response("multi", List.of("Opción 1", "Opción 65", "Opción 69"));
+        schema.resolve(response);
+        assertEquals(List.of("Opción 1", "Opción 65", "Opción 69"), response.getAnswers().get(0).getAnswer().toPlain());
+    }
+
+    @Test
+    void unknownOptionsAreRejected() {
+        AnswerSchema schema = AnswerSchema.of(survey(List.of("Sí", "No")));
+        assertThrows(ValidationException.class, () -> schema.resolve(response("choice", "Quizás")));
+        assertThrows(ValidationException.class, () -> schema.resolve(response("multi", List.of("Sí", "Quizás"))));
+        assertThrows(ValidationException.class, () -> schema.resolve(response("missing", "Sí")));
+    }
+
+    private static Survey survey(List<?> options) {
+        Question choice = question("choice", "multiple_choice", options);
+        Question multi = question("multi", "multiple_choice", options);
+        Question scale = question("scale", "scale", Map.of("min", 1, "max", 5));
+        Question text = question("text", "text", null);
+        Question file = question("file", "file", null);
+        Survey survey = new Survey();
+        survey.setId(SURVEY_ID);
+        survey.setQuestions(List.of(choice, multi, scale, text, file));
+        return survey;
+    }
+
+    private static Question question(String id, String type, Object options) {
+        Question question = new Question(id, type, true);
+        question.setId(id);
+        question.setOptions(options);
+        return question;
+    }
+
+    private static Response response(Object... pairs) {
+        Response response = new Response();
+        response.setSurveyId(SURVEY_ID);
+        List<Response.Answer> answers = new ArrayList<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            Response.Answer answer = new Response.Answer();
+            answer.setQuestionId((String) pairs[i]);
+            answer.setAnswer(AnswerValue.untyped(pairs[i + 1]));
+            answers.add(answer);
+        }
+        response.setAnswers(answers);
+        return response;
+    }
+
+    private static List<Object> plain(Response response) {
+        return response.getAnswers().stream()
+            .map(answer -> (Object) List.of(answer.getQuestionId(), answer.getAnswer().toPlain()))
+            .toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.surveys.surveys.answers;
+
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.services.SurveyService;
+import com.surveys.surveys.testsupport.InMemoryMongo;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.surveys.surveys.testsupport.InMemoryMongo.SURVEY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseDictionariesTest {
+
+    @Mock
+    private SurveyService surveyService;
+
+    @RegisterExtension
+    final InMemoryMongo mongo = new InMemoryMongo();
+
+    private ObjectProvider<MongoTemplate> mongoTemplate;
+    private ObjectProvider<SurveyService> surveyServiceProvider;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("mongoTemplate", mongo.template());
+        beans.registerSingleton("surveyService", surveyService);
+        mongoTemplate = beans.getBeanProvider(MongoTemplate.class);
+        surveyServiceProvider = beans.getBeanProvider(SurveyService.class);
+    }
+
+    @Test
+    void codesNeverChangeAsOtherInstancesAddEntries() {
+        when(surveyService.getSurveyById(SURVEY_ID)).thenReturn(Optional.of(survey(List.of("Sí", "No", "Tal vez"))));
+        AnswerSchemas schemas = new AnswerSchemas(surveyServiceProvider, 10, Duration.ofMinutes(5));
+        // Dos instancias de la aplicación, cada una con su copia en memoria del diccionario
+        ResponseDictionaries first = new ResponseDictionaries(mongoTemplate, true, 10);
+        ResponseDictionaries second = new ResponseDictionaries(mongoTemplate, true, 10);
+
+        Response response = response(schemas, "choice", "No", "multi", List.of("Tal vez", "Sí"), "scale", 4);
+        Document stored = new ResponseWritingConverter(first).convert(response);
+        assertEquals(List.of(0, 1, 2), stored.get(ResponseWritingConverter.QUESTION_CODES));
+        assertEquals(List.of(0, List.of(0, 1), 4), stored.get(ResponseWritingConverter.VALUES));
+
+        // La segunda instancia agrega una pregunta y una opción; los códigos existentes se conservan
+        Response later = response(schemas, "text", "Comentario", "choice", "Sí", "multi", List.of("No"));
+        Document laterStored = new ResponseWritingConverter(second).convert(later);
+        assertEquals(List.of(3, 0, 1), laterStored.get(ResponseWritingConverter.QUESTION_CODES));
+        assertEquals(List.of("Comentario", 1, List.of(2)), laterStored.get(ResponseWritingConverter.VALUES));
+
+        ResponseDictionary dictionary = second.get(SURVEY_ID);
+        assertEquals(List.of("choice", "multi", "scale", "text"),
+            List.of(dictionary.questionId(0), dictionary.questionId(1), dictionary.questionId(2), dictionary.questionId(3)));
+        assertEquals(List.of("No", "Sí"), List.of(dictionary.option(0, 0), dictionary.option(0, 1)));
+        assertEquals(List.of("Tal vez", "Sí", "No"),
+            List.of(dictionary.option(1, 0), dictionary.option(1, 1), dictionary.option(1, 2)));
+
+        // La primera instancia no conoce los códigos nuevos y recarga su diccionario al leerlos
+        ResponseReadingConverter reader = new ResponseReadingConverter(schemas, first);
+        assertEquals(plain(later), plain(reader.convert(laterStored)));
+        assertEquals(plain(response), plain(reader.convert(stored)));
+
+        // Una opción que ambas instancias agregan recibe un solo código
+        int fromFirst = first.covering(response(schemas, "choice", "Tal vez")).optionCode(0, "Tal vez");
+        int fromSecond = second.covering(response(schemas, "choice", "Tal vez")).optionCode(0, "Tal vez");
+        assertEquals(2, fromFirst);
+        assertEquals(fromFirst, fromSecond);
+    }
+
+    @Test
+    void editingSurveyOptionsDoesNotChangeCompactAnswers() {
+        when(surveyService.getSurveyById(SURVEY_ID)).thenReturn(Optional.of(survey(List.of("Sí", "No", "Tal vez"))));
+        AnswerSchemas schemas = new AnswerSchemas(surveyServiceProvider, 10, Duration.ofMinutes(5));
+        ResponseDictionaries dictionaries = new ResponseDictionaries(mongoTemplate, true, 10);
+        Response response = response(schemas, "choice", "Tal vez", "multi", List.of("No", "Tal vez"));
+        Document stored = new ResponseWritingConverter(dictionaries).convert(response);
+
+        // Opciones reordenadas, una nueva al principio y "No" eliminada
+        when(surveyService.getSurveyById(SURVEY_ID)).thenReturn(Optional.of(survey(List.of("Nunca", "Tal vez", "Sí"))));
+        AnswerSchemas edited = new AnswerSchemas(surveyServiceProvider, 10, Duration.ofMinutes(5));
+        Response read = new ResponseReadingConverter(edited, new ResponseDictionaries(mongoTemplate, true, 10))
+            .convert(stored);
+        assertEquals(plain(response), plain(read));
+    }
+
+    @Test
+    void multiChoiceKeepsSubmittedOrderAndRepeats() {
+        when(surveyService.getSurveyById(SURVEY_ID)).thenReturn(Optional.of(survey(List.of("Sí", "No", "Tal vez"))));
+        AnswerSchemas schemas = new AnswerSchemas(surveyServiceProvider, 10, Duration.ofMinutes(5));
+        ResponseDictionaries dictionaries = new ResponseDictionaries(mongoTemplate, true, 10);
+        ResponseWritingConverter writer = new ResponseWritingConverter(dictionaries);
+        writer.convert(response(schemas, "multi", List.of("Sí", "No", "Tal vez")));
+
+        // Selección en orden inverso al del diccionario y con una opción repetida
+        Response response = response(schemas, "multi", List.of("Tal vez", "Sí", "Tal vez"));
+        Document stored = writer.convert(response);
+        assertEquals(List.of(List.of(2, 0, 2)), stored.get(ResponseWritingConverter.VALUES));
+
+        Response read = new ResponseReadingConverter(schemas, dictionaries).convert(stored);
+        assertEquals(List.of(List.of("multi", List.of("Tal vez", "Sí", "Tal vez"))), plain(read));
+    }
+
+    private static Survey survey(List<?> options) {
+        Survey survey = new Survey();
+        survey.setId(SURVEY_ID);
+        survey.setQuestions(List.of(
+            question("choice", "multiple_choice", options),
+            question("multi", "multiple_choice", options),
+            question("scale", "scale", Map.of("min", 1, "max", 5)),
+            question("text", "text", null)));
+        return survey;
+    }
+
+    private static Question question(String id, String type, Object options) {
+        Question question = new Question(id, type, true);
+        question.setId(id);
+        question.setOptions(options);
+        return question;
+    }
+
+    private static Response response(AnswerSchemas schemas, Object... pairs) {
+        Response response = new Response();
+        response.setSurveyId(SURVEY_ID);
+        List<Response.Answer> answers = new ArrayList<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            Response.Answer answer = new Response.Answer();
+            answer.setQuestionId((String) pairs[i]);
+            answer.setAnswer(AnswerValue.untyped(pairs[i + 1]));
+            answers.add(answer);
+        }
+        response.setAnswers(answers);
+        schemas.resolve(response);
+        return response;
+    }
+
+    private static List<Object> plain(Response response) {
+        return response.getAnswers().stream()
+            .map(answer -> (Object) List.of(answer.getQuestionId(), answer.getAnswer().toPlain()))
+            .toList();
+    }
+}
@@ -0,0 +1,215 @@
+package com.surveys.surveys.archive;
+
+import com.surveys.surveys.answers.AnswerSchema;
+import com.surveys.surveys.answers.AnswerSchemas;
+import com.surveys.surveys.answers.AnswerValue;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.partitioning.ResponsePartitions;
+import com.surveys.surveys.testsupport.InMemoryMongo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.surveys.surveys.testsupport.InMemoryMongo.SURVEY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseArchiverTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ResponsePartitions partitions;
+
+    @Mock
+    private AnswerSchemas answerSchemas;
+
+    @RegisterExtension
+    final InMemoryMongo mongo = new InMemoryMongo();
+
+    @TempDir
+    Path directory;
+
+    private MongoTemplate mongoTemplate;
+    private ResponseArchive archive;
+    private ResponseArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mongo.template();
+        lenient().when(partitions.responseCollections()).thenReturn(List.of("responses"));
+        Survey survey = new Survey();
+        survey.setId(SURVEY_ID);
+        lenient().when(answerSchemas.forSurvey(SURVEY_ID)).thenReturn(AnswerSchema.of(survey));
+        archive = new ResponseArchive(mongoTemplate, answerSchemas, directory.toString());
+        archiver = new ResponseArchiver(mongoTemplate, archive, partitions, true, Duration.ofDays(30), 2,
+            Duration.ofMinutes(10));
+    }
+
+    @Test
+    void laterRunsAppendSegmentsAndReleaseTheLease() throws IOException {
+        insertResponses(0, 3);
+        assertEquals(3, archiver.archive(SURVEY_ID));
+        insertResponses(3, 2);
+        assertEquals(2, archiver.archive(SURVEY_ID));
+
+        ArchiveManifest manifest = mongoTemplate.findById(SURVEY_ID, ArchiveManifest.class);
+        // Dos segmentos de la primera ejecución y uno de la segunda
+        assertEquals(3, manifest.getSegments().size());
+        assertEquals(5, manifest.getRowCount());
+        assertEquals(START, manifest.getFirstSubmittedAt());
+        assertEquals(START.plusSeconds(4), manifest.getLastSubmittedAt());
+        assertNull(manifest.getLeaseOwner());
+        assertNull(manifest.getLeaseUntil());
+        assertTrue(manifest.getPendingDeletes().isEmpty());
+        assertEquals(0, responses());
+        assertEquals(5, archive.read(SURVEY_ID, 0, 10).size());
+        assertEquals(3, files().size());
+    }
+
+    @Test
+    void surveyLeasedByAnotherRunIsSkipped() throws IOException {
+        insertResponses(0, 3);
+        mongoTemplate.getCollection("response_archives").insertOne(new Document("_id", new ObjectId(SURVEY_ID))
+            .append("leaseOwner", "otra")
+            .append("leaseUntil", Date.from(Instant.now().plusSeconds(60)))
+            .append("segments", List.of()));
+
+        assertEquals(0, archiver.archive(SURVEY_ID));
+        assertEquals(3, responses());
+        assertTrue(files().isEmpty());
+        // El manifiesto que solo guarda la reserva no cuenta como archivo
+        assertFalse(archive.isArchived(SURVEY_ID));
+
+        // Vencida la reserva, la siguiente ejecución la toma
+        mongoTemplate.getCollection("response_archives").updateOne(new Document("_id", new ObjectId(SURVEY_ID)),
+            new Document("$set", new Document("leaseUntil", Date.from(Instant.now().minusSeconds(1)))));
+        assertEquals(3, archiver.archive(SURVEY_ID));
+        assertEquals(0, responses());
+    }
+
+    @Test
+    void pendingDeletesAreReplayedOnTheNextRun() {
+        insertResponses(0, 2);
+        List<Document> archived = mongoTemplate.getCollection("responses").find().into(new ArrayList<>());
+        assertEquals(2, archiver.archive(SURVEY_ID));
+
+        // Ejecución interrumpida entre el manifiesto y el borrado: las respuestas siguen en MongoDB
+        mongoTemplate.getCollection("responses").insertMany(archived);
+        String file = mongoTemplate.findById(SURVEY_ID, ArchiveManifest.class).getSegments().get(0).getFile();
+        mongoTemplate.getCollection("response_archives").updateOne(new Document("_id", new ObjectId(SURVEY_ID)),
+            new Document("$set", new Document("pendingDeletes", List.of(file))));
+        insertResponses(2, 1);
+
+        assertEquals(1, archiver.archive(SURVEY_ID));
+        ArchiveManifest manifest = mongoTemplate.findById(SURVEY_ID, ArchiveManifest.class);
+        assertEquals(2, manifest.getSegments().size());
+        assertEquals(3, manifest.getRowCount());
+        assertTrue(manifest.getPendingDeletes().isEmpty());
+        assertEquals(0, responses());
+    }
+
+    @Test
+    void orphanSegmentsAreRemovedOnTheNextRun() throws IOException {
+        insertResponses(0, 2);
+        Files.createDirectories(directory.resolve(SURVEY_ID));
+        Path orphan = directory.resolve(SURVEY_ID).resolve("segment-huerfano.col.gz");
+        Files.write(orphan, new byte[] {1, 2, 3});
+
+        assertEquals(2, archiver.archive(SURVEY_ID));
+
+        assertFalse(Files.exists(orphan));
+        assertEquals(1, files().size());
+    }
+
+    @Test
+    void resumedAnalyticsMatchRecomputingEverySegment() {
+        List<Response> rows = List.of(
+            answered(0, 5), answered(1, "Sí"), answered(2, 3), answered(3, "No"), answered(4, List.of("Sí", "No")));
+        ArchiveAnalytics all = new ArchiveAnalytics();
+        rows.forEach(all::accept);
+        ArchiveManifest expected = new ArchiveManifest();
+        all.applyTo(expected);
+
+        ArchiveAnalytics firstRun = new ArchiveAnalytics();
+        rows.subList(0, 2).forEach(firstRun::accept);
+        ArchiveManifest stored = new ArchiveManifest();
+        stored.getSegments().add(new ArchiveManifest.Segment());
+        firstRun.applyTo(stored);
+        ArchiveAnalytics resumed = ArchiveAnalytics.resume(stored).orElseThrow();
+        rows.subList(2, rows.size()).forEach(resumed::accept);
+        resumed.applyTo(stored);
+
+        assertEquals(expected.getRowCount(), stored.getRowCount());
+        assertEquals(expected.getLastSubmittedAt(), stored.getLastSubmittedAt());
+        ArchiveManifest.QuestionSummary want = expected.getQuestions().get(0);
+        ArchiveManifest.QuestionSummary got = stored.getQuestions().get(0);
+        assertEquals(want.getAnswered(), got.getAnswered());
+        assertEquals(want.getAverage(), got.getAverage());
+        assertEquals(counts(want.getTopValues()), counts(got.getTopValues()));
+
+        // Un manifiesto sin frecuencias guardadas obliga a releer sus segmentos
+        got.setValues(null);
+        assertTrue(ArchiveAnalytics.resume(stored).isEmpty());
+    }
+
+    private void insertResponses(int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            mongoTemplate.getCollection("responses").insertOne(new Document("surveyId", SURVEY_ID)
+                .append("submittedAt", Date.from(START.plusSeconds(i))));
+        }
+    }
+
+    private static Response answered(int second, Object value) {
+        Response response = new Response();
+        response.setSurveyId(SURVEY_ID);
+        response.setSubmittedAt(START.plusSeconds(second));
+        Response.Answer answer = new Response.Answer();
+        answer.setQuestionId("q1");
+        answer.setAnswer(AnswerValue.untyped(value));
+        response.getAnswers().add(answer);
+        return response;
+    }
+
+    private static List<String> counts(List<ArchiveManifest.ValueCount> values) {
+        return values.stream().map(value -> value.getValue() + "=" + value.getCount()).toList();
+    }
+
+    private long responses() {
+        return mongoTemplate.count(new Query(Criteria.where("surveyId").is(SURVEY_ID)), "responses");
+    }
+
+    private List<Path> files() throws IOException {
+        Path surveyDirectory = directory.resolve(SURVEY_ID);
+        if (!Files.isDirectory(surveyDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(surveyDirectory)) {
+            return files.toList();
+        }
+    }
+}
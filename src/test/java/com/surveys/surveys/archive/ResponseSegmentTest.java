@@ -0,0 +1,89 @@
+package com.surveys.surveys.archive;
+
+import com.surveys.surveys.answers.AnswerValue;
+import com.surveys.surveys.model.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static com.surveys.surveys.testsupport.InMemoryMongo.SURVEY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rowsRoundTripWithEveryAnswerShape() throws IOException {
+        List<Response> rows = List.of(
+            row("65f0c0ffee0000000000b001", Instant.parse("2026-01-01T10:00:00.123Z"),
+                "choice", "Sí", "multi", List.of("Tal vez", "No"), "scale", 4, "file", Map.of("fileUrl", "/f/1.pdf")),
+            // Una fila sin fecha y que no contestó la mitad de las preguntas
+            row("65f0c0ffee0000000000b002", null, "scale", 2.5, "text", "Muy bien"),
+            row("65f0c0ffee0000000000b003", Instant.parse("2026-01-02T00:00:00Z")));
+        Path path = directory.resolve("segment-00000.col.gz");
+
+        long bytes = ResponseSegment.write(path, SURVEY_ID, rows);
+
+        assertEquals(Files.size(path), bytes);
+        assertFalse(Files.exists(directory.resolve("segment-00000.col.gz.tmp")));
+        List<Response> read = ResponseSegment.read(path);
+        assertEquals(rows.size(), read.size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(rows.get(i).getId(), read.get(i).getId());
+            assertEquals(SURVEY_ID, read.get(i).getSurveyId());
+            assertEquals(rows.get(i).getSubmittedAt(), read.get(i).getSubmittedAt());
+            assertEquals(plain(rows.get(i)), plain(read.get(i)));
+        }
+        assertNull(read.get(1).getSubmittedAt());
+        assertTrue(read.get(2).getAnswers().isEmpty());
+        assertEquals(List.of("65f0c0ffee0000000000b001", "65f0c0ffee0000000000b002", "65f0c0ffee0000000000b003"),
+            ResponseSegment.readIds(path));
+    }
+
+    @Test
+    void otherFilesAreRejected() throws IOException {
+        Path path = directory.resolve("segment-00000.col.gz");
+        ResponseSegment.write(path, SURVEY_ID, List.of(row("65f0c0ffee0000000000b001", Instant.EPOCH)));
+        Path notASegment = directory.resolve("other.gz");
+        try (GZIPOutputStream out = new GZIPOutputStream(Files.newOutputStream(notASegment))) {
+            out.write(new byte[] {1, 2, 3, 4, 5, 6});
+        }
+
+        assertThrows(IOException.class, () -> ResponseSegment.read(notASegment));
+        assertThrows(IOException.class, () -> ResponseSegment.readIds(notASegment));
+    }
+
+    private static Response row(String id, Instant submittedAt, Object... pairs) {
+        Response response = new Response();
+        response.setId(id);
+        response.setSurveyId(SURVEY_ID);
+        response.setSubmittedAt(submittedAt);
+        for (int i = 0; i < pairs.length; i += 2) {
+            Response.Answer answer = new Response.Answer();
+            answer.setQuestionId((String) pairs[i]);
+            answer.setAnswer(AnswerValue.untyped(pairs[i + 1]));
+            response.getAnswers().add(answer);
+        }
+        return response;
+    }
+
+    private static Map<String, Object> plain(Response response) {
+        Map<String, Object> answers = new LinkedHashMap<>();
+        response.getAnswers().forEach(answer -> answers.put(answer.getQuestionId(), answer.getAnswer().toPlain()));
+        return answers;
+    }
+}
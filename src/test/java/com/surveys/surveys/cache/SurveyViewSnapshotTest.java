@@ -0,0 +1,85 @@
+package com.surveys.surveys.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Survey;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SurveyViewSnapshotTest {
+
+    private static final Instant MODIFIED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    @Test
+    void etagChangesWithContentEvenIfModifiedAtDoesNot() {
+        SurveyViewSnapshot original = SurveyViewSnapshot.of(survey("¿Recomendaría el servicio?"), objectMapper);
+        SurveyViewSnapshot same = SurveyViewSnapshot.of(survey("¿Recomendaría el servicio?"), objectMapper);
+        // Una edición de la pregunta que no actualizó modifiedAt
+        SurveyViewSnapshot edited = SurveyViewSnapshot.of(survey("¿Recomendaría la empresa?"), objectMapper);
+
+        assertEquals(original.getEtag(), same.getEtag());
+        assertNotEquals(original.getEtag(), edited.getEtag());
+        assertEquals(original.getLastModified(), edited.getLastModified());
+    }
+
+    @Test
+    void responseCarriesTheRepresentationItsEtagDescribes() {
+        SurveyViewSnapshot snapshot = SurveyViewSnapshot.of(survey("¿Recomendaría el servicio?"), objectMapper);
+
+        ResponseEntity<byte[]> plain = snapshot.toResponse(false);
+        assertEquals(snapshot.getEtag(), plain.getHeaders().getETag());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(snapshot.getJson(), plain.getBody());
+
+        ResponseEntity<byte[]> gzip = snapshot.toResponse(true);
+        assertNotEquals(snapshot.getEtag(), gzip.getHeaders().getETag());
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(snapshot.getGzip(), gzip.getBody());
+    }
+
+    @Test
+    void gzipIsNegotiatedByQualityValue() {
+        assertTrue(SurveyViewSnapshot.acceptsGzip("gzip"));
+        assertTrue(SurveyViewSnapshot.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(SurveyViewSnapshot.acceptsGzip("x-gzip"));
+        assertTrue(SurveyViewSnapshot.acceptsGzip("br, *;q=0.1"));
+
+        assertFalse(SurveyViewSnapshot.acceptsGzip(null));
+        assertFalse(SurveyViewSnapshot.acceptsGzip("identity"));
+        assertFalse(SurveyViewSnapshot.acceptsGzip("gzip;q=0"));
+        assertFalse(SurveyViewSnapshot.acceptsGzip("gzip; q=0.000"));
+        // Nombrar gzip prevalece sobre el comodín
+        assertFalse(SurveyViewSnapshot.acceptsGzip("*, gzip;q=0"));
+        assertFalse(SurveyViewSnapshot.acceptsGzip("*;q=0"));
+        assertFalse(SurveyViewSnapshot.acceptsGzip("gzip;q=abc"));
+    }
+
+    private static Survey survey(String questionText) {
+        Question question = new Question(questionText, "text", true);
+        question.setId("q1");
+        Survey survey = new Survey();
+        survey.setId("65f0c0ffee0000000000a001");
+        survey.setName("Clima laboral");
+        survey.setQuestions(List.of(question));
+        survey.setCreatedAt(MODIFIED_AT);
+        survey.setModifiedAt(MODIFIED_AT);
+        return survey;
+    }
+}
@@ -0,0 +1,202 @@
+package com.surveys.surveys.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.surveys.surveys.answers.AnswerValue;
+import com.surveys.surveys.cache.SurveyViewCache;
+import com.surveys.surveys.controller.ResponseController;
+import com.surveys.surveys.controller.SurveyController;
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.services.ResponseService;
+import com.surveys.surveys.services.SurveyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class WebConfigTest {
+
+    private static final String SURVEY_ID = "65f0c0ffee0000000000a001";
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final ObjectMapper json = mapper(new JsonFactory());
+    private final ObjectMapper cbor = mapper(new CBORFactory());
+    private final ObjectMapper smile = mapper(new SmileFactory());
+
+    @Mock
+    private SurveyService surveyService;
+
+    @Mock
+    private ResponseService responseService;
+
+    @Mock
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Spy
+    private SurveyViewCache surveyViewCache = new SurveyViewCache(mapper(new JsonFactory()), true, 10, Duration.ofMinutes(5));
+
+    @InjectMocks
+    private SurveyController surveyController;
+
+    @InjectMocks
+    private ResponseController responseController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Como el bean de Spring Boot, cada llamada entrega un builder nuevo
+        when(objectMapperBuilder.getObject()).thenAnswer(invocation -> Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+        // Los mismos conversores que Spring MVC registra antes de los de Jackson
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new ByteArrayHttpMessageConverter());
+        converters.add(new StringHttpMessageConverter());
+        converters.add(new MappingJackson2HttpMessageConverter(json));
+        new WebConfig(objectMapperBuilder).extendMessageConverters(converters);
+        mockMvc = MockMvcBuilders.standaloneSetup(surveyController, responseController)
+            .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+            .build();
+    }
+
+    @Test
+    void viewIsWrittenInTheFormatTheClientPrefers() throws Exception {
+        when(surveyService.getSurveyById(SURVEY_ID)).thenReturn(Optional.of(survey()));
+
+        assertEquals("Clima laboral", read(view("application/cbor"), cbor).getName());
+        assertEquals("Clima laboral", read(view("application/x-jackson-smile"), smile).getName());
+        assertEquals("Clima laboral", read(view("application/json;q=0.5, application/cbor"), cbor).getName());
+
+        // JSON sigue siendo el formato por defecto y se sirve desde la vista pre-serializada
+        MvcResult fallback = mockMvc.perform(get("/api/surveys/{id}/view", SURVEY_ID).accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn();
+        assertEquals("Clima laboral", read(fallback, json).getName());
+        mockMvc.perform(get("/api/surveys/{id}/view", SURVEY_ID)
+                .header(HttpHeaders.ACCEPT, "application/cbor;q=0.1, application/json"))
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void submissionsAreAcceptedInCborAndSmile() throws Exception {
+        when(responseService.saveResponse(any())).thenAnswer(invocation -> {
+            Response saved = invocation.getArgument(0);
+            saved.setId("65f0c0ffee0000000000b001");
+            saved.setSubmittedAt(Instant.parse("2026-01-01T00:00:00Z"));
+            return saved;
+        });
+
+        for (MediaType format : List.of(MediaType.APPLICATION_CBOR, APPLICATION_SMILE)) {
+            ObjectMapper mapper = format.equals(MediaType.APPLICATION_CBOR) ? cbor : smile;
+            MvcResult result = mockMvc.perform(post("/api/responses/submit")
+                    .contentType(format)
+                    .accept(format)
+                    .content(mapper.writeValueAsBytes(submission())))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(format))
+                .andReturn();
+            Map<?, ?> body = mapper.readValue(result.getResponse().getContentAsByteArray(), Map.class);
+            assertEquals("65f0c0ffee0000000000b001", body.get("responseId"));
+            assertEquals(2, body.get("answerCount"));
+        }
+
+        ArgumentCaptor<Response> submitted = ArgumentCaptor.forClass(Response.class);
+        verify(responseService, times(2)).saveResponse(submitted.capture());
+        Response smileSubmission = submitted.getValue();
+        assertEquals(SURVEY_ID, smileSubmission.getSurveyId());
+        assertEquals(List.of("Sí", "Tal vez"), smileSubmission.getAnswers().get(1).getAnswer().toPlain());
+    }
+
+    @Test
+    void malformedBinaryBodyIsRejected() throws Exception {
+        mockMvc.perform(post("/api/responses/submit")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(new byte[] {(byte) 0xBF, 0x61}))
+            .andExpect(status().isBadRequest());
+        verify(responseService, never()).saveResponse(any());
+    }
+
+    private MvcResult view(String accept) throws Exception {
+        return mockMvc.perform(get("/api/surveys/{id}/view", SURVEY_ID).header(HttpHeaders.ACCEPT, accept))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.parseMediaTypes(accept).stream()
+                .max(Comparator.comparingDouble(MediaType::getQualityValue)).orElseThrow()
+                .removeQualityValue()))
+            .andReturn();
+    }
+
+    private static Survey read(MvcResult result, ObjectMapper mapper) throws Exception {
+        return mapper.readValue(result.getResponse().getContentAsByteArray(), Survey.class);
+    }
+
+    private static Survey survey() {
+        Survey survey = new Survey();
+        survey.setId(SURVEY_ID);
+        survey.setName("Clima laboral");
+        survey.setStatus(SurveyStatus.PUBLICADA);
+        return survey;
+    }
+
+    private static Response submission() {
+        Response response = new Response();
+        response.setSurveyId(SURVEY_ID);
+        Response.Answer scale = new Response.Answer();
+        scale.setQuestionId("q1");
+        scale.setAnswer(AnswerValue.untyped(4));
+        Response.Answer multi = new Response.Answer();
+        multi.setQuestionId("q2");
+        multi.setAnswer(AnswerValue.untyped(List.of("Sí", "Tal vez")));
+        response.setAnswers(List.of(scale, multi));
+        return response;
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+}
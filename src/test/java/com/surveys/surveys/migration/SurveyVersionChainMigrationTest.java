@@ -0,0 +1,128 @@
+package com.surveys.surveys.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.surveys.surveys.cache.SurveyCache;
+import com.surveys.surveys.cache.SurveyViewCache;
+import com.surveys.surveys.testsupport.InMemoryMongo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyVersionChainMigrationTest {
+
+    private static final Instant CREATED = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private SurveyCache surveyCache;
+
+    @Mock
+    private SurveyViewCache surveyViewCache;
+
+    @RegisterExtension
+    final InMemoryMongo mongo = new InMemoryMongo();
+
+    private MongoCollection<Document> surveys;
+    private SurveyVersionChainMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        surveys = mongo.template().getCollection("surveys");
+        migration = new SurveyVersionChainMigration(mongo.template(), surveyCache, surveyViewCache);
+    }
+
+    @Test
+    void migrationAssignsChainsOnceAndIsIdempotent() {
+        ObjectId first = insert(null, 0);
+        ObjectId second = insert(first, 1);
+        ObjectId third = insert(second, 2);
+        ObjectId standalone = insert(null, 3);
+
+        assertEquals(4, migration.migrate());
+        List<Document> migrated = snapshot();
+        assertChain(first, 1, first);
+        assertChain(first, 2, second);
+        assertChain(first, 3, third);
+        assertChain(standalone, 1, standalone);
+
+        // Una segunda ejecución no encuentra pendientes ni cambia los documentos
+        assertEquals(0, migration.migrate());
+        assertEquals(migrated, snapshot());
+        verify(surveyCache, times(1)).invalidateAll();
+        verify(surveyViewCache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void pendingVersionsContinueAnAlreadyMigratedChain() {
+        ObjectId first = insert(null, 0);
+        ObjectId second = insert(first, 1);
+        assertEquals(2, migration.migrate());
+
+        // Versiones creadas sin cadena después de migrar, como las de una instancia antigua
+        ObjectId third = insert(second, 2);
+        ObjectId fourth = insert(third, 3);
+        assertEquals(2, migration.migrate());
+
+        assertChain(first, 1, first);
+        assertChain(first, 2, second);
+        assertChain(first, 3, third);
+        assertChain(first, 4, fourth);
+        assertEquals(0, migration.migrate());
+    }
+
+    @Test
+    void cyclesAndMissingPredecessorsAreCutAtTheCurrentSurvey() {
+        ObjectId a = new ObjectId();
+        ObjectId b = new ObjectId();
+        surveys.insertOne(new Document("_id", a).append("previousVersionId", b.toHexString())
+            .append("createdAt", Date.from(CREATED)));
+        surveys.insertOne(new Document("_id", b).append("previousVersionId", a.toHexString())
+            .append("createdAt", Date.from(CREATED.plusSeconds(1))));
+        ObjectId orphan = new ObjectId();
+        surveys.insertOne(new Document("_id", orphan).append("previousVersionId", new ObjectId().toHexString())
+            .append("createdAt", Date.from(CREATED)));
+
+        assertEquals(3, migration.migrate());
+        Document first = surveys.find(new Document("_id", a)).first();
+        Document second = surveys.find(new Document("_id", b)).first();
+        assertEquals(first.getString("rootVersionId"), second.getString("rootVersionId"));
+        assertChain(orphan, 1, orphan);
+        assertEquals(0, migration.migrate());
+    }
+
+    private ObjectId insert(ObjectId previous, int minutes) {
+        ObjectId id = new ObjectId();
+        Document survey = new Document("_id", id)
+            .append("name", "Encuesta " + minutes)
+            .append("createdAt", Date.from(CREATED.plusSeconds(60L * minutes)));
+        if (previous != null) {
+            survey.append("previousVersionId", previous.toHexString());
+        }
+        surveys.insertOne(survey);
+        return id;
+    }
+
+    private void assertChain(ObjectId root, int version, ObjectId id) {
+        Document survey = surveys.find(new Document("_id", id)).first();
+        assertEquals(root.toHexString(), survey.getString("rootVersionId"));
+        assertEquals(version, survey.getInteger("version"));
+    }
+
+    private List<Document> snapshot() {
+        return surveys.find().sort(new Document("_id", 1)).into(new ArrayList<>());
+    }
+}
@@ -0,0 +1,111 @@
+package com.surveys.surveys.pagination;
+
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.exception.ValidationException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetPaginationTest {
+
+    private final KeysetPagination pagination = new KeysetPagination(50, 500);
+
+    @Test
+    void keysetPagesVisitEveryIdOnceAcrossPageBoundaries() {
+        List<String> ids = ids(10);
+        for (int size = 1; size <= 11; size++) {
+            List<String> read = new ArrayList<>();
+            List<Integer> sizes = new ArrayList<>();
+            String cursor = null;
+            do {
+                CursorPage<String> page = pagination.page(after(ids, cursor, size), size, id -> id);
+                read.addAll(page.getItems());
+                sizes.add(page.getSize());
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertEquals(ids, read, "tamaño de página " + size);
+            // Si el total es múltiplo del tamaño, la última página llena ya no tiene cursor
+            assertEquals((ids.size() + size - 1) / size, sizes.size(), "tamaño de página " + size);
+        }
+    }
+
+    @Test
+    void pageWithExactlySizeItemsHasNoNextCursor() {
+        CursorPage<String> page = pagination.page(ids(3), 3, id -> id);
+        assertEquals(3, page.getSize());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void offsetPagesVisitEveryRowOnceAcrossPageBoundaries() {
+        List<String> rows = ids(7);
+        List<String> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            int offset = pagination.offset(cursor);
+            List<String> fetched = rows.subList(Math.min(offset, rows.size()), Math.min(offset + 4, rows.size()));
+            CursorPage<String> page = pagination.offsetPage(fetched, 3, offset);
+            read.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(rows, read);
+    }
+
+    @Test
+    void tailCursorsWrapTheCursorOfTheSecondSource() {
+        String inner = KeysetPagination.encode(ids(1).get(0));
+        String tail = pagination.tail(inner);
+        assertTrue(pagination.isTail(tail));
+        assertEquals(inner, pagination.tailOf(tail));
+
+        assertTrue(pagination.isTail(pagination.tail(null)));
+        assertNull(pagination.tailOf(pagination.tail(null)));
+
+        // Un cursor por desplazamiento nunca se confunde con uno de la segunda fuente
+        String offset = pagination.offsetPage(List.of("a", "b"), 1, Integer.MAX_VALUE - 1).getNextCursor();
+        assertFalse(pagination.isTail(offset));
+        assertFalse(pagination.isTail(null));
+    }
+
+    @Test
+    void invalidCursorsAndSizesAreRejected() {
+        assertEquals(KeysetPagination.FIRST_ID, pagination.afterId(null));
+        assertThrows(ValidationException.class, () -> pagination.afterId("no es base64!"));
+        assertThrows(ValidationException.class,
+            () -> pagination.afterId(Base64.getUrlEncoder().encodeToString(new byte[5])));
+        assertThrows(ValidationException.class,
+            () -> pagination.offset(Base64.getUrlEncoder().encodeToString(new byte[] {-1, 0, 0, 0})));
+        assertThrows(ValidationException.class, () -> pagination.resolveSize(0));
+        assertEquals(50, pagination.resolveSize(null));
+        assertEquals(500, pagination.resolveSize(10_000));
+    }
+
+    /**
+     * Simula la consulta por clave: hasta {@code size + 1} ids mayores que el del cursor.
+     */
+    private List<String> after(List<String> ids, String cursor, int size) {
+        ObjectId afterId = pagination.afterId(cursor);
+        return ids.stream()
+            .filter(id -> new ObjectId(id).compareTo(afterId) > 0)
+            .limit(pagination.fetchLimit(size).max())
+            .toList();
+    }
+
+    private static List<String> ids(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(String.format("65f0c0ffee00000000%06d", i + 1));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,150 @@
+package com.surveys.surveys.partitioning;
+
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.indexing.IndexManager;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.pagination.KeysetPagination;
+import com.surveys.surveys.testsupport.InMemoryMongo;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.surveys.surveys.testsupport.InMemoryMongo.OTHER_SURVEY_ID;
+import static com.surveys.surveys.testsupport.InMemoryMongo.SURVEY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedResponseStoreTest {
+
+    @Mock
+    private IndexManager indexManager;
+
+    @RegisterExtension
+    final InMemoryMongo mongo = new InMemoryMongo();
+
+    private MongoTemplate mongoTemplate;
+    private PartitionedResponseStore store;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mongo.template();
+        // Como los índices reales, crear los de una partición crea la colección
+        doAnswer(invocation -> mongoTemplate.createCollection(invocation.<String>getArgument(0)))
+            .when(indexManager).ensureResponseIndexes(anyString());
+        ResponsePartitions partitions = new ResponsePartitions(mongoTemplate, indexManager, true, 0);
+        store = new PartitionedResponseStore(mongoTemplate, partitions, new KeysetPagination(50, 500));
+    }
+
+    @Test
+    void findMergesPartitionsInSubmissionOrder() {
+        List<Response> saved = seed();
+
+        assertEquals(ids(sorted(saved, SURVEY_ID)), ids(store.find(SURVEY_ID, null, null)));
+
+        // El rango es exclusivo en ambos extremos y solo consulta los meses que abarca
+        List<Response> inRange = store.find(SURVEY_ID,
+            Instant.parse("2026-01-20T00:00:00Z"), Instant.parse("2026-03-10T00:00:00Z"));
+        assertEquals(List.of("2026-01-25T00:00:00Z", "2026-02-14T00:00:00Z", "2026-03-01T00:00:00Z"),
+            inRange.stream().map(response -> response.getSubmittedAt().toString()).toList());
+
+        assertEquals(sorted(saved, null).size(), store.find(null, null, null).size());
+        assertEquals(6, store.count(SURVEY_ID));
+    }
+
+    @Test
+    void latestReadsBackwardsAcrossPartitions() {
+        List<Response> saved = seed();
+        List<Response> expected = sorted(saved, SURVEY_ID).reversed().subList(0, 3);
+        assertEquals(ids(expected), ids(store.latest(SURVEY_ID, 3)));
+    }
+
+    @Test
+    void pagesCrossPartitionBoundariesWithoutGapsOrRepeats() {
+        // La paginación recorre las particiones en orden, la original primero, y cada una por _id
+        List<String> expected = seed().stream()
+            .filter(response -> SURVEY_ID.equals(response.getSurveyId()))
+            .sorted(Comparator.comparing(PartitionedResponseStoreTest::partitionKey)
+                .thenComparing(response -> new ObjectId(response.getId())))
+            .map(Response::getId)
+            .toList();
+
+        for (int size = 1; size <= 7; size++) {
+            List<String> read = new ArrayList<>();
+            String cursor = null;
+            do {
+                CursorPage<Response> page = store.page(SURVEY_ID, cursor, size);
+                read.addAll(ids(page.getItems()));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+            assertEquals(expected, read, "tamaño de página " + size);
+        }
+    }
+
+    @Test
+    void savingWithANewDateMovesTheResponseToItsPartition() {
+        Response response = store.save(response(SURVEY_ID, "2026-01-10T00:00:00Z"));
+        response.setSubmittedAt(Instant.parse("2026-03-10T00:00:00Z"));
+        store.save(response);
+
+        assertEquals(0, mongoTemplate.count(new Query(), "responses_202601"));
+        assertEquals(Instant.parse("2026-03-10T00:00:00Z"),
+            store.findById(response.getId()).orElseThrow().getSubmittedAt());
+        assertNull(mongoTemplate.findById(response.getId(), Response.class, "responses_202601"));
+    }
+
+    /**
+     * Respuestas repartidas en la colección sin particionar y tres meses,
+     * guardadas fuera de orden y mezcladas con las de otra encuesta.
+     */
+    private List<Response> seed() {
+        List<Response> saved = new ArrayList<>();
+        // Respuesta anterior al particionado, todavía en la colección original
+        Response legacy = response(SURVEY_ID, "2025-12-31T00:00:00Z");
+        mongoTemplate.save(legacy, "responses");
+        saved.add(legacy);
+        for (String submittedAt : List.of("2026-03-01T00:00:00Z", "2026-01-25T00:00:00Z",
+                "2026-02-14T00:00:00Z", "2026-01-05T00:00:00Z", "2026-03-20T00:00:00Z")) {
+            saved.add(store.save(response(SURVEY_ID, submittedAt)));
+        }
+        saved.add(store.save(response(OTHER_SURVEY_ID, "2026-02-01T00:00:00Z")));
+        return saved;
+    }
+
+    private static Response response(String surveyId, String submittedAt) {
+        Response response = new Response();
+        response.setSurveyId(surveyId);
+        response.setSubmittedAt(Instant.parse(submittedAt));
+        return response;
+    }
+
+    private static List<Response> sorted(List<Response> responses, String surveyId) {
+        return responses.stream()
+            .filter(response -> surveyId == null || surveyId.equals(response.getSurveyId()))
+            .sorted(Comparator.comparing(Response::getSubmittedAt).thenComparing(Response::getId))
+            .toList();
+    }
+
+    private static int partitionKey(Response response) {
+        YearMonth month = ResponsePartitions.monthOf(response.getSubmittedAt());
+        return month.isBefore(YearMonth.of(2026, 1)) ? 0 : month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private static List<String> ids(List<Response> responses) {
+        return responses.stream().map(Response::getId).toList();
+    }
+}
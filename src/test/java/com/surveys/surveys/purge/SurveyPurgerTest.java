@@ -0,0 +1,176 @@
+package com.surveys.surveys.purge;
+
+import com.surveys.surveys.answers.ResponseDictionaries;
+import com.surveys.surveys.archive.ResponseArchive;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.partitioning.ResponsePartitions;
+import com.surveys.surveys.questionbank.QuestionBank;
+import com.surveys.surveys.testsupport.InMemoryMongo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.surveys.surveys.testsupport.InMemoryMongo.OTHER_SURVEY_ID;
+import static com.surveys.surveys.testsupport.InMemoryMongo.SURVEY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyPurgerTest {
+
+    @Mock
+    private ResponsePartitions partitions;
+
+    @Mock
+    private ResponseArchive archive;
+
+    @Mock
+    private ResponseDictionaries dictionaries;
+
+    @RegisterExtension
+    final InMemoryMongo mongo = new InMemoryMongo();
+
+    private MongoTemplate mongoTemplate;
+    private QuestionBank questionBank;
+    private SurveyPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mongo.template();
+        questionBank = new QuestionBank(mongoTemplate, 10, Duration.ofHours(1));
+        purger = new SurveyPurger(mongoTemplate, partitions, archive, dictionaries, questionBank, 2, 1_000_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        purger.stop();
+    }
+
+    @Test
+    void interruptedJobIsResumedOnStartAndCountsEveryDeletedResponse() throws Exception {
+        when(partitions.responseCollections()).thenReturn(List.of("responses"));
+        when(archive.delete(SURVEY_ID)).thenReturn(4L);
+        insertResponses(SURVEY_ID, 3);
+        insertResponses(OTHER_SURVEY_ID, 2);
+        mongoTemplate.getCollection("surveys").insertOne(new Document("_id", new ObjectId(SURVEY_ID)));
+
+        // El purgador detenido deja el trabajo en curso, como un apagado a mitad del borrado
+        purger.schedule(SURVEY_ID);
+        purger.purge(SURVEY_ID);
+        assertEquals(PurgeJob.Status.EN_CURSO, purger.getJob(SURVEY_ID).orElseThrow().getStatus());
+        verify(archive, never()).delete(SURVEY_ID);
+
+        // Progreso guardado por una ejecución anterior que ya había borrado dos respuestas
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(SURVEY_ID)),
+            new Update().set("deletedResponses", 2L), PurgeJob.class);
+
+        purger.start();
+        PurgeJob job = awaitCompletion(SURVEY_ID);
+
+        assertEquals(2 + 3 + 4, job.getDeletedResponses());
+        assertNotNull(job.getCompletedAt());
+        assertEquals(0, responses(SURVEY_ID));
+        assertEquals(2, responses(OTHER_SURVEY_ID));
+        assertFalse(mongoTemplate.getCollection("surveys").find(new Document("_id", new ObjectId(SURVEY_ID))).iterator().hasNext());
+        verify(dictionaries).delete(SURVEY_ID);
+    }
+
+    @Test
+    void completedJobsAreNotPurgedAgain() throws Exception {
+        when(partitions.responseCollections()).thenReturn(List.of("responses"));
+        purger.start();
+        purger.schedule(SURVEY_ID);
+        awaitCompletion(SURVEY_ID);
+
+        // Una respuesta que llega después no reabre un trabajo terminado al reanudar
+        insertResponses(SURVEY_ID, 1);
+        purger.purge(SURVEY_ID);
+        assertEquals(1, responses(SURVEY_ID));
+        assertTrue(purger.getJobs(PurgeJob.Status.COMPLETADO).stream()
+            .anyMatch(job -> job.getSurveyId().equals(SURVEY_ID)));
+    }
+
+    @Test
+    void questionSetIsDroppedAfterItsLastSurveyAndTheGracePeriod() throws Exception {
+        when(partitions.responseCollections()).thenReturn(List.of("responses"));
+        Question question = new Question("¿Recomendaría el servicio?", "text", true);
+        question.setId("q1");
+        String setId = questionBank.store(List.of(question));
+        for (String surveyId : List.of(SURVEY_ID, OTHER_SURVEY_ID)) {
+            mongoTemplate.getCollection("surveys").insertOne(new Document("_id", new ObjectId(surveyId))
+                .append("questionSetId", setId));
+        }
+        purger.start();
+
+        // Como deleteSurvey: el trabajo se registra antes de borrar la encuesta
+        delete(SURVEY_ID);
+        awaitCompletion(SURVEY_ID);
+        assertFalse(questionSet(setId).containsKey("releasedAt"));
+
+        delete(OTHER_SURVEY_ID);
+        awaitCompletion(OTHER_SURVEY_ID);
+        assertTrue(questionSet(setId).containsKey("releasedAt"));
+        assertEquals(0, questionBank.collectReleased());
+
+        // Pasado el plazo desde que se liberó y se guardó, la siguiente recolección lo elimina
+        Date past = Date.from(Instant.now().minus(Duration.ofHours(2)));
+        mongoTemplate.getCollection("question_sets").updateOne(new Document("_id", setId),
+            new Document("$set", new Document("releasedAt", past).append("storedAt", past)));
+        assertEquals(1, questionBank.collectReleased());
+        assertTrue(questionBank.find(setId).isEmpty());
+        // Las preguntas del banco se conservan
+        assertEquals(1, mongoTemplate.getCollection("question_bank").countDocuments());
+    }
+
+    private void delete(String surveyId) {
+        purger.schedule(surveyId);
+        mongoTemplate.getCollection("surveys").deleteOne(new Document("_id", new ObjectId(surveyId)));
+    }
+
+    private Document questionSet(String setId) {
+        return mongoTemplate.getCollection("question_sets").find(new Document("_id", setId)).first();
+    }
+
+    private PurgeJob awaitCompletion(String surveyId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            PurgeJob job = purger.getJob(surveyId).orElseThrow();
+            if (job.getStatus() == PurgeJob.Status.COMPLETADO) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("El borrado de " + surveyId + " no terminó");
+    }
+
+    private void insertResponses(String surveyId, int count) {
+        for (int i = 0; i < count; i++) {
+            mongoTemplate.getCollection("responses").insertOne(new Document("surveyId", surveyId));
+        }
+    }
+
+    private long responses(String surveyId) {
+        return mongoTemplate.count(new Query(Criteria.where("surveyId").is(surveyId)), "responses");
+    }
+}
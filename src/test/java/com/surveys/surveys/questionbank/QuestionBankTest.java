@@ -0,0 +1,99 @@
+package com.surveys.surveys.questionbank;
+
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.testsupport.InMemoryMongo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuestionBankTest {
+
+    @RegisterExtension
+    final InMemoryMongo mongo = new InMemoryMongo();
+
+    private QuestionBank questionBank;
+
+    @BeforeEach
+    void setUp() {
+        questionBank = new QuestionBank(mongo.template(), 10, Duration.ofHours(1));
+    }
+
+    @Test
+    void hydrateFillsQuestionsInOrderWithoutTouchingModifiedAt() {
+        String setId = questionBank.store(questions());
+        Instant modifiedAt = Instant.parse("2026-01-01T00:00:00Z");
+        Survey survey = survey(setId);
+        survey.setModifiedAt(modifiedAt);
+
+        questionBank.hydrate(survey);
+
+        assertEquals(List.of("q1", "q2"), survey.getQuestions().stream().map(Question::getId).toList());
+        assertEquals(List.of(1, 2), survey.getQuestions().stream().map(Question::getOrder).toList());
+        assertEquals(List.of("Sí", "No"), survey.getQuestions().get(0).getOptions());
+        assertEquals(Map.of("min", 1, "max", 5), survey.getQuestions().get(1).getOptions());
+        assertEquals(modifiedAt, survey.getModifiedAt());
+    }
+
+    @Test
+    void surveysSharingASetShareReadOnlyQuestions() {
+        String setId = questionBank.store(questions());
+        // Las preguntas idénticas producen el mismo conjunto
+        assertEquals(setId, questionBank.store(questions()));
+
+        Survey first = questionBank.hydrate(survey(setId));
+        Survey second = questionBank.hydrate(survey(setId));
+        assertSame(first.getQuestions(), second.getQuestions());
+        assertSame(first.getQuestions().get(0),
+            questionBank.find(setId).flatMap(set -> set.find("q1")).orElseThrow());
+
+        // Ni la lista, ni las preguntas, ni sus opciones admiten cambios
+        Question shared = first.getQuestions().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> shared.setText("Editada"));
+        assertThrows(UnsupportedOperationException.class, () -> first.getQuestions().remove(1));
+        @SuppressWarnings("unchecked")
+        List<Object> options = (List<Object>) shared.getOptions();
+        assertThrows(UnsupportedOperationException.class, () -> options.add("Tal vez"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> scale = (Map<String, Object>) first.getQuestions().get(1).getOptions();
+        assertThrows(UnsupportedOperationException.class, () -> scale.put("max", 10));
+
+        assertEquals("¿Recomendaría el servicio?", second.getQuestions().get(0).getText());
+        assertEquals(List.of("Sí", "No"), second.getQuestions().get(0).getOptions());
+    }
+
+    @Test
+    void unknownSetHydratesToNoQuestions() {
+        Survey survey = questionBank.hydrate(survey("inexistente"));
+        assertTrue(survey.getQuestions().isEmpty());
+    }
+
+    private static Survey survey(String setId) {
+        Survey survey = new Survey();
+        survey.setQuestionSetId(setId);
+        return survey;
+    }
+
+    private static List<Question> questions() {
+        Question choice = new Question("¿Recomendaría el servicio?", "multiple_choice", true);
+        choice.setId("q1");
+        choice.setOrder(1);
+        choice.setOptions(new ArrayList<>(List.of("Sí", "No")));
+        Question scale = new Question("Califique la atención", "scale", false);
+        scale.setId("q2");
+        scale.setOrder(2);
+        scale.setOptions(Map.of("min", 1, "max", 5));
+        return List.of(choice, scale);
+    }
+}
@@ -0,0 +1,170 @@
+package com.surveys.surveys.servicesimpl;
+
+import com.surveys.surveys.answers.AnswerSchemas;
+import com.surveys.surveys.archive.ResponseArchive;
+import com.surveys.surveys.dto.CursorPage;
+import com.surveys.surveys.metrics.SurveyMetrics;
+import com.surveys.surveys.model.Response;
+import com.surveys.surveys.pagination.KeysetPagination;
+import com.surveys.surveys.partitioning.PartitionedResponseStore;
+import com.surveys.surveys.partitioning.ResponsePartitions;
+import com.surveys.surveys.repository.ResponseRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseServiceImplTest {
+
+    private static final String SURVEY_ID = "65f0c0ffee0000000000a001";
+
+    @Mock
+    private ResponseRepository responseRepository;
+
+    @Mock
+    private ResponsePartitions partitions;
+
+    @Mock
+    private PartitionedResponseStore partitionedResponses;
+
+    @Mock
+    private ResponseArchive archive;
+
+    @Mock
+    private SurveyMetrics metrics;
+
+    @Mock
+    private AnswerSchemas answerSchemas;
+
+    @Spy
+    private KeysetPagination pagination = new KeysetPagination(50, 500);
+
+    @InjectMocks
+    private ResponseServiceImpl responseService;
+
+    @Test
+    void archivedSurveyPagesReadArchiveThenMongoWithoutDuplicates() {
+        List<Response> responses = responses(7);
+        // La tercera respuesta quedó en MongoDB porque el archivador se interrumpió antes de borrarla
+        List<Response> archived = responses.subList(0, 3);
+        List<Response> mongo = responses.subList(2, 7);
+        stub(archived, mongo);
+
+        for (int size = 1; size <= 8; size++) {
+            assertEquals(ids(responses), ids(readAll(size)), "tamaño de página " + size);
+        }
+        verify(responseRepository, never()).findBySurveyId(any());
+    }
+
+    @Test
+    void archivedSurveyPagesEndWhenMongoOnlyHasArchivedResponses() {
+        List<Response> responses = responses(4);
+        stub(responses, responses.subList(2, 4));
+
+        CursorPage<Response> first = responseService.getResponsesBySurvey(SURVEY_ID, null, 2);
+        assertEquals(ids(responses.subList(0, 2)), ids(first.getItems()));
+        CursorPage<Response> second = responseService.getResponsesBySurvey(SURVEY_ID, first.getNextCursor(), 2);
+        assertEquals(ids(responses.subList(2, 4)), ids(second.getItems()));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void countIncludesResponsesStillInMongoAfterArchivingOnlyOnce() {
+        List<Response> responses = responses(7);
+        // La tercera y la cuarta ya están en el archivo, pero el archivador aún no las borró
+        Instant lastArchivedAt = responses.get(3).getSubmittedAt();
+        when(responseRepository.countBySurveyId(SURVEY_ID)).thenReturn(5L);
+        when(archive.lastArchivedAt(SURVEY_ID)).thenReturn(Optional.of(lastArchivedAt));
+        when(archive.count(SURVEY_ID)).thenReturn(4L);
+        when(responseRepository.findKeysBySurveyIdSubmittedUntil(SURVEY_ID, lastArchivedAt))
+            .thenReturn(responses.subList(2, 4));
+        when(archive.archivedIds(SURVEY_ID, responses.subList(2, 4))).thenReturn(Set.copyOf(ids(responses.subList(2, 4))));
+
+        assertEquals(7, responseService.getResponseCount(SURVEY_ID));
+    }
+
+    @Test
+    void countOfUnarchivedSurveyOnlyQueriesMongo() {
+        when(responseRepository.countBySurveyId(SURVEY_ID)).thenReturn(5L);
+        when(archive.lastArchivedAt(SURVEY_ID)).thenReturn(Optional.empty());
+
+        assertEquals(5, responseService.getResponseCount(SURVEY_ID));
+        verify(responseRepository, never()).findKeysBySurveyIdSubmittedUntil(any(), any());
+        verify(archive, never()).archivedIds(any(), any());
+    }
+
+    private void stub(List<Response> archived, List<Response> mongo) {
+        when(archive.isArchived(SURVEY_ID)).thenReturn(true);
+        when(archive.read(eq(SURVEY_ID), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return archived.stream().skip(offset).limit(limit).toList();
+        });
+        Set<String> archivedIds = new HashSet<>(ids(archived));
+        when(archive.archivedIds(eq(SURVEY_ID), any())).thenAnswer(invocation -> {
+            List<Response> candidates = invocation.getArgument(1);
+            Set<String> found = new HashSet<>(ids(candidates));
+            found.retainAll(archivedIds);
+            return found;
+        });
+        when(responseRepository.findBySurveyIdAndIdGreaterThanOrderByIdAsc(eq(SURVEY_ID), any(), any()))
+            .thenAnswer(invocation -> {
+                ObjectId afterId = invocation.getArgument(1);
+                Limit limit = invocation.getArgument(2);
+                return mongo.stream()
+                    .filter(response -> new ObjectId(response.getId()).compareTo(afterId) > 0)
+                    .limit(limit.max())
+                    .toList();
+            });
+    }
+
+    private List<Response> readAll(int size) {
+        List<Response> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Response> page = responseService.getResponsesBySurvey(SURVEY_ID, cursor, size);
+            read.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return read;
+    }
+
+    private static List<Response> responses(int count) {
+        List<Response> responses = new ArrayList<>();
+        Instant submittedAt = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < count; i++) {
+            Response response = new Response();
+            response.setId(String.format("65f0c0ffee00000000%06d", i + 1));
+            response.setSurveyId(SURVEY_ID);
+            response.setSubmittedAt(submittedAt.plusSeconds(i));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private static List<String> ids(List<Response> responses) {
+        return responses.stream().map(Response::getId).toList();
+    }
+}
@@ -0,0 +1,264 @@
+package com.surveys.surveys.servicesimpl;
+
+import com.mongodb.client.result.UpdateResult;
+import com.surveys.surveys.cache.SurveyCache;
+import com.surveys.surveys.enums.SurveyStatus;
+import com.surveys.surveys.exception.SurveyConflictException;
+import com.surveys.surveys.model.Branding;
+import com.surveys.surveys.model.Question;
+import com.surveys.surveys.model.Survey;
+import com.surveys.surveys.questionbank.QuestionBank;
+import com.surveys.surveys.repository.SurveyRepository;
+import com.surveys.surveys.scheduling.SurveyLifecycleScheduler;
+import com.surveys.surveys.testsupport.InMemoryMongo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.surveys.surveys.testsupport.InMemoryMongo.SURVEY_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SurveyServicesImplTest {
+
+    private static final int CALLERS = 32;
+
+    @Mock
+    private SurveyRepository surveyRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private SurveyLifecycleScheduler lifecycleScheduler;
+
+    // Caché deshabilitada para que la prueba ejercite solo la agrupación de cargas
+    @Spy
+    private SurveyCache surveyCache = new SurveyCache(false, 0, Duration.ZERO);
+
+    // Las encuestas de la prueba no referencian conjuntos, así que no se consulta la base de datos
+    @Spy
+    private QuestionBank questionBank = new QuestionBank(null, 0, Duration.ZERO);
+
+    @InjectMocks
+    private SurveyServicesImpl surveyService;
+
+    @RegisterExtension
+    final InMemoryMongo mongo = new InMemoryMongo();
+
+    @Test
+    void concurrentLoadsOfSameSurveyShareOneRepositoryCall() throws Exception {
+        Survey survey = new Survey();
+        survey.setId("survey-1");
+        survey.setStatus(SurveyStatus.PUBLICADA);
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(surveyRepository.findById("survey-1")).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(survey);
+        });
+
+        List<Thread> callers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+            Thread thread = new Thread(runnable);
+            callers.add(thread);
+            return thread;
+        });
+        try {
+            List<Future<Optional<Survey>>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> surveyService.getSurveyById("survey-1")));
+            }
+
+            // Liberar la consulta solo cuando todos los hilos están esperando su resultado
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!allWaiting(callers) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertTrue(allWaiting(callers), "Todos los hilos deben esperar la misma carga");
+            release.countDown();
+
+            for (Future<Optional<Survey>> result : results) {
+                assertSame(survey, result.get(10, TimeUnit.SECONDS).orElseThrow());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(surveyRepository, times(1)).findById("survey-1");
+    }
+
+    @Test
+    void updateWithStaleRevisionIsRejectedWithConflict() {
+        // La revisión no coincide, así que findAndModify no encuentra documento aunque la encuesta existe
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findAndModify(query.capture(), any(UpdateDefinition.class),
+            any(FindAndModifyOptions.class), eq(Survey.class))).thenReturn(null);
+        when(mongoTemplate.exists(any(Query.class), eq(Survey.class))).thenReturn(true);
+
+        SurveyConflictException conflict = assertThrows(SurveyConflictException.class,
+            () -> surveyService.updateBranding("survey-1", new Branding(), 3L));
+
+        assertTrue(conflict.getMessage().contains("revision 3"));
+        assertEquals(3L, query.getValue().getQueryObject().get("revision"));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateOfMissingSurveyWithExpectedRevisionIsNotAConflict() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class),
+            any(FindAndModifyOptions.class), eq(Survey.class))).thenReturn(null);
+        when(mongoTemplate.exists(any(Query.class), eq(Survey.class))).thenReturn(false);
+
+        assertTrue(surveyService.updateBranding("survey-1", new Branding(), 3L).isEmpty());
+    }
+
+    @Test
+    void updateWithoutExpectedRevisionDoesNotCheckForConflicts() {
+        Survey updated = new Survey();
+        updated.setId("survey-1");
+        updated.setRevision(4L);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findAndModify(query.capture(), any(UpdateDefinition.class),
+            any(FindAndModifyOptions.class), eq(Survey.class))).thenReturn(updated);
+
+        assertSame(updated, surveyService.updateBranding("survey-1", new Branding()).orElseThrow());
+        assertFalse(query.getValue().getQueryObject().containsKey("revision"));
+        verify(mongoTemplate, never()).exists(any(Query.class), eq(Survey.class));
+    }
+
+    @Test
+    void surveyIdsThatAreNotObjectIdsAreRejected() {
+        Survey survey = new Survey();
+        survey.setId("mi-encuesta");
+
+        // Un ID de texto nunca aparecería en los listados paginados por _id
+        assertThrows(IllegalArgumentException.class, () -> surveyService.saveSurvey(survey));
+        verify(surveyRepository, never()).save(any());
+    }
+
+    @Test
+    void questionEditIsNotLostWhenACopyResharesTheQuestions() {
+        SurveyServicesImpl service = questionEditService(false);
+
+        Survey updated = service.removeQuestion(SURVEY_ID, "q2", 0L).orElseThrow();
+
+        assertEquals(List.of("q1"), updated.getQuestions().stream().map(Question::getId).toList());
+        Document stored = mongo.template().getCollection("surveys").find().first();
+        assertFalse(stored.containsKey("questionSetId"));
+        assertEquals(1, stored.getList("questions", Document.class).size());
+        // Una revisión por la copia en escritura y otra por el cambio
+        assertEquals(2L, ((Number) stored.get("revision")).longValue());
+    }
+
+    @Test
+    void questionEditGivesUpWhenCopiesKeepResharingTheQuestions() {
+        SurveyServicesImpl service = questionEditService(true);
+
+        assertThrows(SurveyConflictException.class, () -> service.removeQuestion(SURVEY_ID, "q2"));
+
+        QuestionBank bank = new QuestionBank(mongo.template(), 10, Duration.ofHours(1));
+        Survey stored = bank.hydrate(mongo.template().findById(SURVEY_ID, Survey.class));
+        assertEquals(List.of("q1", "q2"), stored.getQuestions().stream().map(Question::getId).toList());
+    }
+
+    @Test
+    void editOfMissingQuestionLeavesSharedQuestionsUntouched() {
+        SurveyServicesImpl service = questionEditService(false);
+        Document before = mongo.template().getCollection("surveys").find().first();
+
+        assertTrue(service.updateQuestion(SURVEY_ID, "q9", new Question("Otra", "text", false), 0L).isEmpty());
+        assertTrue(service.removeQuestion(SURVEY_ID, "q9", 0L).isEmpty());
+
+        // Sin copia en escritura: sigue compartiendo el conjunto y con la misma revisión
+        assertEquals(before, mongo.template().getCollection("surveys").find().first());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * Servicio sobre MongoDB en memoria con una encuesta que referencia un conjunto
+     * compartido. Tras cada copia en escritura una duplicación concurrente, que leyó
+     * la encuesta antes, intenta volver a compartir las preguntas; con {@code ignoreRevision}
+     * lo logra siempre.
+     */
+    private SurveyServicesImpl questionEditService(boolean ignoreRevision) {
+        MongoTemplate template = mongo.template();
+        QuestionBank bank = new QuestionBank(template, 10, Duration.ofHours(1));
+        Question first = new Question("¿Recomendaría el servicio?", "text", true);
+        first.setId("q1");
+        first.setOrder(1);
+        Question second = new Question("Comentarios", "text", false);
+        second.setId("q2");
+        second.setOrder(2);
+        String setId = bank.store(List.of(first, second));
+        template.getCollection("surveys").insertOne(new Document("_id", new ObjectId(SURVEY_ID))
+            .append("questionSetId", setId)
+            .append("revision", 0L));
+
+        MongoTemplate spied = spy(template);
+        // Leniente: si el cambio no procede no hay copia en escritura
+        lenient().doAnswer(invocation -> {
+            UpdateResult result = (UpdateResult) invocation.callRealMethod();
+            Query reshare = new Query(Criteria.where("_id").is(SURVEY_ID).and("questionSetId").exists(false));
+            if (!ignoreRevision) {
+                reshare.addCriteria(Criteria.where("revision").is(0L));
+            }
+            template.updateFirst(reshare, new Update().set("questionSetId", setId).unset("questions"), Survey.class);
+            return result;
+        }).when(spied).updateFirst(any(Query.class), any(UpdateDefinition.class), eq(Survey.class));
+
+        SurveyServicesImpl service = new SurveyServicesImpl();
+        ReflectionTestUtils.setField(service, "mongoTemplate", spied);
+        ReflectionTestUtils.setField(service, "questionBank", bank);
+        ReflectionTestUtils.setField(service, "eventPublisher", eventPublisher);
+        return service;
+    }
+
+    private static boolean allWaiting(List<Thread> threads) {
+        synchronized (threads) {
+            return threads.size() == CALLERS
+                && threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING
+                    || thread.getState() == Thread.State.TIMED_WAITING);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.surveys.surveys.testsupport;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Extensión de JUnit que levanta un servidor MongoDB en memoria para cada prueba.
+ *
+ * <p>Se registra como campo de instancia con {@code @RegisterExtension}; el
+ * servidor está listo antes de los métodos {@code @BeforeEach} de la prueba y
+ * se detiene después de sus métodos {@code @AfterEach}.
+ *
+ * @author Juan David Valencia
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class InMemoryMongo implements BeforeEachCallback, AfterEachCallback {
+
+    /** Encuesta con un ObjectId válido, como los que asigna la aplicación. */
+    public static final String SURVEY_ID = "65f0c0ffee0000000000a001";
+    public static final String OTHER_SURVEY_ID = "65f0c0ffee0000000000a002";
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create(server.bindAndGetConnectionString());
+        mongoTemplate = new MongoTemplate(client, "surveys");
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        client.close();
+        server.shutdownNow();
+    }
+
+    public MongoTemplate template() {
+        return mongoTemplate;
+    }
+}